@@ -0,0 +1,65 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.actors.Actor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the parts of a turn whose cost grows with the number of actors.
+ * The map is sized to give every actor about four tiles, so crowding stays the
+ * same as the actor count grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ActorBenchmark {
+
+	/** Number of animals besides the player. */
+	@Param({"4", "1000", "10000", "50000"})
+	public int actorCount;
+
+	private BenchmarkWorld world;
+
+	@Setup
+	public void setUp() throws GameEngineException {
+		int side = BenchmarkWorld.sideFor(actorCount);
+		world = new BenchmarkWorld(side, side, actorCount);
+	}
+
+	@Benchmark
+	public int iterateActors() {
+		int count = 0;
+		for (Actor actor : world.actorLocations()) {
+			count++;
+		}
+		return count;
+	}
+
+	@Benchmark
+	public void prepareAllowableActions(Blackhole blackhole) {
+		for (Actor actor : world.actorLocations()) {
+			blackhole.consume(world.prepare(actor));
+		}
+	}
+
+	@Benchmark
+	public void gameMapTick() throws GameEngineException {
+		world.map().tick();
+	}
+}
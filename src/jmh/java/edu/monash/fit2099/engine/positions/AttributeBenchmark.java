@@ -0,0 +1,73 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actions.DoNothingAction;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.Display;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Actor attribute calls made in every fight: taking damage, checking
+ * whether the target is still standing, and naming it in the message.
+ * Hit points are kept above 127, outside the Integer cache, as they are for
+ * most of the game's actors.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AttributeBenchmark {
+
+	private Actor actor;
+
+	@Setup
+	public void setUp() {
+		actor = new Dummy();
+	}
+
+	@Benchmark
+	public boolean hurtAndCheck() {
+		actor.hurt(7);
+		boolean conscious = actor.isConscious();
+		actor.heal(7);
+		return conscious;
+	}
+
+	@Benchmark
+	public boolean isConscious() {
+		return actor.isConscious();
+	}
+
+	@Benchmark
+	public String describe() {
+		return actor.toString();
+	}
+
+	/**
+	 * An Actor that only has hit points.
+	 */
+	private static class Dummy extends Actor {
+		Dummy() {
+			super("Dummy", 'd', 500);
+		}
+
+		@Override
+		public Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display) {
+			return new DoNothingAction();
+		}
+	}
+}
@@ -0,0 +1,143 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.ActorLocationsIterator;
+import edu.monash.fit2099.engine.displays.NullDisplay;
+import game.actors.Player;
+import game.actors.animals.Animal;
+import game.actors.animals.Deer;
+import game.grounds.Snow;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A World used as a fixture by the benchmarks.
+ * It lives in the engine's package so that benchmarks can reach the protected
+ * parts of the turn pipeline without widening the engine's public API.
+ */
+public class BenchmarkWorld extends World {
+
+	/** Ground character used for every tile; a plain Snow field like the Forest map. */
+	public static final char SNOW = '.';
+
+	private final GameMap map;
+
+	/**
+	 * Build a snow map of the given size with a Player in the top left corner
+	 * and the given number of Deer spread evenly over the rest of the map.
+	 *
+	 * @param width width of the map
+	 * @param height height of the map
+	 * @param animals number of Deer to place; must be less than width * height
+	 */
+	public BenchmarkWorld(int width, int height, int animals) throws GameEngineException {
+		this(width, height, animals, new Player());
+	}
+
+	/**
+	 * Build a snow map of the given size with the given player in the top left
+	 * corner and the given number of Deer spread evenly over the rest of the map.
+	 *
+	 * @param width width of the map
+	 * @param height height of the map
+	 * @param animals number of Deer to place; must be less than width * height
+	 * @param player the Actor to use as the player
+	 */
+	public BenchmarkWorld(int width, int height, int animals, Actor player) throws GameEngineException {
+		super(new NullDisplay());
+		if (animals >= width * height) {
+			throw new IllegalArgumentException(animals + " animals do not fit on a " + width + "x" + height + " map");
+		}
+		map = new GameMap("Bench", groundCreator(), blankMap(width, height));
+		addGameMap(map);
+		addPlayer(player, map.at(0, 0));
+
+		int tiles = width * height;
+		for (int i = 1; i <= animals; i++) {
+			long tile = (long) i * (tiles - 1) / animals;
+			map.addActor(new Deer(), map.at((int) (tile % width), (int) (tile / width)));
+		}
+	}
+
+	/**
+	 * Parse a map size written as WIDTHxHEIGHT, e.g. 40x10.
+	 *
+	 * @param size the size to parse
+	 * @return {width, height}
+	 */
+	public static int[] parseSize(String size) {
+		String[] parts = size.split("x");
+		return new int[] {Integer.parseInt(parts[0]), Integer.parseInt(parts[1])};
+	}
+
+	/**
+	 * The smallest square map that gives each actor roughly four tiles of room.
+	 *
+	 * @param actors the number of actors
+	 * @return the side length of the map
+	 */
+	public static int sideFor(int actors) {
+		return Math.max(2, (int) Math.ceil(Math.sqrt(4.0 * (actors + 1))));
+	}
+
+	/**
+	 * A GroundCreator that only knows about Snow.
+	 *
+	 * @return the ground creator
+	 */
+	public static GroundCreator groundCreator() throws GameEngineException {
+		DefaultGroundCreator groundCreator = new DefaultGroundCreator();
+		groundCreator.registerGround(SNOW, Snow::new);
+		return groundCreator;
+	}
+
+	/**
+	 * Rows of an all-snow map, in the format accepted by GameMap.
+	 *
+	 * @param width width of the map
+	 * @param height height of the map
+	 * @return the rows
+	 */
+	public static List<String> blankMap(int width, int height) {
+		String row = String.valueOf(SNOW).repeat(width);
+		return new ArrayList<>(Collections.nCopies(height, row));
+	}
+
+	public GameMap map() {
+		return map;
+	}
+
+	public ActorLocationsIterator actorLocations() {
+		return actorLocations;
+	}
+
+	/**
+	 * Play one whole turn: tick the map, draw it and give every actor its turn.
+	 */
+	public void playTurn() throws GameEngineException {
+		initLastActions();
+		gameLoop();
+	}
+
+	/**
+	 * Animals only change themselves while deciding, as in the Earth scenario.
+	 */
+	@Override
+	protected boolean decidesInParallel(Actor actor) {
+		return actor instanceof Animal;
+	}
+
+	/**
+	 * Run the engine's action preparation for one actor, exactly as a turn would.
+	 *
+	 * @param actor the actor whose turn it is
+	 * @return the actions that actor may take
+	 */
+	public ActionList prepare(Actor actor) {
+		return prepareAllowableActions(actor, actorLocations.locationOf(actor));
+	}
+}
@@ -0,0 +1,33 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.displays.NullDisplay;
+import edu.monash.fit2099.engine.displays.Printable;
+
+/**
+ * A Display that folds every character it is given into a checksum but prints nothing.
+ * Unlike {@link NullDisplay} this still pays for Location.getDisplayChar, so a
+ * draw benchmark measures the map lookups instead of the terminal.
+ */
+public class ChecksumDisplay extends NullDisplay {
+
+	private int checksum;
+
+	@Override
+	public void print(Printable printable) {
+		checksum = 31 * checksum + printable.getDisplayChar();
+	}
+
+	@Override
+	public void printFrame(char[] frame, int width, int height) {
+		for (char c : frame) {
+			checksum = 31 * checksum + c;
+		}
+	}
+
+	/**
+	 * @return a value that depends on every character drawn so far
+	 */
+	public int checksum() {
+		return checksum;
+	}
+}
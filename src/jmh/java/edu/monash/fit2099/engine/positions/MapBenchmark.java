@@ -0,0 +1,83 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import game.weather.WeatherController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the parts of a turn whose cost grows with map area.
+ * The map holds the same five actors as the Forest scenario at every size,
+ * so only the number of tiles changes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapBenchmark {
+
+	/** From the 40x10 Forest map up to a 2000x2000 world. */
+	@Param({"40x10", "250x250", "2000x2000"})
+	public String mapSize;
+
+	private BenchmarkWorld world;
+	private List<String> lines;
+	private GroundCreator groundCreator;
+	private WeatherController weatherController;
+	private ChecksumDisplay display;
+
+	@Setup
+	public void setUp() throws GameEngineException {
+		int[] size = BenchmarkWorld.parseSize(mapSize);
+		world = new BenchmarkWorld(size[0], size[1], 4);
+		lines = BenchmarkWorld.blankMap(size[0], size[1]);
+		groundCreator = BenchmarkWorld.groundCreator();
+		weatherController = new WeatherController();
+		display = new ChecksumDisplay();
+	}
+
+	@Benchmark
+	public GameMap constructFromStrings() throws GameEngineException {
+		return new GameMap("Bench", groundCreator, lines);
+	}
+
+	@Benchmark
+	public void gameMapTick() throws GameEngineException {
+		world.map().tick();
+	}
+
+	@Benchmark
+	public void locationTickSweep() throws GameEngineException {
+		GameMap map = world.map();
+		for (int y : map.getYRange()) {
+			for (int x : map.getXRange()) {
+				map.at(x, y).tick();
+			}
+		}
+	}
+
+	@Benchmark
+	public void weatherControllerTick() {
+		weatherController.tick(world.map());
+	}
+
+	@Benchmark
+	public int draw() {
+		world.map().draw(display);
+		return display.checksum();
+	}
+}
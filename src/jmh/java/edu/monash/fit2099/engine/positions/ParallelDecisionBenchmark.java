@@ -0,0 +1,91 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actions.DoNothingAction;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.Display;
+import game.actors.animals.Animal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of a whole turn with many wandering animals, deciding their turns
+ * on 1 to N threads. A thread count of 0 gives every actor its whole turn in
+ * order, without a decision pool.
+ * Compare the rows against the number of cores on the machine running it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelDecisionBenchmark {
+
+	/** Number of animals besides the player. */
+	@Param({"1000", "10000"})
+	public int actorCount;
+
+	@Param({"0", "1", "2", "4", "8"})
+	public int threads;
+
+	private BenchmarkWorld world;
+	private ForkJoinPool pool;
+
+	@Setup
+	public void setUp() throws GameEngineException {
+		int side = BenchmarkWorld.sideFor(actorCount);
+		world = new BenchmarkWorld(side, side, actorCount, new Idler());
+		// Keep the herd alive for the whole run
+		for (Actor actor : world.actorLocations()) {
+			if (actor instanceof Animal) {
+				((Animal) actor).setColdResistant(true);
+			}
+		}
+		if (threads > 0) {
+			pool = new ForkJoinPool(threads);
+			world.setDecisionPool(pool);
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		if (pool != null) {
+			pool.shutdown();
+		}
+	}
+
+	@Benchmark
+	public void playTurn() throws GameEngineException {
+		world.playTurn();
+	}
+
+	/**
+	 * A player that never needs input and never dies.
+	 */
+	private static class Idler extends Actor {
+		Idler() {
+			super("Idler", '@', 100);
+		}
+
+		@Override
+		public Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display) {
+			return new DoNothingAction();
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How GameMap.tick scales with the number of threads on a map where every
+ * tile has something to do.
+ * A thread count of 0 ticks on the calling thread, without stripes.
+ * Compare the rows against the number of cores on the machine running it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelTickBenchmark {
+
+	@Param({"500x500", "2000x2000"})
+	public String mapSize;
+
+	@Param({"0", "1", "2", "4", "8"})
+	public int threads;
+
+	private BenchmarkWorld world;
+	private ForkJoinPool pool;
+
+	@Setup
+	public void setUp() throws GameEngineException {
+		int[] size = BenchmarkWorld.parseSize(mapSize);
+		world = new BenchmarkWorld(size[0], size[1], 4);
+		GameMap map = world.map();
+		for (int y = 0; y < size[1]; y++) {
+			for (int x = 0; x < size[0]; x++) {
+				map.at(x, y).setGround(new Ember());
+			}
+		}
+		if (threads > 0) {
+			pool = new ForkJoinPool(threads);
+			map.setTickPool(pool);
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		if (pool != null) {
+			pool.shutdown();
+		}
+	}
+
+	@Benchmark
+	public void gameMapTick() throws GameEngineException {
+		world.map().tick();
+	}
+
+	/**
+	 * A Ground that looks at its neighbours every turn and now and then
+	 * rekindles the tile below it, which may be in another stripe.
+	 */
+	private static class Ember extends Ground {
+		private int heat;
+
+		Ember() {
+			super('*', "Ember");
+		}
+
+		@Override
+		public void tick(Location location) {
+			for (Exit exit : location.getExits()) {
+				heat += exit.getDestination().getDisplayChar();
+			}
+			if (heat % 16 == 0) {
+				GameMap map = location.map();
+				int below = location.y() + 1;
+				if (below < map.getYRange().size()) {
+					map.at(location.x(), below).setGround(new Ember());
+				}
+			}
+		}
+	}
+}
@@ -10,7 +10,8 @@ import edu.monash.fit2099.engine.actors.Behaviour;
 
 /**
  * A class that figures out a MoveAction that will move the actor one step 
- * closer to a target Actor.
+ * closer to a target Actor, around obstacles where the map's
+ * {@link edu.monash.fit2099.engine.positions.DistanceField} reaches.
  * @see edu.monash.fit2099.demo.mars.Application
  *
  * Created by:
@@ -35,7 +36,11 @@ public class FollowBehaviour implements Behaviour {
 	public Action generateAction(Actor actor, GameMap map) {
 		if(!map.contains(target) || !map.contains(actor))
 			return null;
-		
+
+		Exit step = map.distanceFieldTo(target).nextStep(actor);
+		if (step != null)
+			return new MoveActorAction(step.getDestination(), step.getName());
+
 		Location here = map.locationOf(actor);
 		Location there = map.locationOf(target);
 
@@ -1,11 +1,11 @@
 package edu.monash.fit2099.engine;
 
+import edu.monash.fit2099.engine.capabilities.AbilityListener;
 import edu.monash.fit2099.engine.capabilities.Status;
 import edu.monash.fit2099.engine.positions.Location;
 
 import java.lang.reflect.Modifier;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Base class for all objects that can exist in the game.
@@ -21,19 +21,67 @@ import java.util.stream.Collectors;
 public abstract class GameEntity {
 
     /**
-     * List of all current status effects attached to this entity.
+     * What is known about each class asked for as a capability. Worked out once
+     * per class, and once per pair of capability and entity class.
      */
-    private final List<Status> statuses = new ArrayList<>();
+    private static final ClassValue<CapabilityCheck> CAPABILITY_CHECKS = new ClassValue<>() {
+        @Override
+        protected CapabilityCheck computeValue(Class<?> capability) {
+            return new CapabilityCheck(capability);
+        }
+    };
+
+    /**
+     * List of all current status effects attached to this entity, in the order
+     * they were added, or null until the first one is added.
+     */
+    private List<Status> statuses;
+
+    /**
+     * Read-only view of {@link #statuses}, made once along with it.
+     */
+    private List<Status> statusesView;
+
+    /**
+     * The same statuses, grouped by concrete class. Each group is an immutable
+     * list, in the order the statuses were added, that is replaced whenever the
+     * group changes, so it can be handed out as it is.
+     */
+    private Map<Class<?>, List<Status>> statusesByClass;
 
     private final Set<Enum<?>> abilitySet = new HashSet<>();
 
+    /**
+     * Told whenever {@link #abilitySet} changes, or null until the first one is added.
+     */
+    private List<AbilityListener> abilityListeners;
+
     /**
      * Adds a status effect to this entity.
+     * <p>
+     * A subclass may refuse: a {@linkplain edu.monash.fit2099.engine.positions.Ground#isShared() shared}
+     * Ground throws {@link IllegalStateException} here and in {@link #enableAbility},
+     * {@link #disableAbility} and {@link #addAbilityListener}. Change a Ground
+     * through its Location instead, e.g. with
+     * {@link Location#addGroundStatus}.
      *
      * @param status the status effect to add
      */
     public void addStatus(Status status) {
+        if (statuses == null) {
+            statuses = new ArrayList<>();
+            statusesView = Collections.unmodifiableList(statuses);
+            statusesByClass = new HashMap<>();
+        }
         statuses.add(status);
+        List<Status> group = statusesByClass.get(status.getClass());
+        if (group == null) {
+            statusesByClass.put(status.getClass(), List.of(status));
+        } else {
+            Status[] grown = group.toArray(new Status[group.size() + 1]);
+            grown[group.size()] = status;
+            statusesByClass.put(status.getClass(), List.of(grown));
+        }
     }
 
     /**
@@ -43,7 +91,15 @@ public abstract class GameEntity {
      * @return true if the status was present and removed, false otherwise
      */
     public boolean removeStatus(Status status) {
-        return statuses.remove(status);
+        if (statuses == null) {
+            return false;
+        }
+        int index = statuses.indexOf(status);
+        if (index < 0) {
+            return false;
+        }
+        unindex(statuses.remove(index));
+        return true;
     }
 
     /**
@@ -52,21 +108,41 @@ public abstract class GameEntity {
      * @return a list of statuses, may be empty if none are present
      */
     public List<Status> statuses() {
-        return Collections.unmodifiableList(statuses);
+        return statuses == null ? List.of() : statusesView;
     }
 
     /**
      * Returns a list of all statuses of the specified type.
+     * <p>
+     * The list is unmodifiable, and does not change if statuses are added or
+     * removed afterwards.
      *
      * @param type the class type of the status to retrieve
      * @param <T>  the type of the status
      * @return a list of statuses of the given type
      */
+    @SuppressWarnings("unchecked")
     public <T extends Status> List<T> statusesOf(Class<T> type) {
-        return statuses.stream()
-                .filter(type::isInstance)
-                .map(type::cast)
-                .collect(Collectors.toList());
+        if (statuses == null || statuses.isEmpty()) {
+            return List.of();
+        }
+        List<Status> match = null;
+        for (Map.Entry<Class<?>, List<Status>> group : statusesByClass.entrySet()) {
+            if (type.isAssignableFrom(group.getKey())) {
+                if (match != null) {
+                    // Statuses of more than one class: gather them in the order they were added
+                    List<T> result = new ArrayList<>();
+                    for (Status status : statuses) {
+                        if (type.isInstance(status)) {
+                            result.add(type.cast(status));
+                        }
+                    }
+                    return Collections.unmodifiableList(result);
+                }
+                match = group.getValue();
+            }
+        }
+        return match == null ? List.of() : (List<T>) match;
     }
 
     /**
@@ -78,7 +154,19 @@ public abstract class GameEntity {
      * otherwise
      */
     public boolean hasStatus(Class<? extends Status> type) {
-        return statuses.stream().anyMatch(type::isInstance);
+        if (statuses == null || statuses.isEmpty()) {
+            return false;
+        }
+        if (statusesByClass.containsKey(type)) {
+            return true;
+        }
+        // type may be an interface or a superclass of the statuses' classes
+        for (Class<?> statusClass : statusesByClass.keySet()) {
+            if (type.isAssignableFrom(statusClass)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -87,16 +175,44 @@ public abstract class GameEntity {
      * removed from the entity.
      */
     public void tickStatuses(Location location) {
+        if (statuses == null || statuses.isEmpty()) {
+            return;
+        }
         Iterator<Status> it = statuses.iterator();
         while (it.hasNext()) {
             Status status = it.next();
             status.tickStatus(this, location);
             if (!status.isStatusActive()) {
                 it.remove();
+                unindex(status);
             }
         }
     }
 
+    /**
+     * Drop a status that has just been removed from {@link #statuses} from its group.
+     *
+     * @param status the status removed
+     */
+    private void unindex(Status status) {
+        List<Status> group = statusesByClass.get(status.getClass());
+        if (group.size() == 1) {
+            statusesByClass.remove(status.getClass());
+            return;
+        }
+        Status[] shrunk = new Status[group.size() - 1];
+        int kept = 0;
+        boolean dropped = false;
+        for (Status other : group) {
+            if (other == status && !dropped) {
+                dropped = true;
+            } else {
+                shrunk[kept++] = other;
+            }
+        }
+        statusesByClass.put(status.getClass(), List.of(shrunk));
+    }
+
     /**
      * Check if this instance has ability
      *
@@ -113,8 +229,11 @@ public abstract class GameEntity {
      * @param ability enum
      */
     public void enableAbility(Enum<?> ability) {
-        if (!hasAbility(ability)) {
-            abilitySet.add(ability);
+        // This entity's own set: an Actor's hasAbility also counts its items
+        if (abilitySet.add(ability) && abilityListeners != null) {
+            for (AbilityListener listener : List.copyOf(abilityListeners)) {
+                listener.abilityEnabled(this, ability);
+            }
         }
     }
 
@@ -124,8 +243,35 @@ public abstract class GameEntity {
      * @param ability enum
      */
     public void disableAbility(Enum<?> ability) {
-        if (hasAbility(ability)) {
-            abilitySet.remove(ability);
+        if (abilitySet.remove(ability) && abilityListeners != null) {
+            for (AbilityListener listener : List.copyOf(abilityListeners)) {
+                listener.abilityDisabled(this, ability);
+            }
+        }
+    }
+
+    /**
+     * Ask to be told when this entity gains or loses an ability of its own.
+     * A listener added twice is told twice.
+     *
+     * @param listener the listener to add
+     */
+    public void addAbilityListener(AbilityListener listener) {
+        if (abilityListeners == null) {
+            abilityListeners = new ArrayList<>(1);
+        }
+        abilityListeners.add(Objects.requireNonNull(listener));
+    }
+
+    /**
+     * Stop telling a listener about ability changes. If it was added more than
+     * once, it is removed once.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeAbilityListener(AbilityListener listener) {
+        if (abilityListeners != null) {
+            abilityListeners.remove(listener);
         }
     }
 
@@ -135,7 +281,7 @@ public abstract class GameEntity {
      * @return unmodifiable list of capabilities
      */
     public List<Enum<?>> abilities() {
-        return List.copyOf(abilitySet);
+        return abilitySet.isEmpty() ? List.of() : List.copyOf(abilitySet);
     }
 
     /**
@@ -143,13 +289,49 @@ public abstract class GameEntity {
      * not.
      */
     public final <T> Optional<T> asCapability(Class<T> capability) {
+        return Optional.ofNullable(findCapability(capability));
+    }
+
+    /**
+     * Returns this entity as the capability if it supports it, or null if not.
+     * The same as {@link #asCapability(Class)}, without an Optional to unwrap.
+     *
+     * @param capability the capability wanted, which must be an interface or abstract class
+     * @param <T> the type of the capability
+     * @return this entity as a T, or null
+     * @throws IllegalArgumentException if the capability is a concrete class
+     */
+    @SuppressWarnings("unchecked")
+    public final <T> T findCapability(Class<T> capability) {
+        CapabilityCheck check = CAPABILITY_CHECKS.get(capability);
         // Ensure that 'type' is an interface
-        if (!capability.isInterface() && !Modifier.isAbstract(capability.getModifiers()) ) {
+        if (!check.isContract) {
             throw new IllegalArgumentException("Capability must be a contract (abstract/interface): " + capability.getName());
         }
-        if (capability.isInstance(this)) {
-            return Optional.of(capability.cast(this));
+        // Already checked, so no need for capability.cast
+        return check.get(getClass()) ? (T) this : null;
+    }
+
+    /**
+     * Whether a class may be used as a capability, i.e. is an interface or an
+     * abstract class, and which entity classes have it.
+     * <p>
+     * Class.isInstance with a capability that is not known until run time is
+     * slow when entities of many classes are asked about many interfaces, so
+     * the answer is kept for each entity class.
+     */
+    private static final class CapabilityCheck extends ClassValue<Boolean> {
+        private final Class<?> capability;
+        private final boolean isContract;
+
+        CapabilityCheck(Class<?> capability) {
+            this.capability = capability;
+            this.isContract = capability.isInterface() || Modifier.isAbstract(capability.getModifiers());
+        }
+
+        @Override
+        protected Boolean computeValue(Class<?> entityClass) {
+            return capability.isAssignableFrom(entityClass);
         }
-        return Optional.empty();
     }
 }
@@ -34,6 +34,19 @@ public abstract class Action {
 		return null;
 	}
 	
+	/**
+	 * Check that this Action can still be done, when it was chosen before other
+	 * Actors had their turns (see {@link edu.monash.fit2099.engine.positions.World#setDecisionPool}).
+	 * If not, the Actor does nothing instead.
+	 * By default, this returns true.
+	 * @param actor The actor performing the action.
+	 * @param map The map the actor is on.
+	 * @return true if the Action still makes sense
+	 */
+	public boolean isStillPossible(Actor actor, GameMap map) {
+		return true;
+	}
+
 	/**
 	 * This provides a mechanism for Actions to take more than one turn.
 	 * For example, an action can change its state and return itself, or return the next Action in a series.
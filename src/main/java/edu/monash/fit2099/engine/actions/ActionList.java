@@ -35,8 +35,11 @@ public class ActionList implements Iterable<Action> {
 	 * @param actions the Actions to append
 	 */
 	public void add(ActionList actions) {
-		for(Action action : actions) {
-			add(action);
+		// Straight from the other list, without an unmodifiable wrapper and iterator; it holds no nulls
+		ArrayList<Action> other = actions.actions;
+		int count = other.size();
+		for (int i = 0; i < count; i++) {
+			this.actions.add(other.get(i));
 		}
 	}
 	
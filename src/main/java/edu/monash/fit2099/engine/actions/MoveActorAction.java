@@ -72,6 +72,19 @@ public class MoveActorAction extends Action {
 		return menuDescription(actor);
 	}
 
+	/**
+	 * A move is still possible if the Actor is still on the map and nobody has
+	 * taken the destination in the meantime.
+	 *
+	 * @param actor The actor performing the action.
+	 * @param map The map the actor is on.
+	 * @return true if the Actor can still enter the destination
+	 */
+	@Override
+	public boolean isStillPossible(Actor actor, GameMap map) {
+		return map.contains(actor) && moveToLocation.canActorEnter(actor);
+	}
+
 	/**
 	 * Returns a description of this movement suitable to display in the menu.
 	 *
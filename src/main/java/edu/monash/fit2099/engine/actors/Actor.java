@@ -7,12 +7,15 @@ import edu.monash.fit2099.engine.actors.attributes.ActorAttribute;
 import edu.monash.fit2099.engine.actors.attributes.ActorAttributeOperation;
 import edu.monash.fit2099.engine.actors.attributes.BaseActorAttribute;
 import edu.monash.fit2099.engine.actors.attributes.BaseAttributes;
+import edu.monash.fit2099.engine.actors.attributes.IntActorAttribute;
+import edu.monash.fit2099.engine.capabilities.AbilityListener;
 import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.displays.Printable;
 import edu.monash.fit2099.engine.items.Item;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.weapons.IntrinsicWeapon;
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * The Actor class represents a {@link GameEntity} that can perform an
@@ -30,8 +33,14 @@ public abstract class Actor extends GameEntity implements Printable {
      * addition to hit points, another attribute that represents its stamina can
      * be added. If the actor runs out of stamina, it will be unable to perform
      * certain actions, such as attacking.
+     * <p>
+     * The {@link BaseAttributes} are kept in an array indexed by ordinal, and
+     * attributes named by any other enumeration in a map made when the first
+     * one is added. Both hold {@link IntActorAttribute}s, so reading and changing
+     * points does not box.
      */
-    private final Map<Enum<?>, ActorAttribute<Integer>> attributes = new HashMap<>();
+    private final IntActorAttribute[] baseAttributes = new IntActorAttribute[BaseAttributes.values().length];
+    private Map<Enum<?>, IntActorAttribute> otherAttributes;
 
     /**
      * Actor's name
@@ -47,6 +56,30 @@ public abstract class Actor extends GameEntity implements Printable {
      */
     private final List<Item> itemInventory = new ArrayList<>();
 
+    /**
+     * Every ability this Actor has, its own or through an item it carries, with
+     * how many of them give it. Kept up to date as items come and go and as the
+     * Actor and its items gain and lose abilities, so that {@link #hasAbility(Enum)}
+     * does not have to look through the inventory.
+     */
+    private final Map<Enum<?>, Integer> abilityCounts = new HashMap<>();
+
+    /**
+     * Keeps {@link #abilityCounts} up to date. Listens to the Actor itself and to
+     * every item in its inventory.
+     */
+    private final AbilityListener abilityCounter = new AbilityListener() {
+        @Override
+        public void abilityEnabled(GameEntity entity, Enum<?> ability) {
+            countAbility(ability, 1);
+        }
+
+        @Override
+        public void abilityDisabled(GameEntity entity, Enum<?> ability) {
+            countAbility(ability, -1);
+        }
+    };
+
     /**
      * Natural/intrinsic weapon, like a punch
      */
@@ -64,6 +97,7 @@ public abstract class Actor extends GameEntity implements Printable {
         this.name = name;
         this.displayChar = displayChar;
         this.addNewStatistic(BaseAttributes.HEALTH, new BaseActorAttribute(hitPoints));
+        this.addAbilityListener(abilityCounter);
     }
 
     /**
@@ -73,7 +107,7 @@ public abstract class Actor extends GameEntity implements Printable {
      * @return true if the actor has the queried attribute, false otherwise
      */
     public boolean hasStatistic(Enum<?> name) {
-        return this.attributes.containsKey(name);
+        return this.attribute(name) != null;
     }
 
     /**
@@ -82,10 +116,32 @@ public abstract class Actor extends GameEntity implements Printable {
      * @param name the name of the attribute to be added, which must be a value
      * of an enumeration, such as BaseActorattributes.STAMINA.
      * @param attribute an object that implements the {@link ActorAttribute}
-     * interface.
+     * interface. One that is not an {@link IntActorAttribute} is wrapped in an
+     * adapter.
      */
     public void addNewStatistic(Enum<?> name, ActorAttribute<Integer> attribute) {
-        this.attributes.put(name, attribute);
+        IntActorAttribute intAttribute = IntActorAttribute.of(attribute);
+        if (name instanceof BaseAttributes) {
+            this.baseAttributes[name.ordinal()] = intAttribute;
+        } else {
+            if (this.otherAttributes == null) {
+                this.otherAttributes = new HashMap<>();
+            }
+            this.otherAttributes.put(name, intAttribute);
+        }
+    }
+
+    /**
+     * The attribute with the given name.
+     *
+     * @param name the name of the attribute
+     * @return the attribute, or null if the actor does not have it
+     */
+    private IntActorAttribute attribute(Enum<?> name) {
+        if (name instanceof BaseAttributes) {
+            return this.baseAttributes[name.ordinal()];
+        }
+        return this.otherAttributes == null ? null : this.otherAttributes.get(name);
     }
 
     /**
@@ -111,13 +167,13 @@ public abstract class Actor extends GameEntity implements Printable {
     public <E extends Enum<E>> void modifyAttribute(Enum<E> name, ActorAttributeOperation operation, int value) throws IllegalArgumentException {
         switch (operation) {
             case INCREASE:
-                this.attributes.get(name).increase(value);
+                this.attribute(name).increase(value);
                 break;
             case DECREASE:
-                this.attributes.get(name).decrease(value);
+                this.attribute(name).decrease(value);
                 break;
             case UPDATE:
-                this.attributes.get(name).update(value);
+                this.attribute(name).update(value);
                 break;
             default:
                 throw new IllegalArgumentException("Invalid operation for modifying the value of actor's attribute.");
@@ -140,13 +196,13 @@ public abstract class Actor extends GameEntity implements Printable {
     public <E extends Enum<E>>void modifyStatsMaximum(Enum<E> name, ActorAttributeOperation operation, int value) throws IllegalArgumentException {
         switch (operation) {
             case INCREASE:
-                this.attributes.get(name).increaseMaximum(value);
+                this.attribute(name).increaseMaximum(value);
                 break;
             case DECREASE:
-                this.attributes.get(name).decreaseMaximum(value);
+                this.attribute(name).decreaseMaximum(value);
                 break;
             case UPDATE:
-                this.attributes.get(name).updateMaximum(value);
+                this.attribute(name).updateMaximum(value);
                 break;
             default:
                 throw new IllegalArgumentException("Invalid operation for modifying the maximum value of actor's stats.");
@@ -162,7 +218,7 @@ public abstract class Actor extends GameEntity implements Printable {
      * @return the value of the attribute.
      */
     public int getAttribute(Enum<?> name) {
-        return this.attributes.get(name).get();
+        return this.attribute(name).getAsInt();
     }
 
     /**
@@ -174,7 +230,7 @@ public abstract class Actor extends GameEntity implements Printable {
      * @return the maximum value of the attribute.
      */
     public int getMaximumAttribute(Enum<?> name) {
-        return this.attributes.get(name).getMaximum();
+        return this.attribute(name).getMaximumAsInt();
     }
 
     /**
@@ -184,6 +240,10 @@ public abstract class Actor extends GameEntity implements Printable {
      */
     public void addItemToInventory(Item item) {
         itemInventory.add(item);
+        for (Enum<?> ability : item.abilities()) {
+            countAbility(ability, 1);
+        }
+        item.addAbilityListener(abilityCounter);
     }
 
     /**
@@ -194,7 +254,22 @@ public abstract class Actor extends GameEntity implements Printable {
      * @param item The Item to remove.
      */
     public void removeItemFromInventory(Item item) {
-        itemInventory.remove(item);
+        if (itemInventory.remove(item)) {
+            item.removeAbilityListener(abilityCounter);
+            for (Enum<?> ability : item.abilities()) {
+                countAbility(ability, -1);
+            }
+        }
+    }
+
+    /**
+     * Note that one more, or one fewer, thing gives this Actor an ability.
+     *
+     * @param ability the ability
+     * @param change 1 or -1
+     */
+    private void countAbility(Enum<?> ability, int change) {
+        abilityCounts.merge(ability, change, (count, delta) -> count + delta == 0 ? null : count + delta);
     }
 
     /**
@@ -221,12 +296,30 @@ public abstract class Actor extends GameEntity implements Printable {
      */
     public <T> List<T> getItemInventoryAs(Class<T> capability) {
         List<T> result = new ArrayList<>();
-        for (Item item : itemInventory) {
-            if(item != null){
-                item.asCapability(capability).ifPresent(result::add);
+        forEachInventoryItemAs(capability, result::add);
+        return result;
+    }
+
+    /**
+     * Visits each item in the inventory that has the given capability, without
+     * building a list of them. Items are visited in the same order as
+     * {@link #getItemInventoryAs(Class)} returns them. The visitor must not add
+     * or remove items from the inventory.
+     *
+     * @param <T> the type of capability to look for
+     * @param capability the class object representing the capability type
+     * @param visitor called with each item, as a T
+     */
+    public <T> void forEachInventoryItemAs(Class<T> capability, Consumer<? super T> visitor) {
+        for (int i = 0; i < itemInventory.size(); i++) {
+            Item item = itemInventory.get(i);
+            if (item != null) {
+                T found = item.findCapability(capability);
+                if (found != null) {
+                    visitor.accept(found);
+                }
             }
         }
-        return result;
     }
 
 
@@ -242,6 +335,20 @@ public abstract class Actor extends GameEntity implements Printable {
      */
     public abstract Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display);
 
+    /**
+     * Does this Actor choose its Action from the list passed to
+     * {@link #playTurn(ActionList, Action, GameMap, Display)}?
+     * <p>
+     * Building that list means asking every exit, item and neighbour for its
+     * Actions, every turn. Actors that make up their own Actions (e.g. from
+     * Behaviours) can return false, and are handed an empty list instead.
+     *
+     * @return true if playTurn looks at the Actions it is given
+     */
+    public boolean needsAllowableActions() {
+        return true;
+    }
+
     /**
      * Returns a new collection of the Actions that the otherActor can do to the
      * current Actor.
@@ -264,7 +371,7 @@ public abstract class Actor extends GameEntity implements Printable {
      * @return true if and only if hitPoints is positive.
      */
     public boolean isConscious() {
-        return this.getAttribute(BaseAttributes.HEALTH) > 0;
+        return this.baseAttributes[BaseAttributes.HEALTH.ordinal()].getAsInt() > 0;
     }
 
     /**
@@ -299,7 +406,7 @@ public abstract class Actor extends GameEntity implements Printable {
      * @param damage the damage points that the actor receives
      */
     public void hurt(int damage) {
-        this.modifyAttribute(BaseAttributes.HEALTH, ActorAttributeOperation.DECREASE, damage);
+        this.baseAttributes[BaseAttributes.HEALTH.ordinal()].decrease(damage);
     }
 
     /**
@@ -308,7 +415,7 @@ public abstract class Actor extends GameEntity implements Printable {
      * @param points the health points that the actor receives
      */
     public void heal(int points) {
-        this.modifyAttribute(BaseAttributes.HEALTH, ActorAttributeOperation.INCREASE, points);
+        this.baseAttributes[BaseAttributes.HEALTH.ordinal()].increase(points);
     }
 
     /**
@@ -339,12 +446,7 @@ public abstract class Actor extends GameEntity implements Printable {
      */
     @Override
     public final boolean hasAbility(Enum<?> ability) {
-        for (Item item : itemInventory) {
-            if (item.hasAbility(ability)) {
-                return true;
-            }
-        }
-        return super.hasAbility(ability);
+        return abilityCounts.containsKey(ability);
     }
 
     /**
@@ -365,9 +467,10 @@ public abstract class Actor extends GameEntity implements Printable {
      */
     @Override
     public String toString() {
+        IntActorAttribute health = this.baseAttributes[BaseAttributes.HEALTH.ordinal()];
         return name + " ("
-                + this.getAttribute(BaseAttributes.HEALTH) + "/"
-                + this.getMaximumAttribute(BaseAttributes.HEALTH)
+                + health.getAsInt() + "/"
+                + health.getMaximumAsInt()
                 + ")";
     }
 
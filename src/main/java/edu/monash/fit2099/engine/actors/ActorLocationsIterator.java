@@ -2,6 +2,7 @@ package edu.monash.fit2099.engine.actors;
 
 import edu.monash.fit2099.engine.GameEngineException;
 import edu.monash.fit2099.engine.GameEntity;
+import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 
 import java.util.*;
@@ -10,17 +11,24 @@ import java.util.*;
  * Represents a bimap of locations and actors. Hence it enforces the one actor
  * per location rule. Has a nifty iterator that lets us modify the collection
  * while iterating it.
+ * <p>
+ * The location to actor half of the bimap is the occupancy grid that each
+ * GameMap keeps, so looking up the actor on a tile is an array read. Only this
+ * class updates it, through {@link GameMap#setOccupant}, after recording the change here.
+ * <p>
+ * Actors take their turns in the order they were added, player first. Each
+ * GameMap also has its own roster, so a map can visit just the actors on it.
  * @author Riordan Alfredo
  */
 public class ActorLocationsIterator implements Iterable<Actor> {
 	/**
-	 * A mapping of location to the actor
+	 * A mapping of actor to location, in the order the actors were added
 	 */
-	private final Map<Location, Actor> locationToActor;
+	private final Map<Actor, Location> actorToLocation;
 	/**
-	 * A mapping of actor to location
+	 * The actors on each map, in the order they arrived there
 	 */
-	private final Map<Actor, Location> actorToLocation;
+	private final Map<GameMap, Set<Actor>> mapToActors;
 	/**
 	 * Current actor
 	 */
@@ -30,8 +38,8 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 * Default constructor.
 	 */
 	public ActorLocationsIterator() {
-		locationToActor = new HashMap<Location, Actor>();
-		actorToLocation = new HashMap<Actor, Location>();
+		actorToLocation = new LinkedHashMap<Actor, Location>();
+		mapToActors = new HashMap<GameMap, Set<Actor>>();
 	}
 
 	/**
@@ -42,6 +50,13 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	public void setPlayer(Actor player) {
 		this.player = player;
 	}
+
+	/**
+	 * @return the player, or null if there is none yet
+	 */
+	public Actor getPlayer() {
+		return player;
+	}
 			
 			
 	/**
@@ -55,11 +70,12 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 		String gameRuleMessage = "Game rule, one actor per location. ";
 		if(actorToLocation.containsKey(actor))
 			throw new GameEngineException(gameRuleMessage + actor.toString() + " is already placed in the game.");
-		if(locationToActor.containsKey(location))
+		if(isAnActorAt(location))
 			throw new GameEngineException(gameRuleMessage + "There is already an Actor at the " + location.toString());
 		
 		actorToLocation.put(actor, location);
-		locationToActor.put(location, actor);
+		location.map().setOccupant(location, actor);
+		rosterOf(location.map()).add(actor);
 	}
 
 	/**
@@ -68,9 +84,11 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 * @param actor the Actor to remove
 	 */
 	public void remove(Actor actor) {
-		Location location = actorToLocation.get(actor);
-		actorToLocation.remove(actor);
-		locationToActor.remove(location);
+		Location location = actorToLocation.remove(actor);
+		if (location == null)
+			return;
+		location.map().setOccupant(location, null);
+		rosterOf(location.map()).remove(actor);
 	}
 
 	/**
@@ -86,8 +104,13 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 
 		Location oldLocation = actorToLocation.get(actor);
 		actorToLocation.put(actor, newLocation);
-		locationToActor.remove(oldLocation);
-		locationToActor.put(newLocation, actor);
+		if (oldLocation != null)
+			oldLocation.map().setOccupant(oldLocation, null);
+		newLocation.map().setOccupant(newLocation, actor);
+		if (oldLocation != null && oldLocation.map() != newLocation.map()) {
+			rosterOf(oldLocation.map()).remove(actor);
+			rosterOf(newLocation.map()).add(actor);
+		}
 	}
 
 	/**
@@ -107,7 +130,7 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 * @return true if and only if an Actor is at the given Location.
 	 */
 	public boolean isAnActorAt(Location location) {
-		return locationToActor.containsKey(location);
+		return getActorAt(location) != null;
 	}
 
 	/**
@@ -117,7 +140,7 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 * @return a reference to the Actor, or null if there isn't one 
 	 */
 	public Actor getActorAt(Location location) {
-		return locationToActor.get(location);
+		return location.map().getActorAt(location.x(), location.y());
 	}
 
 	/**
@@ -129,27 +152,50 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 		return actorToLocation.get(actor);
 	}
 
+	/**
+	 * Iterate over the Actors on one map, player first, in the same order as the
+	 * whole-system iterator. Like that iterator, it tolerates Actors being added
+	 * or removed while it is in use.
+	 *
+	 * @param map the map whose Actors to visit
+	 * @return the Actors currently on that map
+	 */
+	public Iterable<Actor> actorsOn(GameMap map) {
+		return () -> new ActorIterator(mapToActors.getOrDefault(map, Collections.emptySet()));
+	}
+
+	private Set<Actor> rosterOf(GameMap map) {
+		return mapToActors.computeIfAbsent(map, key -> new LinkedHashSet<Actor>());
+	}
+
 	/**
 	 * Class to allow iterating over all Actors in the system, player first
 	 * This allows Actors to take turns in a known order.
+	 * <p>
+	 * The turn order is copied once when the iterator is created. Actors added
+	 * after that wait until the next turn, and Actors removed before their turn
+	 * are skipped, so each step is O(1) and a whole turn is O(n).
 	 */
 	private class ActorIterator implements Iterator<Actor> {
-		Map<Actor, Location> actorLocations;
-		List<Actor> actors;
+		private final Actor[] actors;
+		private int cursor = 0;
 
 		/**
 		 * Constructor.
 		 *
-		 * @param actorLocations the collection of mappings between Actors and Locations
+		 * @param roster the Actors to visit, in turn order
 		 */
-		public ActorIterator(Map<Actor, Location> actorLocations) {
-			this.actorLocations = actorLocations;
-			actors = new ArrayList<Actor>(actorLocations.keySet());
-			
-			// Make sure the player is first. 
-			if(actors.contains(player)) {
-				actors.remove(player);
-				actors.add(0, player);
+		public ActorIterator(Collection<Actor> roster) {
+			actors = new Actor[roster.size()];
+			int i = 0;
+
+			// Make sure the player is first.
+			boolean hasPlayer = player != null && roster.contains(player);
+			if (hasPlayer)
+				actors[i++] = player;
+			for (Actor actor : roster) {
+				if (!hasPlayer || actor != player)
+					actors[i++] = actor;
 			}
 		}
 
@@ -159,12 +205,8 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 		 */
 		@Override
 		public boolean hasNext() {
-			for (Actor actor : actors) {
-				if (actorLocations.containsKey(actor))
-					return true;
-			}
-
-			return false;
+			skipRemoved();
+			return cursor < actors.length;
 		}
 
 		/**
@@ -172,13 +214,19 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 		 */
 		@Override
 		public Actor next() {
-			while (!actors.isEmpty()) {
-				Actor actor = actors.remove(0);
-				if (actorLocations.containsKey(actor))
-					return actor;
-			}
+			skipRemoved();
+			if (cursor >= actors.length)
+				throw new NoSuchElementException();
+
+			return actors[cursor++];
+		}
 
-			throw new ConcurrentModificationException();
+		/**
+		 * Step over Actors that have left the system since the turn started.
+		 */
+		private void skipRemoved() {
+			while (cursor < actors.length && !actorToLocation.containsKey(actors[cursor]))
+				cursor++;
 		}
 	}
 
@@ -187,6 +235,6 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 */
 	@Override
 	public Iterator<Actor> iterator() {
-		return new ActorIterator(actorToLocation);
+		return new ActorIterator(actorToLocation.keySet());
 	}
 }
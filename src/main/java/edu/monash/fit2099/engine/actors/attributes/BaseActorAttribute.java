@@ -5,7 +5,7 @@ package edu.monash.fit2099.engine.actors.attributes;
  * @author Adrian Kristanto
  * @author Riordan Alfredo
  */
-public class BaseActorAttribute implements ActorAttribute<Integer> {
+public class BaseActorAttribute implements IntActorAttribute {
     private int maximumPoints;
     private int points;
 
@@ -24,7 +24,7 @@ public class BaseActorAttribute implements ActorAttribute<Integer> {
      * @param points the points to overwrite the current points of the attribute
      */
     @Override
-    public void update(Integer points) {
+    public void update(int points) {
         this.points = Math.min(points, maximumPoints);
     }
 
@@ -34,7 +34,7 @@ public class BaseActorAttribute implements ActorAttribute<Integer> {
      * @param points the points to increase the current points of the attribute
      */
     @Override
-    public void increase(Integer points) {
+    public void increase(int points) {
         this.points += points;
         this.points = Math.min(this.points, maximumPoints);
     }
@@ -46,7 +46,7 @@ public class BaseActorAttribute implements ActorAttribute<Integer> {
      * @param points the points to decrease the current points of the attribute
      */
     @Override
-    public void decrease(Integer points) {
+    public void decrease(int points) {
         this.points -= points;
         this.points = Math.max(this.points, 0);
     }
@@ -56,7 +56,7 @@ public class BaseActorAttribute implements ActorAttribute<Integer> {
      * @return the current points of the attribute
      */
     @Override
-    public Integer get() {
+    public int getAsInt() {
         return points;
     }
 
@@ -65,7 +65,7 @@ public class BaseActorAttribute implements ActorAttribute<Integer> {
      * @return the maximum points of the attribute
      */
     @Override
-    public Integer getMaximum() {
+    public int getMaximumAsInt() {
         return maximumPoints;
     }
 
@@ -74,7 +74,7 @@ public class BaseActorAttribute implements ActorAttribute<Integer> {
      * @param points the points to overwrite the current maximum points of the attribute
      */
     @Override
-    public void updateMaximum(Integer points) {
+    public void updateMaximum(int points) {
         this.maximumPoints = points;
         this.points = maximumPoints;
     }
@@ -85,7 +85,7 @@ public class BaseActorAttribute implements ActorAttribute<Integer> {
      * @param points the points to increase the current maximum points of the attribute
      */
     @Override
-    public void increaseMaximum(Integer points) {
+    public void increaseMaximum(int points) {
         this.maximumPoints += points;
         this.points = maximumPoints;
     }
@@ -96,7 +96,7 @@ public class BaseActorAttribute implements ActorAttribute<Integer> {
      * @param points the points to decrease the current maximum points of the attribute
      */
     @Override
-    public void decreaseMaximum(Integer points) {
+    public void decreaseMaximum(int points) {
         this.maximumPoints -= points;
         this.points = Math.min(this.points, maximumPoints);
     }
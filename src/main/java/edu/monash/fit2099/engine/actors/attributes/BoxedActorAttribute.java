@@ -0,0 +1,54 @@
+package edu.monash.fit2099.engine.actors.attributes;
+
+/**
+ * Lets an {@link ActorAttribute ActorAttribute&lt;Integer&gt;} that only has the
+ * Integer methods be used as an {@link IntActorAttribute}, boxing on its behalf.
+ * This class is package-private: use {@link IntActorAttribute#of(ActorAttribute)}.
+ */
+class BoxedActorAttribute implements IntActorAttribute {
+    private final ActorAttribute<Integer> attribute;
+
+    BoxedActorAttribute(ActorAttribute<Integer> attribute) {
+        this.attribute = attribute;
+    }
+
+    @Override
+    public void update(int points) {
+        attribute.update(points);
+    }
+
+    @Override
+    public void increase(int points) {
+        attribute.increase(points);
+    }
+
+    @Override
+    public void decrease(int points) {
+        attribute.decrease(points);
+    }
+
+    @Override
+    public int getAsInt() {
+        return attribute.get();
+    }
+
+    @Override
+    public int getMaximumAsInt() {
+        return attribute.getMaximum();
+    }
+
+    @Override
+    public void updateMaximum(int points) {
+        attribute.updateMaximum(points);
+    }
+
+    @Override
+    public void increaseMaximum(int points) {
+        attribute.increaseMaximum(points);
+    }
+
+    @Override
+    public void decreaseMaximum(int points) {
+        attribute.decreaseMaximum(points);
+    }
+}
@@ -0,0 +1,121 @@
+package edu.monash.fit2099.engine.actors.attributes;
+
+/**
+ * An attribute of an actor whose points are plain ints, so that reading and
+ * changing it does not box and unbox an Integer every time.
+ * <p>
+ * It is still an {@link ActorAttribute ActorAttribute&lt;Integer&gt;}: the
+ * Integer methods pass through to the int ones. Calls with an int argument
+ * pick the int overloads without any change at the call site.
+ */
+public interface IntActorAttribute extends ActorAttribute<Integer> {
+
+    /**
+     * Wrap any {@link ActorAttribute ActorAttribute&lt;Integer&gt;} so it can be used as an IntActorAttribute.
+     *
+     * @param attribute the attribute to wrap
+     * @return the attribute itself if it already is one, or an adapter that boxes for it
+     */
+    static IntActorAttribute of(ActorAttribute<Integer> attribute) {
+        if (attribute instanceof IntActorAttribute) {
+            return (IntActorAttribute) attribute;
+        }
+        return new BoxedActorAttribute(attribute);
+    }
+
+    /**
+     * Overwrites the current points of the attribute with the given points.
+     * @param points the points to overwrite the current points of the attribute
+     */
+    void update(int points);
+
+    /**
+     * Increases the current points of the attribute by the given points.
+     * @param points the points to increase the current points of the attribute
+     */
+    void increase(int points);
+
+    /**
+     * Decreases the current points of the attribute by the given points.
+     * @param points the points to decrease the current points of the attribute
+     */
+    void decrease(int points);
+
+    /**
+     * Getter for the current points of the attribute.
+     * @return the current points of the attribute
+     */
+    int getAsInt();
+
+    /**
+     * Getter for the maximum points of the attribute.
+     * @return the maximum points of the attribute
+     */
+    default int getMaximumAsInt() {
+        return getAsInt();
+    }
+
+    /**
+     * Overwrites the current maximum points of the attribute with the given points.
+     * @param points the points to overwrite the current maximum points of the attribute
+     */
+    default void updateMaximum(int points) {
+        update(points);
+    }
+
+    /**
+     * Increases the current maximum points of the attribute by the given points.
+     * @param points the points to increase the current maximum points of the attribute
+     */
+    default void increaseMaximum(int points) {
+        increase(points);
+    }
+
+    /**
+     * Decreases the current maximum points of the attribute by the given points.
+     * @param points the points to decrease the current maximum points of the attribute
+     */
+    default void decreaseMaximum(int points) {
+        decrease(points);
+    }
+
+    @Override
+    default void update(Integer points) {
+        update(points.intValue());
+    }
+
+    @Override
+    default void increase(Integer points) {
+        increase(points.intValue());
+    }
+
+    @Override
+    default void decrease(Integer points) {
+        decrease(points.intValue());
+    }
+
+    @Override
+    default Integer get() {
+        return getAsInt();
+    }
+
+    @Override
+    default Integer getMaximum() {
+        return getMaximumAsInt();
+    }
+
+    @Override
+    default void updateMaximum(Integer points) {
+        updateMaximum(points.intValue());
+    }
+
+    @Override
+    default void increaseMaximum(Integer points) {
+        increaseMaximum(points.intValue());
+    }
+
+    @Override
+    default void decreaseMaximum(Integer points) {
+        decreaseMaximum(points.intValue());
+    }
+}
@@ -0,0 +1,27 @@
+package edu.monash.fit2099.engine.capabilities;
+
+import edu.monash.fit2099.engine.GameEntity;
+
+/**
+ * Told when a {@link GameEntity} gains or loses an ability of its own.
+ * Only real changes are reported: enabling an ability the entity already has,
+ * or disabling one it does not have, is not.
+ */
+public interface AbilityListener {
+
+    /**
+     * Called after an entity gains an ability.
+     *
+     * @param entity the entity that changed
+     * @param ability the ability gained
+     */
+    void abilityEnabled(GameEntity entity, Enum<?> ability);
+
+    /**
+     * Called after an entity loses an ability.
+     *
+     * @param entity the entity that changed
+     * @param ability the ability lost
+     */
+    void abilityDisabled(GameEntity entity, Enum<?> ability);
+}
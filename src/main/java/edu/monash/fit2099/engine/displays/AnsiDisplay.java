@@ -0,0 +1,174 @@
+package edu.monash.fit2099.engine.displays;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+
+/**
+ * A Display for terminals that understand ANSI cursor movement.
+ * <p>
+ * The map stays put at the top of the screen. Each frame is compared with the
+ * one before it, and only the part of each row that changed is rewritten, with
+ * the cursor moved there first. The game log for the turn is printed under the
+ * map, and cleared when the next frame is drawn.
+ * <p>
+ * The first frame, and any frame of a different size (e.g. after the player
+ * moves to another map), clears the screen and is drawn in full. So is any frame
+ * after more lines were printed under the map than fit on the terminal, since
+ * they scrolled the map up and the rows on screen no longer match the last frame.
+ */
+public class AnsiDisplay extends Display {
+
+	private static final String CSI = "\u001b[";
+	/**
+	 * How many rows a terminal is taken to have when the LINES environment variable does not say.
+	 */
+	private static final int DEFAULT_TERMINAL_HEIGHT = 24;
+
+	private final int terminalHeight;
+	private char[] previous;
+	private int previousWidth;
+	private int previousHeight;
+	/**
+	 * Line breaks printed since the last frame.
+	 */
+	private int linesSinceFrame;
+
+	/**
+	 * Constructor, writing to {@code System.out}.
+	 */
+	public AnsiDisplay() {
+		this.terminalHeight = terminalHeightFromEnvironment();
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param out the stream to write to
+	 */
+	public AnsiDisplay(PrintStream out) {
+		this(out, terminalHeightFromEnvironment());
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param out the stream to write to
+	 * @param terminalHeight how many rows the terminal has
+	 */
+	public AnsiDisplay(PrintStream out, int terminalHeight) {
+		super(out);
+		if (terminalHeight < 1) {
+			throw new IllegalArgumentException("Terminal height must be at least 1: " + terminalHeight);
+		}
+		this.terminalHeight = terminalHeight;
+	}
+
+	/**
+	 * Whether the program seems to be running in a terminal that understands
+	 * ANSI cursor movement: there is a console, and TERM names a terminal other than "dumb".
+	 *
+	 * @return true if an AnsiDisplay is likely to work
+	 */
+	public static boolean isSupported() {
+		String term = System.getenv("TERM");
+		return System.console() != null && term != null && !term.isEmpty() && !term.equals("dumb");
+	}
+
+	/**
+	 * A Display for this terminal: an AnsiDisplay if it is {@link #isSupported() supported},
+	 * a plain Display otherwise.
+	 *
+	 * @return the Display
+	 */
+	public static Display forTerminal() {
+		return isSupported() ? new AnsiDisplay() : new Display();
+	}
+
+	@Override
+	public void printFrame(char[] frame, int width, int height) {
+		StringBuilder text = new StringBuilder();
+		// Once the cursor has been pushed past the bottom row, the terminal has scrolled
+		boolean scrolled = linesSinceFrame >= terminalHeight - previousHeight;
+		boolean redraw = previous == null || width != previousWidth || height != previousHeight || scrolled;
+		if (redraw) {
+			text.append(CSI).append("2J");
+			previous = new char[width * height];
+			previousWidth = width;
+			previousHeight = height;
+		}
+
+		for (int y = 0; y < height; y++) {
+			int row = y * width;
+			int first = redraw ? 0 : Arrays.mismatch(frame, row, row + width, previous, row, row + width);
+			if (first < 0) {
+				continue;
+			}
+			int last = width - 1;
+			if (!redraw) {
+				while (frame[row + last] == previous[row + last]) {
+					last--;
+				}
+			}
+			moveTo(text, y + 1, first + 1).append(frame, row + first, last - first + 1);
+		}
+		System.arraycopy(frame, 0, previous, 0, width * height);
+
+		// Park the cursor under the map and clear the last turn's log
+		moveTo(text, height + 1, 1).append(CSI).append('J');
+		print(text.toString());
+		linesSinceFrame = 0;
+	}
+
+	@Override
+	public void print(String s) {
+		linesSinceFrame += lineBreaks(s);
+		super.print(s);
+	}
+
+	@Override
+	public void println(String s) {
+		linesSinceFrame += lineBreaks(s) + 1;
+		super.println(s);
+	}
+
+	@Override
+	public void endLine() {
+		linesSinceFrame++;
+		super.endLine();
+	}
+
+	/**
+	 * Read a char from the keyboard. The terminal echoes the Enter that ends the
+	 * answer, which moves the cursor down a line like anything printed.
+	 *
+	 * @return the first char of the next entered string.
+	 */
+	@Override
+	public char readChar() {
+		linesSinceFrame++;
+		return super.readChar();
+	}
+
+	private static int lineBreaks(String s) {
+		int count = 0;
+		for (int i = 0; i < s.length(); i++) {
+			if (s.charAt(i) == '\n') {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private static int terminalHeightFromEnvironment() {
+		try {
+			int lines = Integer.parseInt(System.getenv().getOrDefault("LINES", ""));
+			return lines > 0 ? lines : DEFAULT_TERMINAL_HEIGHT;
+		} catch (NumberFormatException e) {
+			return DEFAULT_TERMINAL_HEIGHT;
+		}
+	}
+
+	private static StringBuilder moveTo(StringBuilder text, int row, int column) {
+		return text.append(CSI).append(row).append(';').append(column).append('H');
+	}
+}
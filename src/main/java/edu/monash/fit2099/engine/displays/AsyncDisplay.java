@@ -0,0 +1,213 @@
+package edu.monash.fit2099.engine.displays;
+
+import java.io.BufferedOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * A Display that hands its output to a writer thread, so that the game does not
+ * wait for a slow terminal.
+ * <p>
+ * Output is queued in a bounded ring buffer. The writer thread takes whatever
+ * has piled up, shows it on the Display it wraps, and flushes once per batch
+ * rather than once per line. The game only waits when the buffer is full, when
+ * it reads from the keyboard (so the menu is on screen before the player
+ * answers), and on {@link #flush()} and {@link #close()}.
+ * <p>
+ * Printing is safe from any thread; lines printed from different threads at
+ * once come out in whichever order they were queued. Reading the keyboard
+ * should be left to the game loop's thread.
+ */
+public class AsyncDisplay extends Display implements AutoCloseable {
+
+	/**
+	 * How many calls may be waiting for the writer before the game has to wait.
+	 */
+	public static final int DEFAULT_CAPACITY = 4096;
+
+	/**
+	 * Tells the writer thread to stop, once everything before it is written.
+	 */
+	private static final Consumer<Display> STOP = display -> { };
+
+	private final Display target;
+	private final BlockingQueue<Consumer<Display>> pending;
+	private final Thread writer;
+	private final Object progress = new Object();
+	private final AtomicLong submitted = new AtomicLong();
+	private long written;
+	private volatile RuntimeException failure;
+	private volatile boolean closed;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param target the Display that the writer thread shows the output on
+	 */
+	public AsyncDisplay(Display target) {
+		this(target, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param target the Display that the writer thread shows the output on
+	 * @param capacity how many calls may be waiting for the writer
+	 */
+	public AsyncDisplay(Display target, int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("capacity must be positive");
+		}
+		this.target = target;
+		this.pending = new ArrayBlockingQueue<>(capacity);
+		this.writer = new Thread(this::drain, "display-writer");
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	/**
+	 * An AsyncDisplay for the terminal the game is running in, writing through
+	 * its own buffer so that only the writer thread's flushes reach the terminal.
+	 *
+	 * @return the Display
+	 * @see AnsiDisplay#forTerminal()
+	 */
+	public static AsyncDisplay forTerminal() {
+		PrintStream out = new PrintStream(new BufferedOutputStream(System.out, 1 << 16), false);
+		return new AsyncDisplay(AnsiDisplay.isSupported() ? new AnsiDisplay(out) : new Display(out));
+	}
+
+	@Override
+	public void print(Printable printable) {
+		char displayChar = printable.getDisplayChar();
+		submit(display -> display.print(() -> displayChar));
+	}
+
+	@Override
+	public void printFrame(char[] frame, int width, int height) {
+		char[] copy = frame.clone();
+		submit(display -> display.printFrame(copy, width, height));
+	}
+
+	@Override
+	public void print(String s) {
+		submit(display -> display.print(s));
+	}
+
+	@Override
+	public void println(String s) {
+		submit(display -> display.println(s));
+	}
+
+	@Override
+	public void endLine() {
+		submit(Display::endLine);
+	}
+
+	/**
+	 * Wait until everything printed so far is written out.
+	 */
+	@Override
+	public void flush() {
+		try {
+			synchronized (progress) {
+				while (written < submitted.get() && writer.isAlive()) {
+					progress.wait();
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		rethrowFailure();
+	}
+
+	/**
+	 * Read a char from the wrapped Display, once everything printed so far is on screen.
+	 *
+	 * @return the first char of the next entered string.
+	 */
+	@Override
+	public char readChar() {
+		flush();
+		return target.readChar();
+	}
+
+	/**
+	 * Write out everything printed so far and stop the writer thread.
+	 * Anything printed afterwards is ignored.
+	 */
+	@Override
+	public void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		try {
+			pending.put(STOP);
+			writer.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		rethrowFailure();
+	}
+
+	private void submit(Consumer<Display> call) {
+		rethrowFailure();
+		if (closed) {
+			return;
+		}
+		try {
+			pending.put(call);
+			submitted.incrementAndGet();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void rethrowFailure() {
+		RuntimeException e = failure;
+		if (e != null) {
+			failure = null;
+			throw e;
+		}
+	}
+
+	/**
+	 * The writer thread: show each batch on the target, flush, and tell anyone
+	 * waiting in {@link #flush()} how far it got.
+	 */
+	private void drain() {
+		List<Consumer<Display>> batch = new ArrayList<>();
+		boolean stopping = false;
+		while (!stopping) {
+			try {
+				batch.add(pending.take());
+			} catch (InterruptedException e) {
+				return;
+			}
+			pending.drainTo(batch);
+			for (Consumer<Display> call : batch) {
+				if (call == STOP) {
+					stopping = true;
+					break;
+				}
+				try {
+					call.accept(target);
+				} catch (RuntimeException e) {
+					failure = e;
+				}
+			}
+			target.flush();
+			synchronized (progress) {
+				written += stopping ? batch.size() - 1 : batch.size();
+				progress.notifyAll();
+			}
+			batch.clear();
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package edu.monash.fit2099.engine.displays;
 
+import java.io.PrintStream;
 import java.util.Scanner;
 
 /**
@@ -10,9 +11,31 @@ import java.util.Scanner;
 public class Display  {
 
 	/**
-	 * Input
+	 * Output.
 	 */
-	private final Scanner keyboard = new Scanner(System.in);
+	private final PrintStream out;
+
+	/**
+	 * Input. Only opened the first time a char is read, since most Displays
+	 * (and all the ones that only buffer output) never read anything.
+	 */
+	private Scanner keyboard;
+
+	/**
+	 * Constructor, writing to {@code System.out}.
+	 */
+	public Display() {
+		this(System.out);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param out the stream to write to
+	 */
+	public Display(PrintStream out) {
+		this.out = out;
+	}
 
 	/**
 	 * Display a displayable object.
@@ -20,7 +43,21 @@ public class Display  {
 	 * @param printable the object to display
 	 */
 	public void print(Printable printable) {
-		System.out.print(printable.getDisplayChar());
+		out.print(printable.getDisplayChar());
+	}
+
+	/**
+	 * Display a whole frame of characters, such as a drawn GameMap, in one write.
+	 * <p>
+	 * The frame is only valid for the length of the call: the caller may reuse the
+	 * array for the next frame, so a Display that wants to keep it must copy it.
+	 *
+	 * @param frame the characters, row by row, indexed by {@code x + y * width}
+	 * @param width the number of characters in a row
+	 * @param height the number of rows
+	 */
+	public void printFrame(char[] frame, int width, int height) {
+		out.print(frameText(frame, width, height));
 	}
 
 	/**
@@ -29,7 +66,7 @@ public class Display  {
 	 * @param s the string
 	 */
 	public void print(String s) {
-		System.out.print(s);
+		out.print(s);
 	}
 
 	/**
@@ -37,14 +74,38 @@ public class Display  {
 	 * @param s the string to print
 	 */
 	public void println(String s) {
-		System.out.println(s);
+		out.println(s);
 	}
 
 	/**
 	 * Terminates the line.
 	 */
 	public void endLine() {
-		System.out.println("");
+		out.println("");
+	}
+
+	/**
+	 * Make sure everything printed so far has been written out.
+	 */
+	public void flush() {
+		out.flush();
+	}
+
+	/**
+	 * Lay out a frame as lines of text, the way {@link #printFrame(char[], int, int)} prints it.
+	 *
+	 * @param frame the characters, row by row
+	 * @param width the number of characters in a row
+	 * @param height the number of rows
+	 * @return the rows, each followed by a line separator
+	 */
+	protected static String frameText(char[] frame, int width, int height) {
+		String lineSeparator = System.lineSeparator();
+		StringBuilder text = new StringBuilder((width + lineSeparator.length()) * height);
+		for (int y = 0; y < height; y++) {
+			text.append(frame, y * width, width).append(lineSeparator);
+		}
+		return text.toString();
 	}
 
 	/**
@@ -53,6 +114,10 @@ public class Display  {
 	 * @return the first char of the next entered string.
 	 */
 	public char readChar() {
+		flush();
+		if (keyboard == null) {
+			keyboard = new Scanner(System.in);
+		}
 		String s = keyboard.next();
 		return s.charAt(0);
 	}
@@ -57,14 +57,14 @@ public class Menu {
 
         if (page < totalPage) {
             char nextPageHotKey = '>';
-            UpdatePageAction updatePageAction = new UpdatePageAction(this, page + 1);
+            UpdatePageAction updatePageAction = new UpdatePageAction(this, page + 1, display);
             keyToActionMap.put(nextPageHotKey, updatePageAction);
             display.println(nextPageHotKey + ": " + updatePageAction.menuDescription(actor));
         }
 
         if (page > 1) {
             char previousPageHotKey = '<';
-            UpdatePageAction updatePageAction = new UpdatePageAction(this, page - 1);
+            UpdatePageAction updatePageAction = new UpdatePageAction(this, page - 1, display);
             keyToActionMap.put(previousPageHotKey, updatePageAction);
             display.println(previousPageHotKey + ": " + updatePageAction.menuDescription(actor));
         }
@@ -0,0 +1,41 @@
+package edu.monash.fit2099.engine.displays;
+
+/**
+ * A Display that throws all output away.
+ * Useful for headless runs and benchmarks, where printing the map and the
+ * game log every turn would dominate the cost of a turn.
+ * Reading input is not supported, so whatever drives the player must not
+ * fall back to a {@link Menu}.
+ */
+public class NullDisplay extends Display {
+
+	@Override
+	public void print(Printable printable) {
+	}
+
+	@Override
+	public void printFrame(char[] frame, int width, int height) {
+	}
+
+	@Override
+	public void print(String s) {
+	}
+
+	@Override
+	public void println(String s) {
+	}
+
+	@Override
+	public void endLine() {
+	}
+
+	/**
+	 * A NullDisplay has no keyboard attached.
+	 *
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public char readChar() {
+		throw new UnsupportedOperationException("NullDisplay cannot read input");
+	}
+}
@@ -0,0 +1,65 @@
+package edu.monash.fit2099.engine.displays;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A Display that remembers what it was asked to show, so that it can be shown
+ * on another Display later.
+ * Used to hold back the output of work done on other threads until it can be
+ * printed in the right order.
+ * Reading input is not supported.
+ */
+public class RecordingDisplay extends Display {
+
+	private final List<Consumer<Display>> output = new ArrayList<>();
+
+	@Override
+	public void print(Printable printable) {
+		char displayChar = printable.getDisplayChar();
+		output.add(display -> display.print(() -> displayChar));
+	}
+
+	@Override
+	public void printFrame(char[] frame, int width, int height) {
+		char[] copy = frame.clone();
+		output.add(display -> display.printFrame(copy, width, height));
+	}
+
+	@Override
+	public void print(String s) {
+		output.add(display -> display.print(s));
+	}
+
+	@Override
+	public void println(String s) {
+		output.add(display -> display.println(s));
+	}
+
+	@Override
+	public void endLine() {
+		output.add(Display::endLine);
+	}
+
+	/**
+	 * A RecordingDisplay has no keyboard attached.
+	 *
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public char readChar() {
+		throw new UnsupportedOperationException("RecordingDisplay cannot read input");
+	}
+
+	/**
+	 * Show everything recorded so far on another Display, in the order it was recorded.
+	 *
+	 * @param display the Display to show it on
+	 */
+	public void replayTo(Display display) {
+		for (Consumer<Display> call : output) {
+			call.accept(display);
+		}
+	}
+}
@@ -12,15 +12,17 @@ import edu.monash.fit2099.engine.positions.GameMap;
 class UpdatePageAction extends Action {
     private final Menu menu;
     private final int page;
+    private final Display display;
 
-    public UpdatePageAction(Menu menu, int page) {
+    public UpdatePageAction(Menu menu, int page, Display display) {
         this.menu = menu;
         this.page = page;
+        this.display = display;
     }
 
     @Override
     public String execute(Actor actor, GameMap map) {
-        return menu.showMenu(actor, new Display(), page).execute(actor, map);
+        return menu.showMenu(actor, display, page).execute(actor, map);
     }
 
     @Override
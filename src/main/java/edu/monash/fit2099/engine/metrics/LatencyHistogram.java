@@ -0,0 +1,133 @@
+package edu.monash.fit2099.engine.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts how long something took, in nanoseconds, without keeping every sample.
+ * <p>
+ * Times are sorted into buckets that get wider as the times get longer: eight
+ * buckets between each power of two and the next, so any percentile read back is
+ * within an eighth of the true value. Recording is safe from several threads at
+ * once and never allocates.
+ */
+public class LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	private final String name;
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	private final AtomicLong count = new AtomicLong();
+	private final AtomicLong total = new AtomicLong();
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param name what is being timed, e.g. {@code GameMap.tick[Forest]}
+	 */
+	public LatencyHistogram(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * @return what is being timed
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Count one time.
+	 *
+	 * @param nanos how long it took; negative times are counted as zero
+	 */
+	public void record(long nanos) {
+		if (nanos < 0)
+			nanos = 0;
+		counts.incrementAndGet(bucketOf(nanos));
+		count.incrementAndGet();
+		total.addAndGet(nanos);
+		max.accumulateAndGet(nanos, Math::max);
+	}
+
+	/**
+	 * @return how many times have been counted
+	 */
+	public long getCount() {
+		return count.get();
+	}
+
+	/**
+	 * @return all the times counted, added up, in nanoseconds
+	 */
+	public long getTotalNanos() {
+		return total.get();
+	}
+
+	/**
+	 * @return the longest time counted, in nanoseconds
+	 */
+	public long getMaxNanos() {
+		return max.get();
+	}
+
+	/**
+	 * @return the average time, in nanoseconds, or 0 if nothing has been counted
+	 */
+	public double getMeanNanos() {
+		long n = count.get();
+		return n == 0 ? 0 : (double) total.get() / n;
+	}
+
+	/**
+	 * The time that the given share of the counted times were no longer than.
+	 *
+	 * @param percentile from 0 to 100, e.g. 99 for the 99th percentile
+	 * @return the time in nanoseconds, rounded up to the top of its bucket, or 0 if nothing has been counted
+	 */
+	public long getPercentileNanos(double percentile) {
+		long n = count.get();
+		if (n == 0)
+			return 0;
+		long rank = Math.max(1, (long) Math.ceil(n * Math.min(100, Math.max(0, percentile)) / 100));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += counts.get(i);
+			if (seen >= rank)
+				return Math.min(highestIn(i), max.get());
+		}
+		return max.get();
+	}
+
+	/**
+	 * Forget everything counted so far.
+	 * <p>
+	 * Times counted while this runs may be partly forgotten.
+	 */
+	public void reset() {
+		for (int i = 0; i < BUCKETS; i++) {
+			counts.set(i, 0);
+		}
+		count.set(0);
+		total.set(0);
+		max.set(0);
+	}
+
+	static int bucketOf(long nanos) {
+		if (nanos < SUB_BUCKETS)
+			return (int) nanos;
+		int topBit = 63 - Long.numberOfLeadingZeros(nanos);
+		int shift = topBit - SUB_BUCKET_BITS;
+		return (shift + 1) * SUB_BUCKETS + (int) ((nanos >>> shift) & (SUB_BUCKETS - 1));
+	}
+
+	static long highestIn(int bucket) {
+		if (bucket < SUB_BUCKETS)
+			return bucket;
+		int shift = bucket / SUB_BUCKETS - 1;
+		long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+		return lowest + (1L << shift) - 1;
+	}
+}
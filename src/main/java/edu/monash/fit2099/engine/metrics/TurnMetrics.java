@@ -0,0 +1,270 @@
+package edu.monash.fit2099.engine.metrics;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Where the time in each turn goes.
+ * <p>
+ * The parts of a turn that are timed call {@link #start()} before and
+ * {@link #record} after:
+ * <pre>
+ *     long start = TurnMetrics.start();
+ *     gameMap.tick();
+ *     TurnMetrics.record(tickTime, start);
+ * </pre>
+ * While timing is off, which it is unless turned on, {@code start()} returns 0
+ * without reading the clock and {@code record} does nothing with it, so the
+ * cost is one read of a flag on each side.
+ * <p>
+ * Timing can be turned on from the command line with
+ * {@code -Dfit2099.metrics=true}, which also makes the timings available over
+ * JMX, and {@code -Dfit2099.metrics.dumpSeconds=10} prints the table to the
+ * error stream every ten seconds.
+ */
+public final class TurnMetrics {
+	/**
+	 * The name the timings are published under over JMX.
+	 */
+	public static final String OBJECT_NAME = "edu.monash.fit2099.engine:type=TurnMetrics";
+
+	private static volatile boolean enabled;
+	private static final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+	private static ScheduledExecutorService dumper;
+
+	static {
+		if (Boolean.getBoolean("fit2099.metrics")) {
+			setEnabled(true);
+			registerMBean();
+		}
+		long dumpSeconds = Long.getLong("fit2099.metrics.dumpSeconds", 0);
+		if (dumpSeconds > 0) {
+			setEnabled(true);
+			dumpEvery(dumpSeconds, TimeUnit.SECONDS, System.err);
+		}
+	}
+
+	private TurnMetrics() {
+	}
+
+	/**
+	 * @return true if turns are being timed
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Start or stop timing turns. Timings already taken are kept.
+	 *
+	 * @param enabled true to start timing
+	 */
+	public static void setEnabled(boolean enabled) {
+		TurnMetrics.enabled = enabled;
+	}
+
+	/**
+	 * Note the time at the start of something to be timed.
+	 *
+	 * @return the time now, or 0 if timing is off
+	 */
+	public static long start() {
+		return enabled ? System.nanoTime() : 0L;
+	}
+
+	/**
+	 * Count the time since {@link #start()}.
+	 *
+	 * @param histogram where to count it
+	 * @param start what {@link #start()} returned
+	 */
+	public static void record(LatencyHistogram histogram, long start) {
+		if (start != 0L)
+			histogram.record(System.nanoTime() - start);
+	}
+
+	/**
+	 * The histogram for one part of a turn, made the first time it is asked for.
+	 * Callers should keep hold of it rather than asking every turn.
+	 *
+	 * @param phase what is being timed, e.g. {@code WeatherController.tick}
+	 * @return its histogram
+	 */
+	public static LatencyHistogram histogram(String phase) {
+		return histograms.computeIfAbsent(phase, LatencyHistogram::new);
+	}
+
+	/**
+	 * One histogram for each class of object doing something, e.g. each class of
+	 * Actor playing its turn.
+	 *
+	 * @param phase what is being timed, e.g. {@code playTurn}
+	 * @return the histograms, named like {@code playTurn[Deer]}
+	 */
+	public static ByClass byClass(String phase) {
+		return new ByClass(phase);
+	}
+
+	/**
+	 * @return every histogram made so far
+	 */
+	public static List<LatencyHistogram> histograms() {
+		return new ArrayList<>(histograms.values());
+	}
+
+	/**
+	 * Forget all the timings so far.
+	 */
+	public static void reset() {
+		for (LatencyHistogram histogram : histograms.values()) {
+			histogram.reset();
+		}
+	}
+
+	/**
+	 * A table of every part of a turn that has been timed, the one that took the
+	 * most time altogether first. Times are in microseconds.
+	 *
+	 * @return the table
+	 */
+	public static String report() {
+		List<LatencyHistogram> timed = new ArrayList<>();
+		int nameWidth = "phase".length();
+		for (LatencyHistogram histogram : histograms.values()) {
+			if (histogram.getCount() > 0) {
+				timed.add(histogram);
+				nameWidth = Math.max(nameWidth, histogram.getName().length());
+			}
+		}
+		timed.sort(Comparator.comparingLong(LatencyHistogram::getTotalNanos).reversed());
+
+		String row = "%-" + nameWidth + "s %10s %12s %10s %10s %10s %10s %10s%n";
+		StringBuilder table = new StringBuilder();
+		table.append(String.format(row, "phase", "count", "total ms", "mean", "p50", "p90", "p99", "max"));
+		for (LatencyHistogram histogram : timed) {
+			table.append(String.format("%-" + nameWidth + "s %10d %12.1f %10.1f %10.1f %10.1f %10.1f %10.1f%n",
+					histogram.getName(),
+					histogram.getCount(),
+					histogram.getTotalNanos() / 1e6,
+					histogram.getMeanNanos() / 1e3,
+					histogram.getPercentileNanos(50) / 1e3,
+					histogram.getPercentileNanos(90) / 1e3,
+					histogram.getPercentileNanos(99) / 1e3,
+					histogram.getMaxNanos() / 1e3));
+		}
+		return table.toString();
+	}
+
+	/**
+	 * Print the {@link #report()} every so often, on a background thread, until the program ends.
+	 *
+	 * @param period how long between reports
+	 * @param unit the unit of the period
+	 * @param out where to print
+	 * @return the task, which can be cancelled to stop printing
+	 */
+	public static synchronized ScheduledFuture<?> dumpEvery(long period, TimeUnit unit, PrintStream out) {
+		if (dumper == null) {
+			dumper = Executors.newSingleThreadScheduledExecutor(task -> {
+				Thread thread = new Thread(task, "turn-metrics-dump");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return dumper.scheduleAtFixedRate(() -> out.print(report()), period, period, unit);
+	}
+
+	/**
+	 * Publish the timings over JMX under {@value #OBJECT_NAME}, if they are not already.
+	 *
+	 * @throws IllegalStateException if JMX will not take them
+	 */
+	public static void registerMBean() {
+		try {
+			ManagementFactory.getPlatformMBeanServer().registerMBean(new MXBean(), new ObjectName(OBJECT_NAME));
+		} catch (InstanceAlreadyExistsException e) {
+			// Already published
+		} catch (JMException e) {
+			throw new IllegalStateException("Could not publish the turn metrics over JMX", e);
+		}
+	}
+
+	/**
+	 * Histograms for each class of object doing one thing, looked up without allocating.
+	 */
+	public static final class ByClass extends ClassValue<LatencyHistogram> {
+		private final String phase;
+
+		private ByClass(String phase) {
+			this.phase = phase;
+		}
+
+		@Override
+		protected LatencyHistogram computeValue(Class<?> type) {
+			String name = type.getSimpleName().isEmpty() ? type.getName() : type.getSimpleName();
+			return histogram(phase + "[" + name + "]");
+		}
+
+		/**
+		 * Count the time since {@link #start()} against the class of an object.
+		 *
+		 * @param object the object that was doing the thing being timed
+		 * @param start what {@link #start()} returned
+		 */
+		public void record(Object object, long start) {
+			if (start != 0L)
+				get(object.getClass()).record(System.nanoTime() - start);
+		}
+	}
+
+	private static class MXBean implements TurnMetricsMXBean {
+		@Override
+		public boolean isEnabled() {
+			return TurnMetrics.isEnabled();
+		}
+
+		@Override
+		public void setEnabled(boolean enabled) {
+			TurnMetrics.setEnabled(enabled);
+		}
+
+		@Override
+		public String[] getPhases() {
+			return histograms.keySet().stream().sorted().toArray(String[]::new);
+		}
+
+		@Override
+		public String getReport() {
+			return report();
+		}
+
+		@Override
+		public long getCount(String phase) {
+			LatencyHistogram histogram = histograms.get(phase);
+			return histogram == null ? 0 : histogram.getCount();
+		}
+
+		@Override
+		public double getPercentileMicros(String phase, double percentile) {
+			LatencyHistogram histogram = histograms.get(phase);
+			return histogram == null ? 0 : histogram.getPercentileNanos(percentile) / 1e3;
+		}
+
+		@Override
+		public void reset() {
+			TurnMetrics.reset();
+		}
+	}
+}
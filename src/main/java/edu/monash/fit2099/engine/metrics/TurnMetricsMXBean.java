@@ -0,0 +1,40 @@
+package edu.monash.fit2099.engine.metrics;
+
+/**
+ * The turn timings as seen through JMX, e.g. in JConsole or VisualVM, under
+ * {@value TurnMetrics#OBJECT_NAME}.
+ */
+public interface TurnMetricsMXBean {
+
+	boolean isEnabled();
+
+	void setEnabled(boolean enabled);
+
+	/**
+	 * @return the names of everything timed so far
+	 */
+	String[] getPhases();
+
+	/**
+	 * @return the table that {@link TurnMetrics#report()} prints
+	 */
+	String getReport();
+
+	/**
+	 * @param phase one of {@link #getPhases()}
+	 * @return how many times it has been timed, or 0 if it is not known
+	 */
+	long getCount(String phase);
+
+	/**
+	 * @param phase one of {@link #getPhases()}
+	 * @param percentile from 0 to 100
+	 * @return the time in microseconds, or 0 if the phase is not known
+	 */
+	double getPercentileMicros(String phase, double percentile);
+
+	/**
+	 * Forget all the timings so far.
+	 */
+	void reset();
+}
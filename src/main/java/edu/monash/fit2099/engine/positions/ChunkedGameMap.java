@@ -0,0 +1,366 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.Display;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * A GameMap for worlds too big to hold in memory, made of square chunks of
+ * {@value #CHUNK_SIZE} by {@value #CHUNK_SIZE} tiles that are only made when
+ * something first looks at them.
+ * <p>
+ * The terrain comes from a {@link Terrain}, which says which Ground character
+ * belongs at any tile, so a chunk can be made at any time and come out the
+ * same. Chunks are made the first time one of their Locations is asked for,
+ * which in practice is when an Actor comes near. Memory grows with the area
+ * that has been explored, not with the size of the map.
+ * <p>
+ * Only the chunks within {@link #getWakeRadius()} chunks of an Actor on this
+ * map are ticked. The rest are frozen. When a frozen chunk is woken again,
+ * each of its Grounds that needs ticking is told how many turns it missed
+ * through {@link Ground#catchUp(Location, int)}, so timers and counters catch
+ * up in one step instead of being ticked turn by turn.
+ * <p>
+ * {@link #draw(Display)} shows only a window around the player, or around
+ * the first Actor on the map if the player is elsewhere. Ticking in parallel
+ * with {@link #setTickPool} is not supported, and a World with a chunked map
+ * cannot be saved with {@link World#saveSnapshot}.
+ */
+public class ChunkedGameMap extends GameMap {
+
+    /**
+     * The width and height of a chunk, in tiles.
+     */
+    public static final int CHUNK_SIZE = 32;
+    private static final int CHUNK_SHIFT = 5;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    /**
+     * Says which Ground belongs at each tile of a chunked map.
+     */
+    @FunctionalInterface
+    public interface Terrain {
+        /**
+         * @param x X coordinate
+         * @param y Y coordinate
+         * @return the display character of the Ground at (x, y), as registered with the GroundCreator
+         */
+        char groundAt(int x, int y);
+    }
+
+    private final Terrain terrain;
+    private final int width;
+    private final int height;
+    private final Map<Long, Chunk> chunks = new ConcurrentHashMap<>();
+    /**
+     * The chunk last looked up, since lookups come in runs on the same chunk.
+     */
+    private volatile Chunk lastChunk;
+    private int wakeRadius = 1;
+    private int viewWidth = 80;
+    private int viewHeight = 25;
+    private int turn;
+    private char[] frame;
+
+    /**
+     * Constructor.
+     *
+     * @param name Name of the map
+     * @param groundCreator Factory to create Ground objects
+     * @param terrain says which Ground goes where
+     * @param width width of the GameMap, in characters
+     * @param height height of the GameMap, in characters
+     */
+    public ChunkedGameMap(String name, GroundCreator groundCreator, Terrain terrain, int width, int height) {
+        super(name, groundCreator, width, height);
+        this.terrain = terrain;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * @return how many chunks away from an Actor a chunk is still ticked
+     */
+    public int getWakeRadius() {
+        return wakeRadius;
+    }
+
+    /**
+     * Set how far around each Actor the map is ticked. At 0 only the Actors'
+     * own chunks are; at the default of 1, the chunks around them are too.
+     *
+     * @param wakeRadius the distance in chunks
+     */
+    public void setWakeRadius(int wakeRadius) {
+        if (wakeRadius < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.wakeRadius = wakeRadius;
+    }
+
+    /**
+     * Set the size of the window that {@link #draw(Display)} shows.
+     *
+     * @param viewWidth width in characters
+     * @param viewHeight height in characters
+     */
+    public void setViewSize(int viewWidth, int viewHeight) {
+        if (viewWidth <= 0 || viewHeight <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.viewWidth = viewWidth;
+        this.viewHeight = viewHeight;
+    }
+
+    /**
+     * @return how many chunks have been made so far
+     */
+    public int getChunkCount() {
+        return chunks.size();
+    }
+
+    @Override
+    public Location at(int x, int y) {
+        return chunkAt(x >> CHUNK_SHIFT, y >> CHUNK_SHIFT).tiles[tileIndex(x, y)];
+    }
+
+    @Override
+    public Actor getActorAt(int x, int y) {
+        return chunkAt(x >> CHUNK_SHIFT, y >> CHUNK_SHIFT).occupants[tileIndex(x, y)];
+    }
+
+    @Override
+    public void setOccupant(Location location, Actor actor) {
+        Actor[] occupants = chunkOf(location).occupants;
+        int i = tileIndex(location.x(), location.y());
+        Actor previous = occupants[i];
+        checkOccupant(location, previous, actor);
+        getActorIndex().occupantChanged(location, previous, actor);
+        occupants[i] = actor;
+        if (actor == null && previous != null) {
+            dropDistanceFieldIfGone(previous);
+        }
+    }
+
+    @Override
+    public void scheduleTick(Location location) {
+        List<PendingChanges.Change> pending = PendingChanges.current();
+        if (pending != null) {
+            pending.add(() -> scheduleTick(location));
+            return;
+        }
+        chunkOf(location).activeTiles.set(tileIndex(location.x(), location.y()));
+    }
+
+    /**
+     * Tick the chunks near Actors, chunk row by chunk row, catching up any that
+     * were frozen first. Chunks made during the tick wait until next turn.
+     */
+    @Override
+    protected void tickTiles() throws GameEngineException {
+        turn++;
+        List<Chunk> awake = new ArrayList<>();
+        for (Actor actor : actorLocations.actorsOn(this)) {
+            Location here = actorLocations.locationOf(actor);
+            int cx = here.x() >> CHUNK_SHIFT;
+            int cy = here.y() >> CHUNK_SHIFT;
+            for (int y = Math.max(0, cy - wakeRadius); y <= Math.min(lastChunkY(), cy + wakeRadius); y++) {
+                for (int x = Math.max(0, cx - wakeRadius); x <= Math.min(lastChunkX(), cx + wakeRadius); x++) {
+                    Chunk chunk = chunkAt(x, y);
+                    if (chunk.awakeTurn != turn) {
+                        chunk.awakeTurn = turn;
+                        awake.add(chunk);
+                    }
+                }
+            }
+        }
+        awake.sort(Comparator.comparingInt((Chunk chunk) -> chunk.cy).thenComparingInt(chunk -> chunk.cx));
+
+        for (Chunk chunk : awake) {
+            int missed = turn - 1 - chunk.lastTicked;
+            if (missed > 0) {
+                catchUp(chunk, missed);
+            }
+            BitSet active = chunk.activeTiles;
+            for (int i = active.nextSetBit(0); i >= 0; i = active.nextSetBit(i + 1)) {
+                Location here = chunk.tiles[i];
+                here.tick();
+                if (!here.needsTick()) {
+                    active.clear(i);
+                }
+            }
+            chunk.lastTicked = turn;
+        }
+    }
+
+    /**
+     * Nothing is caught up straight away. The turns are added to the map's
+     * count, so each chunk near an Actor catches them up as it is ticked.
+     *
+     * @param turns how many turns were missed
+     */
+    @Override
+    protected void catchUp(int turns) {
+        if (turns > 0) {
+            turn += turns;
+        }
+    }
+
+    private void catchUp(Chunk chunk, int missed) throws GameEngineException {
+        BitSet active = chunk.activeTiles;
+        for (int i = active.nextSetBit(0); i >= 0; i = active.nextSetBit(i + 1)) {
+            Location here = chunk.tiles[i];
+            here.getGround().catchUp(here, missed);
+        }
+    }
+
+    /**
+     * Visit the Locations of the chunks that are awake, that is, near an Actor.
+     *
+     * @param visitor what to do with each Location
+     */
+    @Override
+    public void forEachLiveLocation(Consumer<Location> visitor) {
+        List<Chunk> awake = new ArrayList<>();
+        for (Chunk chunk : chunks.values()) {
+            if (chunk.awakeTurn == turn) {
+                awake.add(chunk);
+            }
+        }
+        awake.sort(Comparator.comparingInt((Chunk chunk) -> chunk.cx).thenComparingInt(chunk -> chunk.cy));
+        for (Chunk chunk : awake) {
+            for (Location location : chunk.tiles) {
+                if (location != null) {
+                    visitor.accept(location);
+                }
+            }
+        }
+    }
+
+    /**
+     * Draw the window around the player, or around the first Actor on this map.
+     *
+     * @param display Display that will draw the state of the game
+     */
+    @Override
+    public void draw(Display display) {
+        int viewW = Math.min(viewWidth, width);
+        int viewH = Math.min(viewHeight, height);
+        Location centre = viewCentre();
+        int left = Math.max(0, Math.min(width - viewW, centre.x() - viewW / 2));
+        int top = Math.max(0, Math.min(height - viewH, centre.y() - viewH / 2));
+        if (frame == null || frame.length != viewW * viewH) {
+            frame = new char[viewW * viewH];
+        }
+        for (int y = 0; y < viewH; y++) {
+            for (int x = 0; x < viewW; x++) {
+                frame[y * viewW + x] = at(left + x, top + y).getDisplayChar();
+            }
+        }
+        display.printFrame(frame, viewW, viewH);
+    }
+
+    private Location viewCentre() {
+        Actor player = actorLocations.getPlayer();
+        if (player != null && contains(player)) {
+            return actorLocations.locationOf(player);
+        }
+        for (Actor actor : actorLocations.actorsOn(this)) {
+            return actorLocations.locationOf(actor);
+        }
+        return at(0, 0);
+    }
+
+    private Chunk chunkOf(Location location) {
+        return chunkAt(location.x() >> CHUNK_SHIFT, location.y() >> CHUNK_SHIFT);
+    }
+
+    private Chunk chunkAt(int cx, int cy) {
+        Chunk chunk = lastChunk;
+        if (chunk != null && chunk.cx == cx && chunk.cy == cy) {
+            return chunk;
+        }
+        if (cx < 0 || cy < 0 || cx > lastChunkX() || cy > lastChunkY()) {
+            throw new ArrayIndexOutOfBoundsException("Chunk (" + cx + ", " + cy + ") is outside " + name);
+        }
+        chunk = chunks.computeIfAbsent(((long) cx << 32) | cy, key -> makeChunk(cx, cy));
+        lastChunk = chunk;
+        return chunk;
+    }
+
+    /**
+     * Make a chunk's Locations and Grounds. This may happen while Actors decide
+     * in parallel, so the Grounds are put down at once rather than held back.
+     */
+    private Chunk makeChunk(int cx, int cy) {
+        Chunk chunk = new Chunk(cx, cy, turn);
+        int x0 = cx << CHUNK_SHIFT;
+        int y0 = cy << CHUNK_SHIFT;
+        for (int dy = 0; dy < CHUNK_SIZE; dy++) {
+            for (int dx = 0; dx < CHUNK_SIZE; dx++) {
+                int x = x0 + dx;
+                int y = y0 + dy;
+                if (x >= width || y >= height) {
+                    continue;
+                }
+                int i = dx + (dy << CHUNK_SHIFT);
+                Location location = makeNewLocation(x, y);
+                try {
+                    location.placeGround(groundCreator.createGround(terrain.groundAt(x, y)));
+                } catch (GameEngineException e) {
+                    throw new IllegalStateException("Cannot make the ground at (" + x + ", " + y + ") on " + name, e);
+                }
+                chunk.tiles[i] = location;
+                if (location.needsTick()) {
+                    chunk.activeTiles.set(i);
+                }
+            }
+        }
+        return chunk;
+    }
+
+    private int lastChunkX() {
+        return (width - 1) >> CHUNK_SHIFT;
+    }
+
+    private int lastChunkY() {
+        return (height - 1) >> CHUNK_SHIFT;
+    }
+
+    private static int tileIndex(int x, int y) {
+        return (x & CHUNK_MASK) + ((y & CHUNK_MASK) << CHUNK_SHIFT);
+    }
+
+    /**
+     * The Locations and occupants of one square of the map.
+     */
+    private static final class Chunk {
+        private final int cx;
+        private final int cy;
+        private final Location[] tiles = new Location[CHUNK_SIZE * CHUNK_SIZE];
+        private final Actor[] occupants = new Actor[CHUNK_SIZE * CHUNK_SIZE];
+        private final BitSet activeTiles = new BitSet(CHUNK_SIZE * CHUNK_SIZE);
+        /**
+         * The last turn this chunk was ticked, or was made on.
+         */
+        private int lastTicked;
+        /**
+         * The last turn this chunk was found to be near an Actor.
+         */
+        private int awakeTurn = -1;
+
+        Chunk(int cx, int cy, int turn) {
+            this.cx = cx;
+            this.cy = cy;
+            this.lastTicked = turn;
+        }
+    }
+}
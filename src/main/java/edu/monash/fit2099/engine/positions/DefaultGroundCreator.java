@@ -41,10 +41,32 @@ public class DefaultGroundCreator implements GroundCreator {
 	}
 
 	/**
-	 * Given a character, returns a new instance of the Ground type represented by it.
+	 * Registers a display character to a Ground that every tile showing it will share.
+	 * <p>
+	 * One Ground is made now and handed out by {@link #createGround} from then on.
+	 * A Ground that has to be ticked, or that already has statuses, has state of
+	 * its own and cannot be shared; register it with {@link #registerGround} instead.
+	 *
+	 * @param displayChar character that represents this Ground in the game interface
+	 * @param groundSupplier makes a new instance each time it is called, for tiles that need their own
+	 * @throws GameEngineException if the character is already registered, or the Ground cannot be shared
+	 * @see Location#ownGround()
+	 */
+	@Override
+	public void registerSharedGround(char displayChar, Supplier<? extends Ground> groundSupplier) throws GameEngineException {
+		Ground shared = groundSupplier.get();
+		if (shared.needsTick()) {
+			throw new GameEngineException(shared + " has to be ticked, so it cannot be shared.");
+		}
+		shared.share(groundSupplier);
+		registerGround(displayChar, () -> shared);
+	}
+
+	/**
+	 * Given a character, returns an instance of the Ground type represented by it.
 	 *
 	 * @param displayChar character that represents this Ground in the UI
-	 * @return an instance of a concrete subclass of Ground
+	 * @return an instance of a concrete subclass of Ground, or the one shared instance if it was registered with {@link #registerSharedGround}
 	 */
 	@Override
 	public Ground createGround(char displayChar) throws GameEngineException {
@@ -0,0 +1,233 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.metrics.LatencyHistogram;
+import edu.monash.fit2099.engine.metrics.TurnMetrics;
+
+import java.util.Arrays;
+
+/**
+ * How many steps it is to an Actor from each Location around it, so that other
+ * Actors can walk towards it around whatever is in the way.
+ * <p>
+ * There is one field for each GameMap and target, from
+ * {@link GameMap#distanceFieldTo(Actor)}, shared by every Actor following or
+ * hunting that target. The distances are found by a breadth-first search out
+ * from the target, through the Exits of each Location, over the Grounds the
+ * target itself could enter, as far as {@link #getRadius()} tiles in each
+ * direction. Other Actors are not counted as being in the way, since they will
+ * have moved by next turn.
+ * <p>
+ * The search is only done again when the field is asked about after the
+ * target has moved, or after a Ground it reached, or one that stopped it, has
+ * changed whether it can be entered; see {@link GameMap#passabilityChanged}.
+ * However many Actors follow the target, that is at most one search a turn.
+ * Each search rebuilds the whole window from scratch: distances are not
+ * patched up from the last search, since a move of the target by one step
+ * changes nearly all of them anyway.
+ */
+public class DistanceField {
+
+    /**
+     * How far from the target, in tiles, distances are found unless asked otherwise.
+     */
+    public static final int DEFAULT_RADIUS = 64;
+    private static final int UNREACHED = -1;
+    private static final int BLOCKED = -2;
+    private static final LatencyHistogram SEARCH_TIME = TurnMetrics.histogram("DistanceField.search");
+
+    private final GameMap map;
+    private final Actor target;
+    private final int radius;
+    /**
+     * Steps to the target from each tile of the window, row by row; or
+     * {@link #UNREACHED}, or {@link #BLOCKED} for a tile next to a reached one
+     * that the target cannot enter.
+     */
+    private final int[] distances;
+    private final int[] queue;
+    /**
+     * Where the target was at the last search, or null if it was not on the map.
+     */
+    private Location centre;
+    private int left;
+    private int top;
+    private int windowWidth;
+    private int windowHeight;
+    private boolean stale = true;
+    private long searches;
+
+    /**
+     * Constructor.
+     *
+     * @param map the map to find distances on
+     * @param target the Actor to find distances to
+     * @param radius how far from the target to look, in tiles
+     */
+    public DistanceField(GameMap map, Actor target, int radius) {
+        if (radius < 1) {
+            throw new IllegalArgumentException("Radius must be at least 1: " + radius);
+        }
+        this.map = map;
+        this.target = target;
+        this.radius = radius;
+        int side = 2 * radius + 1;
+        this.distances = new int[side * side];
+        this.queue = new int[side * side];
+    }
+
+    /**
+     * @return the Actor distances are found to
+     */
+    public Actor getTarget() {
+        return target;
+    }
+
+    /**
+     * @return how far from the target distances are found, in tiles
+     */
+    public int getRadius() {
+        return radius;
+    }
+
+    /**
+     * @return how many times the distances have been found so far
+     */
+    public synchronized long getSearchCount() {
+        return searches;
+    }
+
+    /**
+     * How many steps it takes to reach the target from a Location.
+     *
+     * @param location a Location on this field's map
+     * @return the number of steps, 0 where the target stands, or -1 if the target
+     * is not on the map, cannot be reached from there, or is too far away to tell
+     */
+    public synchronized int distanceFrom(Location location) {
+        refresh();
+        return distanceAt(location);
+    }
+
+    /**
+     * The best Exit for an Actor to take towards the target: the one that leads
+     * to a Location it can enter now that is the fewest steps from the target,
+     * and fewer than where it stands. Ties go to the first such Exit.
+     *
+     * @param actor an Actor on this field's map
+     * @return the Exit, or null if the target is out of reach or there is no step that gets closer
+     */
+    public synchronized Exit nextStep(Actor actor) {
+        refresh();
+        if (!map.contains(actor)) {
+            return null;
+        }
+        int best = distanceAt(map.locationOf(actor));
+        if (best <= 0) {
+            return null;
+        }
+        Exit bestExit = null;
+        for (Exit exit : map.locationOf(actor).getExits()) {
+            Location destination = exit.getDestination();
+            int distance = distanceAt(destination);
+            if (distance >= 0 && distance < best && destination.canActorEnter(actor)) {
+                best = distance;
+                bestExit = exit;
+            }
+        }
+        return bestExit;
+    }
+
+    /**
+     * Told by the map that a Location may have changed whether it can be entered.
+     *
+     * @param location the Location
+     */
+    synchronized void passabilityChanged(Location location) {
+        if (stale || centre == null) {
+            return;
+        }
+        int i = indexOf(location);
+        if (i < 0) {
+            return;
+        }
+        // A tile that was never reached and did not stop the search is not next to any reached tile, so cannot matter
+        int distance = distances[i];
+        boolean passable = location.getGround().canActorEnter(target);
+        if ((distance == BLOCKED && passable) || (distance >= 0 && !passable)) {
+            stale = true;
+        }
+    }
+
+    private void refresh() {
+        Location at = map.contains(target) ? map.locationOf(target) : null;
+        if (!stale && at == centre) {
+            return;
+        }
+        long start = TurnMetrics.start();
+        centre = at;
+        stale = false;
+        searches++;
+        if (at != null) {
+            search(at);
+        }
+        TurnMetrics.record(SEARCH_TIME, start);
+    }
+
+    private void search(Location from) {
+        NumberRange xs = map.getXRange();
+        NumberRange ys = map.getYRange();
+        left = Math.max(xs.min(), from.x() - radius);
+        top = Math.max(ys.min(), from.y() - radius);
+        windowWidth = Math.min(xs.max(), from.x() + radius) - left + 1;
+        windowHeight = Math.min(ys.max(), from.y() + radius) - top + 1;
+        Arrays.fill(distances, 0, windowWidth * windowHeight, UNREACHED);
+
+        int head = 0;
+        int tail = 0;
+        int start = indexOf(from);
+        distances[start] = 0;
+        queue[tail++] = start;
+        while (head < tail) {
+            int i = queue[head++];
+            Location here = map.at(left + i % windowWidth, top + i / windowWidth);
+            int next = distances[i] + 1;
+            for (Exit exit : here.getExits()) {
+                Location destination = exit.getDestination();
+                int j = indexOf(destination);
+                if (j < 0 || distances[j] != UNREACHED) {
+                    continue;
+                }
+                if (destination.getGround().canActorEnter(target)) {
+                    distances[j] = next;
+                    queue[tail++] = j;
+                } else {
+                    distances[j] = BLOCKED;
+                }
+            }
+        }
+    }
+
+    private int distanceAt(Location location) {
+        if (centre == null) {
+            return -1;
+        }
+        int i = indexOf(location);
+        return i < 0 ? -1 : Math.max(-1, distances[i]);
+    }
+
+    /**
+     * @return where a Location is in the window, or -1 if it is outside it or on another map
+     */
+    private int indexOf(Location location) {
+        if (location.map() != map) {
+            return -1;
+        }
+        int x = location.x() - left;
+        int y = location.y() - top;
+        if (x < 0 || y < 0 || x >= windowWidth || y >= windowHeight) {
+            return -1;
+        }
+        return x + y * windowWidth;
+    }
+}
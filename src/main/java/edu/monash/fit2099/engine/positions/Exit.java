@@ -1,14 +1,16 @@
 package edu.monash.fit2099.engine.positions;
 
+import java.util.Objects;
+
 /**
  * Class that represents a route from one Location to another.
  * @author Riordan Alfredo
  */
 public class Exit {
 	
-	private String name;
-	private Location destination;
-	private String hotKey;
+	private final String name;
+	private final Location destination;
+	private final String hotKey;
 
 	/**
 	 *
@@ -45,4 +47,28 @@ public class Exit {
 	public String getHotKey() {
 		return hotKey;
 	}
+
+	/**
+	 * Two Exits are equal if they have the same name, destination and hotkey.
+	 * The default exits of a Location are created when it is first asked for them, so
+	 * this is what lets {@link Location#removeExit(Exit)} find an equivalent Exit made elsewhere.
+	 * @param other the object to compare with
+	 * @return true if other is an equivalent Exit
+	 */
+	@Override
+	public boolean equals(Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (!(other instanceof Exit)) {
+			return false;
+		}
+		Exit exit = (Exit) other;
+		return destination == exit.destination && Objects.equals(name, exit.name) && Objects.equals(hotKey, exit.hotKey);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(name, destination, hotKey);
+	}
 }
@@ -5,13 +5,19 @@ import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actors.ActorLocationsIterator;
 import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.items.Item;
+import edu.monash.fit2099.engine.metrics.LatencyHistogram;
 
 import java.lang.reflect.InvocationTargetException;
-import java.nio.file.Files;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 
 /**
  * Class representing one map within the system.
@@ -27,9 +33,52 @@ import java.util.Objects;
  */
 public class GameMap {
 
+    // The default exits from every tile, starting North and going clockwise.
+    private static final int[] EXIT_DX = {0, 1, 1, 1, 0, -1, -1, -1};
+    private static final int[] EXIT_DY = {-1, -1, 0, 1, 1, 1, 0, -1};
+    private static final String[] EXIT_NAMES = {"North", "North-East", "East", "South-East", "South", "South-West", "West", "North-West"};
+    private static final String[] EXIT_HOT_KEYS = {"8", "9", "6", "3", "2", "1", "4", "7"};
+
     protected NumberRange heights;
     protected NumberRange widths;
     protected Location[][] map;
+    /**
+     * The Actor standing on each tile, indexed by {@code x + y * width}, or null
+     * for an empty tile. Kept in sync by {@link ActorLocationsIterator}.
+     */
+    private Actor[] occupants;
+    private int width;
+    private int height;
+    /**
+     * The tiles that get ticked, indexed like {@link #occupants}. A tile is added
+     * by {@link #scheduleTick(Location)} and dropped once it has nothing left to tick.
+     */
+    private BitSet activeTiles;
+    /**
+     * Ticks the active tiles in parallel, or null to tick them on the calling thread.
+     */
+    private StripedTicker stripedTicker;
+    /**
+     * The characters of the last {@link #draw(Display)}, reused from one turn to the next.
+     */
+    private char[] frame;
+    /**
+     * How many turns in a row the World has left this map's tiles untouched.
+     */
+    int turnsBehind;
+    /**
+     * The distance fields made so far, one for each target. Replaced whole when
+     * one is added, so that it can be read without locking every time a Ground changes.
+     */
+    private volatile DistanceField[] distanceFields = new DistanceField[0];
+    /**
+     * Which Actors are near which tiles, kept up to date by {@link #setOccupant}.
+     */
+    private SpatialIndex actorIndex;
+    /**
+     * How long {@link #tick()} takes, made the first time the World times it.
+     */
+    LatencyHistogram tickTime;
     protected ActorLocationsIterator actorLocations;
     protected GroundCreator groundCreator;
     protected String name;
@@ -53,13 +102,41 @@ public class GameMap {
         this.groundCreator = groundCreator;
         initMap(width, height);
 
-        for (int x : widths) {
-            for (int y : heights) {
+        for (int y = 0; y < this.height; y++) {
+            for (int x = 0; x < this.width; x++) {
                 at(x, y).setGround(groundCreator.createGround(groundChar));
             }
         }
     }
 
+    /**
+     * Constructor for a map that keeps its Locations some other way, such as a
+     * {@link ChunkedGameMap}. It only sets the size; no Locations are made.
+     * <p>
+     * A subclass using this must override every method that reaches the tiles
+     * directly: {@link #at}, {@link #getActorAt(int, int)}, {@link #setOccupant},
+     * {@link #scheduleTick}, {@link #tickTiles}, {@link #forEachLiveLocation}
+     * and {@link #draw}.
+     *
+     * @param name Name of the map
+     * @param groundCreator Factory to create Ground objects
+     * @param width width of the GameMap, in characters
+     * @param height height of the GameMap, in characters
+     */
+    protected GameMap(String name, GroundCreator groundCreator, int width, int height) {
+        Objects.requireNonNull(groundCreator);
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.name = name;
+        this.groundCreator = groundCreator;
+        this.width = width;
+        this.height = height;
+        widths = new NumberRange(0, width);
+        heights = new NumberRange(0, height);
+        actorIndex = new SpatialIndex(width, height);
+    }
+
     /**
      * Constructor that creates a map from a sequence of ASCII strings.
      *
@@ -78,15 +155,34 @@ public class GameMap {
 
     /**
      * Constructor that reads a map from file.
+     * <p>
+     * The file is either an ASCII representation of a level, one line per row,
+     * or a run-length map made from one by {@link #compressMapFile(Path, Path)}.
+     * Either way it is read a buffer at a time rather than all at once.
      *
      * @param groundCreator Factory to create Ground objects
      * @param mapFile Name of a file containing an ASCII representation of a
-     * level
+     * level, or a run-length map
      * @throws Exception when file I/O fails and unable to create grounds with
      * objects.
      */
     public GameMap(String name, GroundCreator groundCreator, String mapFile) throws Exception {
-        this(name, groundCreator, Files.readAllLines(Paths.get(mapFile)));
+        Objects.requireNonNull(groundCreator);
+        this.name = name;
+        this.groundCreator = groundCreator;
+        MapFile.load(this, groundCreator, Paths.get(mapFile));
+    }
+
+    /**
+     * Write an ASCII map file as a run-length map, which is smaller and quicker
+     * to load when the map has large stretches of the same terrain.
+     *
+     * @param textMap the ASCII map file to read
+     * @param runLengthMap the file to write
+     * @throws IOException if either file cannot be used, or the ASCII map has rows of different widths
+     */
+    public static void compressMapFile(Path textMap, Path runLengthMap) throws IOException {
+        MapFile.compress(textMap, runLengthMap);
     }
 
     /**
@@ -100,9 +196,10 @@ public class GameMap {
         int height = lines.size();
         initMap(width, height);
 
-        for (int x : widths) {
-            for (int y : heights) {
-                char groundChar = lines.get(y).charAt(x);
+        for (int y = 0; y < height; y++) {
+            String line = lines.get(y);
+            for (int x = 0; x < width; x++) {
+                char groundChar = line.charAt(x);
                 at(x, y).setGround(groundCreator.createGround(groundChar));
             }
         }
@@ -118,30 +215,50 @@ public class GameMap {
         widths = new NumberRange(0, width);
         heights = new NumberRange(0, height);
         map = new Location[width][height]; // Note the ordering. 0, 0 is the top left.
-        // First arg is across, second down
-        for (int x : widths) {
-            for (int y : heights) {
+        this.width = width;
+        this.height = height;
+        occupants = new Actor[width * height];
+        activeTiles = new BitSet(width * height);
+        actorIndex = new SpatialIndex(width, height);
+        // First arg is across, second down. Made a row at a time, like map files
+        // are read and the map is drawn, so that neighbours in a row sit together in memory.
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
                 map[x][y] = makeNewLocation(x, y);
             }
         }
+        // Exits are not created here: each Location asks exitsFrom() the first time it needs them.
+    }
 
-        for (int x : widths) {
-            for (int y : heights) {
-                Location here = this.at(x, y);
-                addExitFromHere(here, x, y - 1, "North", "8");
-                addExitFromHere(here, x + 1, y - 1, "North-East", "9");
-                addExitFromHere(here, x + 1, y, "East", "6");
-                addExitFromHere(here, x + 1, y + 1, "South-East", "3");
-                addExitFromHere(here, x, y + 1, "South", "2");
-                addExitFromHere(here, x - 1, y + 1, "South-West", "1");
-                addExitFromHere(here, x - 1, y, "West", "4");
-                addExitFromHere(here, x - 1, y - 1, "North-West", "7");
+    /**
+     * Builds the exits from a Location to each of its neighbours on this map,
+     * starting North and going clockwise.
+     * <p>
+     * Each Location calls this the first time it is asked for its exits and
+     * keeps the list, so a large map only holds Exit objects for the tiles
+     * something has looked around from.
+     *
+     * @param here a Location on this map
+     * @return an unmodifiable list of exits to the neighbouring Locations
+     */
+    public List<Exit> exitsFrom(Location here) {
+        Exit[] exits = new Exit[EXIT_NAMES.length];
+        int count = 0;
+        for (int i = 0; i < exits.length; i++) {
+            int x = here.x() + EXIT_DX[i];
+            int y = here.y() + EXIT_DY[i];
+            if (x >= 0 && x < width && y >= 0 && y < height) {
+                exits[count++] = new Exit(EXIT_NAMES[i], this.at(x, y), EXIT_HOT_KEYS[i]);
             }
         }
+        return List.of(Arrays.copyOf(exits, count));
     }
 
     /**
      * Builder method for making Exits.
+     * <p>
+     * The default exits between neighbouring tiles come from
+     * {@link #exitsFrom(Location)}; use this for any extra ones.
      *
      * @param here the current location
      * @param x X coordinate
@@ -172,18 +289,24 @@ public class GameMap {
     /**
      * Display the current GameMap.
      * <p>
-     * Draws Actors, then locations. These need to be printed in rows because
-     * that's the way the console works.
+     * Fills a frame with every tile's display character, row by row, and hands
+     * the whole frame to the Display at once, so that it can be written in one go
+     * (or, for an {@link edu.monash.fit2099.engine.displays.AnsiDisplay}, only
+     * where it changed since the last turn).
      *
      * @param display Display that will draw the state of the game
      */
     public void draw(Display display) {
-        for (int y : heights) {
-            for (int x : widths) {
-                display.print(this.at(x, y));
+        if (frame == null || frame.length != width * height) {
+            frame = new char[width * height];
+        }
+        for (int y = 0; y < height; y++) {
+            int row = y * width;
+            for (int x = 0; x < width; x++) {
+                frame[row + x] = map[x][y].getDisplayChar();
             }
-            display.endLine();
         }
+        display.printFrame(frame, width, height);
     }
 
     /**
@@ -197,6 +320,20 @@ public class GameMap {
         return map[x][y];
     }
 
+    /**
+     * Visit every Location that time is passing for, column by column. On an
+     * ordinary GameMap that is all of them.
+     *
+     * @param visitor what to do with each Location
+     */
+    public void forEachLiveLocation(Consumer<Location> visitor) {
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                visitor.accept(map[x][y]);
+            }
+        }
+    }
+
     /**
      * Set the Ground type in a rectangle
      *
@@ -205,8 +342,11 @@ public class GameMap {
      * @param ys the range of Y coordinates
      */
     public void add(char groundChar, NumberRange xs, NumberRange ys) throws GameEngineException {
-        for (int x : xs) {
-            for (int y : ys) {
+        if (xs.size() == 0 || ys.size() == 0) {
+            return;
+        }
+        for (int x = xs.min(); x <= xs.max(); x++) {
+            for (int y = ys.min(); y <= ys.max(); y++) {
                 at(x, y).setGround(groundCreator.createGround(groundChar));
             }
         }
@@ -236,8 +376,16 @@ public class GameMap {
      * Called once per turn, so that maps can experience the passage of time.
      */
     public void tick() throws GameEngineException {
+        tickCarried();
+        tickTiles();
+    }
+
+    /**
+     * Tick what the Actors on this map carry and suffer; the first half of {@link #tick()}.
+     */
+    protected void tickCarried() throws GameEngineException {
         // Tick over all the items in inventories as well as the status effects held by the current actor.
-        for (Actor actor : actorLocations) {
+        for (Actor actor : actorLocations.actorsOn(this)) {
             if (this.contains(actor)) {
                 for (Item item : new ArrayList<>(actor.getItemInventory())) { // Copy the list
                     item.tick(actorLocations.locationOf(actor), actor);
@@ -246,14 +394,171 @@ public class GameMap {
                 actor.tickStatuses(actorLocations.locationOf(actor));
             }
         }
-        // tick ground and items on ground
-        for (int y : heights) {
-            for (int x : widths) {
-                this.at(x, y).tick();
+    }
+
+    /**
+     * Tick the Grounds, and the items on the ground, that need it; the second
+     * half of {@link #tick()}.
+     */
+    protected void tickTiles() throws GameEngineException {
+        if (stripedTicker != null) {
+            stripedTicker.tick(this, activeTiles, width, height);
+            return;
+        }
+        // tick ground and items on ground, in the same row by row order as before,
+        // but skipping tiles with nothing to tick
+        for (int i = activeTiles.nextSetBit(0); i >= 0; i = activeTiles.nextSetBit(i + 1)) {
+            Location here = this.at(i % width, i / width);
+            here.tick();
+            if (!here.needsTick()) {
+                activeTiles.clear(i);
+            }
+        }
+    }
+
+    /**
+     * How many turns this map's tiles have not been ticked because the player was
+     * on another map. While the map {@linkplain #catchUp catches up} those turns,
+     * this is still their number.
+     *
+     * @return the number of turns, or 0 if the map is up to date
+     * @see World#setOffscreenTickInterval(int)
+     */
+    public int getTurnsBehind() {
+        return turnsBehind;
+    }
+
+    /**
+     * Make up for turns in which {@link #tickTiles()} was not called, by letting
+     * every Ground that needs ticking {@linkplain Ground#catchUp catch up} at once.
+     *
+     * @param turns how many turns were missed
+     * @see World#setOffscreenTickInterval(int)
+     */
+    protected void catchUp(int turns) throws GameEngineException {
+        if (turns <= 0) {
+            return;
+        }
+        for (int i = activeTiles.nextSetBit(0); i >= 0; i = activeTiles.nextSetBit(i + 1)) {
+            Location here = this.at(i % width, i / width);
+            here.getGround().catchUp(here, turns);
+        }
+    }
+
+    /**
+     * The shared field of distances to an Actor on this map, for Actors that
+     * want to walk towards it. It is made the first time it is asked for, and
+     * the same one is handed out until the target leaves this map, when it is
+     * dropped; a field kept after that just has no distances.
+     *
+     * @param target the Actor to find distances to
+     * @return the distance field
+     */
+    public DistanceField distanceFieldTo(Actor target) {
+        for (DistanceField field : distanceFields) {
+            if (field.getTarget() == target) {
+                return field;
+            }
+        }
+        synchronized (this) {
+            DistanceField[] fields = distanceFields;
+            for (DistanceField field : fields) {
+                if (field.getTarget() == target) {
+                    return field;
+                }
+            }
+            DistanceField field = new DistanceField(this, target, DistanceField.DEFAULT_RADIUS);
+            DistanceField[] grown = Arrays.copyOf(fields, fields.length + 1);
+            grown[fields.length] = field;
+            distanceFields = grown;
+            return field;
+        }
+    }
+
+    /**
+     * Drop the distance field to an Actor that has just stepped off a tile, if
+     * it has left this map altogether, so that fields for Actors that died or
+     * went elsewhere are neither kept nor told about changes.
+     *
+     * @param actor the Actor that left a tile
+     */
+    void dropDistanceFieldIfGone(Actor actor) {
+        if (distanceFields.length == 0 || contains(actor)) {
+            return;
+        }
+        synchronized (this) {
+            DistanceField[] fields = distanceFields;
+            for (int i = 0; i < fields.length; i++) {
+                if (fields[i].getTarget() == actor) {
+                    DistanceField[] shrunk = Arrays.copyOf(fields, fields.length - 1);
+                    System.arraycopy(fields, i + 1, shrunk, i, fields.length - i - 1);
+                    distanceFields = shrunk;
+                    return;
+                }
             }
         }
     }
 
+    /**
+     * @return how many distance fields this map is keeping
+     */
+    int distanceFieldCount() {
+        return distanceFields.length;
+    }
+
+    /**
+     * Tell the distance fields on this map that a Location may have changed
+     * whether it can be entered. {@link Location#setGround(Ground)} calls this;
+     * a Ground whose {@code canActorEnter} changes while it stays put should
+     * call it too.
+     *
+     * @param location the Location
+     */
+    public void passabilityChanged(Location location) {
+        for (DistanceField field : distanceFields) {
+            field.passabilityChanged(location);
+        }
+    }
+
+    /**
+     * Make sure a Location is ticked from now on.
+     * <p>
+     * Locations call this themselves when they gain an item or a Ground that
+     * needs ticking, so game code should not normally need to. A Location
+     * scheduled later in the current tick's row by row order is still ticked
+     * this turn.
+     *
+     * @param location a Location on this map
+     */
+    public void scheduleTick(Location location) {
+        List<PendingChanges.Change> pending = PendingChanges.current();
+        if (pending != null) {
+            pending.add(() -> scheduleTick(location));
+            return;
+        }
+        activeTiles.set(location.x() + location.y() * width);
+    }
+
+    /**
+     * Tick this map's Grounds and items in parallel from now on.
+     * <p>
+     * The map is cut into bands of rows that are ticked on the given pool.
+     * Changes a tick makes to the map, such as setting a Ground, dropping an
+     * item or spawning an Actor, are held back until every band is done, and
+     * then applied in row by row order. So the outcome does not depend on the
+     * number of threads, but a change made during the tick is only ticked
+     * itself from the next turn. Actors' items and statuses are still ticked
+     * one at a time, before the Grounds.
+     * <p>
+     * This only pays off for large maps with a lot going on; small maps are
+     * faster ticked on one thread.
+     *
+     * @param pool the pool to tick on, or null to go back to ticking on the calling thread
+     */
+    public void setTickPool(ForkJoinPool pool) {
+        stripedTicker = pool == null ? null : new StripedTicker(pool);
+    }
+
     /**
      * Returns a reference to the Actor at the given location, if there is one.
      *
@@ -264,6 +569,71 @@ public class GameMap {
         return actorLocations.getActorAt(location);
     }
 
+    /**
+     * Returns the Actor at these coordinates, if there is one.
+     * This is a plain array read, so it is safe to call once per tile per turn.
+     *
+     * @param x X coordinate
+     * @param y Y coordinate
+     * @return a reference to the Actor, or null if there isn't one
+     */
+    public Actor getActorAt(int x, int y) {
+        return occupants[x + y * width];
+    }
+
+    /**
+     * Records which Actor is standing on a Location of this map.
+     * <p>
+     * This only updates the occupancy grid and the {@linkplain #getActorIndex()
+     * actor index}, to match what {@link ActorLocationsIterator} has already
+     * recorded; it is only for it to call. To place, move or remove an Actor use
+     * {@link #addActor(Actor, Location)}, {@link #moveActor(Actor, Location)} or
+     * {@link #removeActor(Actor)} instead.
+     *
+     * @param location a Location on this map
+     * @param actor the Actor now standing there, or null if it is now empty
+     * @throws IllegalStateException if that is not where the Actors are recorded to be
+     */
+    public void setOccupant(Location location, Actor actor) {
+        int i = location.x() + location.y() * width;
+        Actor previous = occupants[i];
+        checkOccupant(location, previous, actor);
+        actorIndex.occupantChanged(location, previous, actor);
+        occupants[i] = actor;
+        if (actor == null && previous != null) {
+            dropDistanceFieldIfGone(previous);
+        }
+    }
+
+    /**
+     * Make sure a change to the occupancy grid agrees with the World's record of
+     * where each Actor is, so the grid and the actor index cannot drift from it.
+     *
+     * @param location the Location whose occupant is changing
+     * @param previous the Actor standing there until now, or null
+     * @param actor the Actor standing there from now on, or null
+     * @throws IllegalStateException if the change does not match the record
+     */
+    void checkOccupant(Location location, Actor previous, Actor actor) {
+        boolean recorded = actor != null
+                ? location.equals(actorLocations.locationOf(actor))
+                : previous == null || !location.equals(actorLocations.locationOf(previous));
+        if (!recorded) {
+            throw new IllegalStateException("The occupant of " + location + " can only be changed through "
+                    + "addActor, moveActor or removeActor");
+        }
+    }
+
+    /**
+     * The index of where the Actors on this map stand, for finding those within
+     * a distance of a Location, or nearest to it, without looking at every tile.
+     *
+     * @return the index, which is kept up to date as Actors come, go and move
+     */
+    public SpatialIndex getActorIndex() {
+        return actorIndex;
+    }
+
     /**
      * Add a new Actor at the given Location.
      *
@@ -274,6 +644,11 @@ public class GameMap {
      */
     public void addActor(Actor actor, Location location) throws GameEngineException {
         Objects.requireNonNull(actor);
+        List<PendingChanges.Change> pending = PendingChanges.current();
+        if (pending != null) {
+            pending.add(() -> addActor(actor, location));
+            return;
+        }
         actorLocations.add(actor, location);
     }
 
@@ -284,6 +659,11 @@ public class GameMap {
      */
     public void removeActor(Actor actor) {
         Objects.requireNonNull(actor);
+        List<PendingChanges.Change> pending = PendingChanges.current();
+        if (pending != null) {
+            pending.add(() -> removeActor(actor));
+            return;
+        }
         actorLocations.remove(actor);
     }
 
@@ -297,6 +677,11 @@ public class GameMap {
      */
     public void moveActor(Actor actor, Location newLocation) {
         Objects.requireNonNull(actor);
+        List<PendingChanges.Change> pending = PendingChanges.current();
+        if (pending != null) {
+            pending.add(() -> moveActor(actor, newLocation));
+            return;
+        }
         actorLocations.move(actor, newLocation);
     }
 
@@ -4,18 +4,54 @@ import edu.monash.fit2099.engine.GameEngineException;
 import edu.monash.fit2099.engine.GameEntity;
 import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.capabilities.AbilityListener;
+import edu.monash.fit2099.engine.capabilities.Status;
 import edu.monash.fit2099.engine.displays.Printable;
 
+import java.util.function.Supplier;
+
 /**
  * Class representing terrain type
+ * <p>
+ * Terrain with no state of its own, such as plain snow, can be registered with
+ * {@link GroundCreator#registerSharedGround} so that one instance covers every
+ * tile of that kind. A shared Ground cannot be changed: {@link #addStatus},
+ * {@link #enableAbility}, {@link #disableAbility} and {@link #addAbilityListener}
+ * throw {@link IllegalStateException} on it. Change a tile's Ground through
+ * {@link Location#addGroundStatus}, {@link Location#enableGroundAbility} and
+ * {@link Location#disableGroundAbility}, which give the tile a copy of its own
+ * first, or get that copy with {@link Location#ownGround()}.
  *
  * @author Riordan Alfredo
  * @author Adrian Kristanto
  */
 public abstract class Ground extends GameEntity implements Printable {
 
+    /**
+     * Whether each Ground class overrides {@link #tick(Location)}. Worked out once per class.
+     */
+    private static final ClassValue<Boolean> OVERRIDES_TICK = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("tick", Location.class).getDeclaringClass() != Ground.class;
+            } catch (NoSuchMethodException e) {
+                return true;
+            }
+        }
+    };
+
     private final char displayChar;
     private final String name;
+    /**
+     * The Location this Ground was last placed on, so that it can ask to be ticked.
+     */
+    private Location location;
+    /**
+     * Makes a copy of this Ground for a single Location, if it is shared between
+     * many; otherwise null.
+     */
+    private Supplier<? extends Ground> copier;
 
     /**
      * Constructor.
@@ -57,12 +93,125 @@ public abstract class Ground extends GameEntity implements Printable {
 
     /**
      * Ground can also experience the joy of time.
+     * <p>
+     * Only Locations that need it are ticked; see {@link #needsTick()}.
      *
      * @param location The location of the Ground
      */
     public void tick(Location location) throws GameEngineException {
     }
 
+    /**
+     * Make up for turns this Ground was not ticked, all at once.
+     * <p>
+     * A {@link ChunkedGameMap} stops ticking the parts of the map that no Actor
+     * is near, and calls this when something comes back. A World can likewise
+     * leave maps without the player behind; see
+     * {@link World#setOffscreenTickInterval(int)}. Override it to move
+     * any counters or timers on by that many turns, and to do, at most once or
+     * twice, what ticking would have done in the meantime. By default the
+     * Ground carries on as if no time had passed.
+     *
+     * @param location the location of the Ground
+     * @param turns how many turns were missed; always at least one
+     */
+    public void catchUp(Location location, int turns) throws GameEngineException {
+    }
+
+    /**
+     * Returns true if this Ground has to be ticked every turn.
+     * <p>
+     * By default that is when its class overrides {@link #tick(Location)} or it
+     * has statuses. Override this if tick only does something in states the
+     * Ground can tell you about.
+     *
+     * @return true if this Ground must be ticked
+     */
+    public boolean needsTick() {
+        return OVERRIDES_TICK.get(getClass()) || !statuses().isEmpty();
+    }
+
+    /**
+     * Adds a status effect, and makes sure the Location this Ground is on gets
+     * ticked so that the status does too.
+     *
+     * @param status the status effect to add
+     * @throws IllegalStateException if this Ground is shared; see {@link Location#addGroundStatus}
+     */
+    @Override
+    public void addStatus(Status status) {
+        checkNotShared();
+        super.addStatus(status);
+        if (location != null && location.getGround() == this) {
+            location.map().scheduleTick(location);
+        }
+    }
+
+    @Override
+    public void enableAbility(Enum<?> ability) {
+        checkNotShared();
+        super.enableAbility(ability);
+    }
+
+    @Override
+    public void disableAbility(Enum<?> ability) {
+        checkNotShared();
+        super.disableAbility(ability);
+    }
+
+    @Override
+    public void addAbilityListener(AbilityListener listener) {
+        checkNotShared();
+        super.addAbilityListener(listener);
+    }
+
+    /**
+     * @return true if this one instance covers many Locations
+     * @see GroundCreator#registerSharedGround
+     */
+    public boolean isShared() {
+        return copier != null;
+    }
+
+    /**
+     * Share this Ground between Locations from now on.
+     *
+     * @param copier makes a copy for a Location whose Ground has to change
+     */
+    void share(Supplier<? extends Ground> copier) {
+        this.copier = copier;
+        this.location = null;
+    }
+
+    /**
+     * @return a new Ground, not shared, to take the place of this shared one on a single Location
+     */
+    Ground unsharedCopy() {
+        Ground copy = copier.get();
+        if (copy == this || copy.isShared() || copy.getClass() != getClass()) {
+            throw new IllegalStateException("The supplier for shared " + name + " must make a new " + getClass().getSimpleName() + " each time");
+        }
+        return copy;
+    }
+
+    private void checkNotShared() {
+        if (copier != null) {
+            throw new IllegalStateException(name + " is shared between Locations and cannot be changed; change it through its Location, e.g. Location.addGroundStatus, or use Location.ownGround() first");
+        }
+    }
+
+    /**
+     * Called by {@link Location#setGround(Ground)}. A shared Ground does not
+     * remember where it is, since it is everywhere.
+     *
+     * @param location the Location this Ground now covers
+     */
+    void placedAt(Location location) {
+        if (copier == null) {
+            this.location = location;
+        }
+    }
+
     /**
      * Override this to implement terrain that blocks thrown objects but not
      * movement, or vice versa
@@ -13,4 +13,18 @@ public interface GroundCreator {
 	void registerGround(char displayChar, Supplier<? extends Ground> groundSupplier) throws GameEngineException;
 	
 	Ground createGround(char displayChar) throws GameEngineException;
+
+	/**
+	 * Registers a display character to a Ground with no state of its own, such as
+	 * plain snow, one instance of which can cover every tile it appears on.
+	 * Creators that do not share Grounds make a new one for each tile instead.
+	 *
+	 * @param displayChar character that represents this Ground in the game interface
+	 * @param groundSupplier makes a new instance each time it is called
+	 * @throws GameEngineException if the character is already registered, or the Ground cannot be shared
+	 * @see Location#ownGround()
+	 */
+	default void registerSharedGround(char displayChar, Supplier<? extends Ground> groundSupplier) throws GameEngineException {
+		registerGround(displayChar, groundSupplier);
+	}
 }
@@ -3,9 +3,11 @@ package edu.monash.fit2099.engine.positions;
 import edu.monash.fit2099.engine.GameEngineException;
 import edu.monash.fit2099.engine.actions.MoveActorAction;
 import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.capabilities.Status;
 import edu.monash.fit2099.engine.displays.Printable;
 import edu.monash.fit2099.engine.items.Item;
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * Class representing a location in the game map. This includes keeping track of
@@ -15,13 +17,37 @@ import java.util.*;
  */
 public class Location implements Printable {
 
+    /**
+     * Whether each Location class overrides {@link #tick()}. Worked out once per class.
+     */
+    private static final ClassValue<Boolean> OVERRIDES_TICK = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("tick").getDeclaringClass() != Location.class;
+            } catch (NoSuchMethodException e) {
+                return true;
+            }
+        }
+    };
+
     private final GameMap map;
     private final int x;
     private final int y;
 
     private final List<Item> items = new ArrayList<>();
     private Ground ground;
-    private final List<Exit> exits = new ArrayList<>();
+    /**
+     * An explicit list of exits, or null to use the map's default exits to the
+     * neighbouring tiles. Only created once {@link #addExit(Exit)} or
+     * {@link #removeExit(Exit)} is called.
+     */
+    private List<Exit> exitOverrides;
+    /**
+     * The map's default exits from this Location, kept the first time they are
+     * asked for. Only tiles something has looked around from pay for them.
+     */
+    private List<Exit> defaultExits;
 
     /**
      * Constructor.
@@ -92,31 +118,66 @@ public class Location implements Printable {
      */
     public <T> List<T> getItemsAs(Class<T> capability) {
         List<T> result = new ArrayList<>();
-        for (Item item : items) {
-            if(item != null) {
-                item.asCapability(capability).ifPresent(result::add);
+        forEachItemAs(capability, result::add);
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Visits each item in this location that has the given capability, without
+     * building a list of them. Items are visited in the same order as
+     * {@link #getItemsAs(Class)} returns them. The visitor must not add or
+     * remove items here.
+     *
+     * @param capability the capability to look for
+     * @param visitor    called with each item, as a T
+     * @param <T>        the type of the capability
+     */
+    public <T> void forEachItemAs(Class<T> capability, Consumer<? super T> visitor) {
+        for (int i = 0; i < items.size(); i++) {
+            Item item = items.get(i);
+            if (item != null) {
+                T found = item.findCapability(capability);
+                if (found != null) {
+                    visitor.accept(found);
+                }
             }
         }
-        return Collections.unmodifiableList(result);
     }
 
     /**
      * Add an item to this location.
+     * <p>
+     * During a parallel tick (see {@link GameMap#setTickPool}) the change is
+     * made once every stripe has finished.
      *
      * @param item the item to add
      */
     public void addItem(Item item) {
         Objects.requireNonNull(item);
+        List<PendingChanges.Change> pending = PendingChanges.current();
+        if (pending != null) {
+            pending.add(() -> addItem(item));
+            return;
+        }
         items.add(item);
+        map.scheduleTick(this);
     }
 
     /**
      * Remove an item from this location, if it is here.
+     * <p>
+     * During a parallel tick (see {@link GameMap#setTickPool}) the change is
+     * made once every stripe has finished.
      *
      * @param item the item to remove
      */
     public void removeItem(Item item) {
         Objects.requireNonNull(item);
+        List<PendingChanges.Change> pending = PendingChanges.current();
+        if (pending != null) {
+            pending.add(() -> removeItem(item));
+            return;
+        }
         items.remove(item);
     }
 
@@ -143,22 +204,117 @@ public class Location implements Printable {
         if(ground == null) {
             return null;
         }
-        return ground.asCapability(capability).orElse(null);
+        return ground.findCapability(capability);
+    }
+
+    /**
+     * The Ground at this Location, ready to be changed. If it is
+     * {@linkplain Ground#isShared() shared} with other Locations, it is first
+     * replaced here by a copy of its own, so that giving it a status or ability
+     * changes this Location only.
+     *
+     * @return a Ground that belongs to this Location alone
+     */
+    public Ground ownGround() {
+        if (ground.isShared()) {
+            Ground copy = ground.unsharedCopy();
+            setGround(copy);
+            return copy;
+        }
+        return ground;
+    }
+
+    /**
+     * Give the Ground at this Location a status, splitting it off with
+     * {@link #ownGround()} first if it is shared, so the other Locations that
+     * share it are left alone. Use this rather than
+     * {@code getGround().addStatus(status)}, which throws on a shared Ground.
+     * <p>
+     * During a parallel tick (see {@link GameMap#setTickPool}) the change is
+     * made once every stripe has finished.
+     *
+     * @param status the status effect to add
+     */
+    public void addGroundStatus(Status status) {
+        List<PendingChanges.Change> pending = PendingChanges.current();
+        if (pending != null) {
+            pending.add(() -> addGroundStatus(status));
+            return;
+        }
+        ownGround().addStatus(status);
+    }
+
+    /**
+     * Give the Ground at this Location an ability, splitting it off first if
+     * it is shared; see {@link #addGroundStatus(Status)}.
+     *
+     * @param ability the ability to enable
+     */
+    public void enableGroundAbility(Enum<?> ability) {
+        List<PendingChanges.Change> pending = PendingChanges.current();
+        if (pending != null) {
+            pending.add(() -> enableGroundAbility(ability));
+            return;
+        }
+        ownGround().enableAbility(ability);
+    }
+
+    /**
+     * Take an ability away from the Ground at this Location, splitting it off
+     * first if it is shared; see {@link #addGroundStatus(Status)}.
+     *
+     * @param ability the ability to disable
+     */
+    public void disableGroundAbility(Enum<?> ability) {
+        List<PendingChanges.Change> pending = PendingChanges.current();
+        if (pending != null) {
+            pending.add(() -> disableGroundAbility(ability));
+            return;
+        }
+        if (ground.hasAbility(ability)) {
+            ownGround().disableAbility(ability);
+        }
     }
 
     /**
      * Set the Ground type at the given Location
+     * <p>
+     * During a parallel tick (see {@link GameMap#setTickPool}) the change is
+     * made once every stripe has finished.
      *
      * @param ground Ground type to set
      */
     public void setGround(Ground ground) {
+        List<PendingChanges.Change> pending = PendingChanges.current();
+        if (pending != null) {
+            pending.add(() -> setGround(ground));
+            return;
+        }
+        this.ground = ground;
+        ground.placedAt(this);
+        if (needsTick()) {
+            map.scheduleTick(this);
+        }
+        map.passabilityChanged(this);
+    }
+
+    /**
+     * Put the first Ground on a Location that is still being made, straight away
+     * even while changes are being held back. The caller schedules any tick.
+     *
+     * @param ground the Ground
+     */
+    void placeGround(Ground ground) {
         this.ground = ground;
+        ground.placedAt(this);
     }
 
     /**
      * Called once per turn, so that Locations can experience the passage time.
      * If that's important to them. All items on this ground will also
      * experience time.
+     * <p>
+     * The map only calls this while {@link #needsTick()} is true.
      */
     public void tick() throws GameEngineException {
         ground.tick(this);
@@ -169,13 +325,27 @@ public class Location implements Printable {
         }
     }
 
+    /**
+     * Returns true if this Location has anything that must be ticked: items, a
+     * Ground that {@linkplain Ground#needsTick() needs it}, or a subclass that
+     * overrides {@link #tick()}.
+     * <p>
+     * The map stops ticking a Location once this returns false after a tick.
+     * Adding an item or setting the ground schedules it again.
+     *
+     * @return true if this Location must be ticked
+     */
+    protected boolean needsTick() {
+        return !items.isEmpty() || ground.needsTick() || OVERRIDES_TICK.get(getClass());
+    }
+
     /**
      * Accessor to determine whether there is an Actor at this location.
      *
      * @return true if and only if there is an Actor at this location.
      */
     public boolean containsAnActor() {
-        return map.isAnActorAt(this);
+        return map.getActorAt(x, y) != null;
     }
 
     /**
@@ -184,7 +354,7 @@ public class Location implements Printable {
      * @return the Actor at this location, if there is one
      */
     public Actor getActor() {
-        return map.getActorAt(this);
+        return map.getActorAt(x, y);
     }
 
 
@@ -197,11 +367,11 @@ public class Location implements Printable {
      * @return the actor as the specified type, or null if not available
      */
     public final <T> T getActorAs(Class<T> type) {
-        Actor actor = map.getActorAt(this);
+        Actor actor = map.getActorAt(x, y);
         if (actor == null) {
             return null;
         }
-        return actor.asCapability(type).orElse(null);
+        return actor.findCapability(type);
     }
 
     /**
@@ -243,7 +413,7 @@ public class Location implements Printable {
      * @return true if the Actor can enter this location
      */
     public boolean canActorEnter(Actor actor) {
-        return !map.isAnActorAt(this) && ground.canActorEnter(actor);
+        return map.getActorAt(x, y) == null && ground.canActorEnter(actor);
     }
 
     /**
@@ -259,8 +429,9 @@ public class Location implements Printable {
     public char getDisplayChar() {
         Printable thing;
 
-        if (this.containsAnActor()) {
-            thing = this.getActor();
+        Actor actor = map.getActorAt(x, y);
+        if (actor != null) {
+            thing = actor;
         } else if (!items.isEmpty()) {
             thing = items.get(items.size() - 1);
         } else {
@@ -282,11 +453,23 @@ public class Location implements Printable {
 
     /**
      * Returns an unmodifiable list of exits.
+     * <p>
+     * Unless exits have been added or removed, these are the exits to each
+     * neighbouring tile, starting North and going clockwise.
      *
      * @return an unmodifiable list of exits
      */
     public List<Exit> getExits() {
-        return Collections.unmodifiableList(exits);
+        if (exitOverrides != null) {
+            return Collections.unmodifiableList(exitOverrides);
+        }
+        // Immutable, so a race between two threads asking at once only builds the list twice
+        List<Exit> exits = defaultExits;
+        if (exits == null) {
+            exits = map.exitsFrom(this);
+            defaultExits = exits;
+        }
+        return exits;
     }
 
     /**
@@ -321,25 +504,40 @@ public class Location implements Printable {
     }
 
     /**
-     * Add an exit to this Location.
+     * Add an exit to this Location, e.g. a door to another map.
      * <p>
-     * This method is used in GameMap to initialize the Location's exits.
+     * From then on this Location keeps its own list of exits instead of
+     * sharing the map's defaults.
      *
      * @param exit the exit to add
      */
     public void addExit(Exit exit) {
-        exits.add(exit);
+        overriddenExits().add(exit);
     }
 
     /**
      * Remove an exit from this Location.
      * <p>
-     * This method is used in GameMap to initialize the Location's exits.
+     * From then on this Location keeps its own list of exits instead of
+     * sharing the map's defaults.
      *
      * @param exit the exit to remove
      */
     public void removeExit(Exit exit) {
-        exits.remove(exit);
+        overriddenExits().remove(exit);
+    }
+
+    /**
+     * Copy the current exits into a list of our own, the first time they are changed.
+     *
+     * @return the modifiable list of exits
+     */
+    private List<Exit> overriddenExits() {
+        if (exitOverrides == null) {
+            exitOverrides = new ArrayList<>(getExits());
+            defaultExits = null;
+        }
+        return exitOverrides;
     }
 
     /**
@@ -0,0 +1,253 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.GameEngineException;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads map files straight into a GameMap, a row at a time; see {@link GameMap#GameMap(String, GroundCreator, String)}.
+ * <p>
+ * Two kinds of file are read. A text map has one line per row, one ASCII
+ * character per tile, with either kind of line ending. It is read twice through
+ * a small buffer, once to find its size and once to make the Grounds, so the
+ * file is never held in memory as Strings.
+ * <p>
+ * A run-length map, made from a text map by {@link GameMap#compressMapFile},
+ * starts with {@link #RUN_LENGTH_MAGIC}, whose first byte can never start a text
+ * map, and the width and height, followed by
+ * runs of the same character, each a character byte and a count, covering the
+ * tiles row by row. Runs carry on from one row to the next. Large stretches of
+ * the same terrain take a few bytes, and the Grounds are made from the runs
+ * without turning them back into text.
+ */
+final class MapFile {
+	static final int RUN_LENGTH_MAGIC = 0x89464D52;
+	static final int RUN_LENGTH_VERSION = 1;
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private MapFile() {
+	}
+
+	/**
+	 * Size the map to fit the file, and fill it with Grounds.
+	 *
+	 * @param map the GameMap being made
+	 * @param groundCreator makes the Ground for each character
+	 * @param file a text or run-length map
+	 * @throws IOException if the file cannot be read, or is not a well formed map
+	 * @throws GameEngineException if the file uses a character that has no Ground
+	 */
+	static void load(GameMap map, GroundCreator groundCreator, Path file) throws IOException, GameEngineException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			Bytes in = new Bytes(channel);
+			if (channel.size() >= 4 && in.readInt() == RUN_LENGTH_MAGIC) {
+				loadRunLength(map, groundCreator, in, file);
+			} else {
+				in.rewind();
+				loadText(map, groundCreator, in, file);
+			}
+		}
+	}
+
+	/**
+	 * Write a text map as a run-length map.
+	 *
+	 * @param textMap the text map to read
+	 * @param runLengthMap the file to write
+	 * @throws IOException if either file cannot be used, or the text map is not well formed
+	 */
+	static void compress(Path textMap, Path runLengthMap) throws IOException {
+		try (FileChannel channel = FileChannel.open(textMap, StandardOpenOption.READ);
+			 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(runLengthMap), BUFFER_SIZE))) {
+			Bytes in = new Bytes(channel);
+			long size = textSize(in, textMap);
+			int width = (int) (size >>> 32);
+			int height = (int) size;
+			out.writeInt(RUN_LENGTH_MAGIC);
+			out.writeByte(RUN_LENGTH_VERSION);
+			out.writeInt(width);
+			out.writeInt(height);
+
+			in.rewind();
+			int runChar = -1;
+			long runLength = 0;
+			for (int y = 0; y < height; y++) {
+				for (int x = 0; x < width; x++) {
+					int c = in.next();
+					if (c == runChar) {
+						runLength++;
+					} else {
+						writeRun(out, runChar, runLength);
+						runChar = c;
+						runLength = 1;
+					}
+				}
+				in.skipLine();
+			}
+			writeRun(out, runChar, runLength);
+		}
+	}
+
+	private static void loadText(GameMap map, GroundCreator groundCreator, Bytes in, Path file) throws IOException, GameEngineException {
+		long size = textSize(in, file);
+		int width = (int) (size >>> 32);
+		int height = (int) size;
+		map.initMap(width, height);
+
+		in.rewind();
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				map.at(x, y).setGround(groundCreator.createGround((char) in.next()));
+			}
+			in.skipLine();
+		}
+	}
+
+	private static void loadRunLength(GameMap map, GroundCreator groundCreator, Bytes in, Path file) throws IOException, GameEngineException {
+		int version = in.next();
+		if (version != RUN_LENGTH_VERSION)
+			throw new StreamCorruptedException(file + " is a version " + version + " run-length map; expected version " + RUN_LENGTH_VERSION);
+		int width = in.readInt();
+		int height = in.readInt();
+		if (width <= 0 || height <= 0)
+			throw new StreamCorruptedException(file + " claims to be " + width + " by " + height);
+		map.initMap(width, height);
+
+		long tiles = (long) width * height;
+		long done = 0;
+		while (done < tiles) {
+			char c = (char) in.next();
+			long runLength = in.readCount();
+			if (runLength <= 0 || runLength > tiles - done)
+				throw new StreamCorruptedException(file + " has a run of " + runLength + " where " + (tiles - done) + " tiles are left");
+			for (long end = done + runLength; done < end; done++) {
+				map.at((int) (done % width), (int) (done / width)).setGround(groundCreator.createGround(c));
+			}
+		}
+		if (in.hasMore())
+			throw new StreamCorruptedException(file + " has more runs than tiles");
+	}
+
+	/**
+	 * Read a text map through once to find its size, checking every row is wide enough.
+	 *
+	 * @return the width in the top half and the height in the bottom
+	 */
+	private static long textSize(Bytes in, Path file) throws IOException {
+		int width = -1;
+		int height = 0;
+		while (in.hasMore()) {
+			int rowWidth = 0;
+			while (in.hasMore()) {
+				int c = in.next();
+				if (c == '\n')
+					break;
+				if (c == '\r' && in.peek() == '\n')
+					continue;
+				if (c >= 0x80)
+					throw new StreamCorruptedException("Row " + height + " of " + file + " has a character that is not ASCII");
+				rowWidth++;
+			}
+			if (width < 0) {
+				width = rowWidth;
+			} else if (rowWidth < width) {
+				throw new StreamCorruptedException("Row " + height + " of " + file + " is " + rowWidth + " characters wide; expected " + width);
+			}
+			height++;
+		}
+		if (width <= 0)
+			throw new StreamCorruptedException(file + " has no tiles");
+		return (long) width << 32 | height;
+	}
+
+	private static void writeRun(DataOutputStream out, int c, long length) throws IOException {
+		if (length == 0)
+			return;
+		out.writeByte(c);
+		while ((length & ~0x7FL) != 0) {
+			out.writeByte((int) (length & 0x7F) | 0x80);
+			length >>>= 7;
+		}
+		out.writeByte((int) length);
+	}
+
+	/**
+	 * The bytes of a file, read through one fixed-size buffer.
+	 */
+	private static class Bytes {
+		private final FileChannel channel;
+		private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+		Bytes(FileChannel channel) {
+			this.channel = channel;
+			buffer.limit(0);
+		}
+
+		void rewind() throws IOException {
+			channel.position(0);
+			buffer.limit(0);
+		}
+
+		boolean hasMore() throws IOException {
+			return buffer.hasRemaining() || fill();
+		}
+
+		int next() throws IOException {
+			if (!hasMore())
+				throw new EOFException("Map file ended early");
+			return buffer.get() & 0xFF;
+		}
+
+		/**
+		 * @return the next byte without reading past it, or -1 at the end of the file
+		 */
+		int peek() throws IOException {
+			return hasMore() ? buffer.get(buffer.position()) & 0xFF : -1;
+		}
+
+		/**
+		 * Skip whatever is left of a text row, including its line ending.
+		 */
+		void skipLine() throws IOException {
+			while (hasMore()) {
+				if (next() == '\n')
+					return;
+			}
+		}
+
+		int readInt() throws IOException {
+			return next() << 24 | next() << 16 | next() << 8 | next();
+		}
+
+		long readCount() throws IOException {
+			long value = 0;
+			for (int shift = 0; shift < 64; shift += 7) {
+				int b = next();
+				value |= (long) (b & 0x7F) << shift;
+				if (b < 0x80)
+					return value;
+			}
+			throw new StreamCorruptedException("Malformed run length in map file");
+		}
+
+		private boolean fill() throws IOException {
+			buffer.clear();
+			int read;
+			do {
+				read = channel.read(buffer);
+			} while (read == 0);
+			buffer.flip();
+			return read > 0;
+		}
+	}
+}
@@ -1,10 +1,8 @@
 package edu.monash.fit2099.engine.positions;
 
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Iterator;
-import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
 import java.util.stream.IntStream;
 
 /**
@@ -12,38 +10,88 @@ import java.util.stream.IntStream;
  * Counted for loops can cause off by one error, and using this class can
  * let you use enhanced for loops instead. Python programmers should be familiar
  * with this idiom.
+ * <p>
+ * Only the first number and the count are stored, so {@link #min()},
+ * {@link #max()} and {@link #contains(int)} take constant time however large
+ * the range is. Code that cannot afford boxing can call
+ * {@link PrimitiveIterator.OfInt#nextInt()} on the iterator, or loop from
+ * {@link #min()} to {@link #max()} inclusive.
  * @author Riordan Alfredo
  */
 public class NumberRange implements Iterable<Integer> {
 
-	private List<Integer> list;
+	private final int start;
+	private final int count;
 
 	public NumberRange(int start, int count) {
-		// Iterators can be used to remove elements. Who knew?
-		List<Integer> innerList = new ArrayList<Integer>();
-		list = Collections.unmodifiableList(innerList);
-		innerList.addAll(IntStream.range(start, start + count).boxed().toList());
+		this.start = start;
+		this.count = Math.max(0, count);
 	}
 
+	/**
+	 * Returns an iterator over the range, in ascending order.
+	 * The iterator does not support removal.
+	 *
+	 * @return an iterator that can also hand out unboxed ints
+	 */
 	@Override
-	public Iterator<Integer> iterator() {
-		return list.iterator();
+	public PrimitiveIterator.OfInt iterator() {
+		return new PrimitiveIterator.OfInt() {
+			private int next = start;
+
+			@Override
+			public boolean hasNext() {
+				return next < start + count;
+			}
+
+			@Override
+			public int nextInt() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return next++;
+			}
+		};
+	}
+
+	/**
+	 * Returns the range as an IntStream.
+	 * @return a sequential stream of the ints in the range
+	 */
+	public IntStream stream() {
+		return IntStream.range(start, start + count);
 	}
 
 	/**
 	 * Return the smallest int in the range.
 	 * @return the smallest int in the range.
+	 * @throws NoSuchElementException if the range is empty
 	 */
 	public int min() {
-		return list.get(0);
+		if (count == 0) {
+			throw new NoSuchElementException("Empty range");
+		}
+		return start;
 	}
 
 	/**
 	 * Return the largest int in the range.
 	 * @return the largest int in the range.
+	 * @throws NoSuchElementException if the range is empty
 	 */
 	public int max() {
-		return list.get(list.size() - 1);
+		if (count == 0) {
+			throw new NoSuchElementException("Empty range");
+		}
+		return start + count - 1;
+	}
+
+	/**
+	 * Return how many ints are in the range.
+	 * @return the number of ints in the range
+	 */
+	public int size() {
+		return count;
 	}
 
 	/**
@@ -53,7 +101,7 @@ public class NumberRange implements Iterable<Integer> {
 	 * @return true if i lies between min and max, false otherwise.
 	 */
 	public boolean contains(int i) {
-		return list.contains(i);
+		return i >= start && (long) i - start < count;
 	}
 
 }
@@ -0,0 +1,69 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.GameEngineException;
+
+import java.util.List;
+
+/**
+ * Changes to the game world held back while work runs on several threads.
+ * <p>
+ * While a thread is collecting, Locations and GameMaps queue changes that
+ * other threads could see (setting a Ground, adding or removing an item,
+ * scheduling a tile, adding, moving or removing an Actor) instead of making
+ * them. Whoever started the collection applies the queue later, on one thread,
+ * in an order that does not depend on how the threads were scheduled.
+ */
+final class PendingChanges {
+
+	/**
+	 * The queue the current thread is collecting into, or null if changes are made straight away.
+	 */
+	private static final ThreadLocal<List<Change>> CURRENT = new ThreadLocal<>();
+
+	/**
+	 * A change to the world that has been held back.
+	 */
+	interface Change {
+		void apply() throws GameEngineException;
+	}
+
+	private PendingChanges() {
+	}
+
+	/**
+	 * Returns the queue that changes made by the current thread should go into.
+	 *
+	 * @return the current queue, or null if the change can be made straight away
+	 */
+	static List<Change> current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Start queueing the current thread's changes.
+	 *
+	 * @param changes the queue to add them to
+	 */
+	static void collectInto(List<Change> changes) {
+		CURRENT.set(changes);
+	}
+
+	/**
+	 * Go back to making the current thread's changes straight away.
+	 */
+	static void stopCollecting() {
+		CURRENT.remove();
+	}
+
+	/**
+	 * Apply queued changes, in the order they were made.
+	 *
+	 * @param changes the changes to apply
+	 * @throws GameEngineException if one of them throws one
+	 */
+	static void applyAll(List<Change> changes) throws GameEngineException {
+		for (Change change : changes) {
+			change.apply();
+		}
+	}
+}
@@ -0,0 +1,249 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.actors.Actor;
+
+import java.util.Arrays;
+
+/**
+ * Where the Actors on a GameMap are, for finding those near a Location without
+ * looking at every tile or every Actor.
+ * <p>
+ * The map is cut into square buckets, and each bucket keeps the Actors standing
+ * in it. The map keeps its index up to date whenever an Actor is placed, moved
+ * or removed, so game code only asks it questions; see {@link GameMap#getActorIndex()}.
+ * <p>
+ * Distances are counted in steps, where a diagonal step counts as one, so the
+ * Actors within 1 of a Location are those on it and on its eight neighbours.
+ * Answers are handed to a {@link Visitor} one Actor at a time, and asking
+ * allocates nothing. Only Actors that are instances of the given type are
+ * visited; pass {@code Actor.class} for all of them, or a capability interface
+ * or class, such as a game's {@code Player}, to narrow the search.
+ * <p>
+ * An Actor must not be moved, added or removed from inside a visitor.
+ */
+public class SpatialIndex {
+
+    /**
+     * Told about each Actor a query finds.
+     *
+     * @param <T> the type of Actor asked for
+     */
+    @FunctionalInterface
+    public interface Visitor<T> {
+        /**
+         * @param actor an Actor that was found
+         * @param location where it stands
+         * @return true to carry on, or false to end the query here
+         */
+        boolean visit(T actor, Location location);
+    }
+
+    private static final Visitor<Object> COUNT_ALL = (actor, location) -> true;
+    private static final int MIN_BUCKET_SHIFT = 3;
+    /**
+     * Buckets are made bigger on maps so large that more than this many would be needed.
+     */
+    private static final int MAX_BUCKETS = 1 << 20;
+
+    private final int width;
+    private final int height;
+    private final int bucketShift;
+    private final int bucketsWide;
+    private final int bucketsHigh;
+    /**
+     * Indexed by {@code bx + by * bucketsWide}; null until an Actor first stands in it.
+     */
+    private final Bucket[] buckets;
+    private int size;
+
+    /**
+     * Constructor.
+     *
+     * @param width width of the map, in tiles
+     * @param height height of the map, in tiles
+     */
+    SpatialIndex(int width, int height) {
+        this.width = width;
+        this.height = height;
+        int shift = MIN_BUCKET_SHIFT;
+        while ((long) bucketsFor(width, shift) * bucketsFor(height, shift) > MAX_BUCKETS) {
+            shift++;
+        }
+        this.bucketShift = shift;
+        this.bucketsWide = bucketsFor(width, shift);
+        this.bucketsHigh = bucketsFor(height, shift);
+        this.buckets = new Bucket[bucketsWide * bucketsHigh];
+    }
+
+    /**
+     * @return how many Actors are on the map
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Visit the Actors of a type within a distance of a Location, including any
+     * on the Location itself, in no particular order.
+     *
+     * @param centre where to measure from; a Location on this map
+     * @param radius how many steps away to look
+     * @param type the class or interface the Actors must be instances of
+     * @param visitor told about each Actor found
+     * @param <T> the type of Actor asked for
+     * @return how many Actors were visited
+     */
+    public <T> int forEachWithin(Location centre, int radius, Class<T> type, Visitor<? super T> visitor) {
+        int visited = visitRect(centre.x() - radius, centre.x() + radius, centre.y() - radius, centre.y() + radius,
+                type, visitor, Integer.MAX_VALUE);
+        return visited < 0 ? ~visited : visited;
+    }
+
+    /**
+     * Count the Actors of a type within a distance of a Location, including any
+     * on the Location itself.
+     *
+     * @param centre where to measure from; a Location on this map
+     * @param radius how many steps away to look
+     * @param type the class or interface the Actors must be instances of
+     * @return how many there are
+     */
+    public int countWithin(Location centre, int radius, Class<?> type) {
+        return forEachWithin(centre, radius, type, COUNT_ALL);
+    }
+
+    /**
+     * Visit the nearest Actors of a type to a Location, nearest first, including
+     * any on the Location itself. Actors the same distance away come in no
+     * particular order.
+     *
+     * @param centre where to measure from; a Location on this map
+     * @param k the most Actors to visit
+     * @param maxRadius how many steps away to look, at most
+     * @param type the class or interface the Actors must be instances of
+     * @param visitor told about each Actor found
+     * @param <T> the type of Actor asked for
+     * @return how many Actors were visited
+     */
+    public <T> int forEachNearest(Location centre, int k, int maxRadius, Class<T> type, Visitor<? super T> visitor) {
+        int cx = centre.x();
+        int cy = centre.y();
+        // Rings further out than the furthest corner of the map are empty
+        int lastRing = Math.min(maxRadius, Math.max(Math.max(cx, width - 1 - cx), Math.max(cy, height - 1 - cy)));
+        int visited = 0;
+        for (int d = 0; d <= lastRing && visited < k && size > 0; d++) {
+            // The ring d steps out: its top and bottom rows, then its sides without the corners
+            for (int side = 0; side < (d == 0 ? 1 : 4) && visited < k; side++) {
+                int found = switch (side) {
+                    case 0 -> visitRect(cx - d, cx + d, cy - d, cy - d, type, visitor, k - visited);
+                    case 1 -> visitRect(cx - d, cx + d, cy + d, cy + d, type, visitor, k - visited);
+                    case 2 -> visitRect(cx - d, cx - d, cy - d + 1, cy + d - 1, type, visitor, k - visited);
+                    default -> visitRect(cx + d, cx + d, cy - d + 1, cy + d - 1, type, visitor, k - visited);
+                };
+                if (found < 0) {
+                    return visited + ~found;
+                }
+                visited += found;
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * Visit the Actors of a type standing in a rectangle, bucket by bucket.
+     *
+     * @param limit the most Actors to visit
+     * @return how many were visited, or the bitwise complement of that if the visitor ended the query
+     */
+    private <T> int visitRect(int minX, int maxX, int minY, int maxY, Class<T> type, Visitor<? super T> visitor, int limit) {
+        int visited = 0;
+        for (int by = Math.max(0, minY >> bucketShift); by <= Math.min(bucketsHigh - 1, maxY >> bucketShift); by++) {
+            for (int bx = Math.max(0, minX >> bucketShift); bx <= Math.min(bucketsWide - 1, maxX >> bucketShift); bx++) {
+                Bucket bucket = buckets[bx + by * bucketsWide];
+                if (bucket == null) {
+                    continue;
+                }
+                for (int i = 0; i < bucket.count; i++) {
+                    Location location = bucket.locations[i];
+                    Actor actor = bucket.actors[i];
+                    if (location.x() >= minX && location.x() <= maxX && location.y() >= minY && location.y() <= maxY
+                            && type.isInstance(actor)) {
+                        visited++;
+                        if (!visitor.visit(type.cast(actor), location)) {
+                            return ~visited;
+                        }
+                        if (visited == limit) {
+                            return visited;
+                        }
+                    }
+                }
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * Note that the Actor standing on a Location has changed.
+     *
+     * @param location the Location
+     * @param previous the Actor that stood there, or null
+     * @param actor the Actor that stands there now, or null
+     */
+    void occupantChanged(Location location, Actor previous, Actor actor) {
+        if (previous == actor) {
+            return;
+        }
+        int b = bucketIndex(location);
+        if (previous != null) {
+            buckets[b].remove(previous);
+            size--;
+        }
+        if (actor != null) {
+            if (buckets[b] == null) {
+                buckets[b] = new Bucket();
+            }
+            buckets[b].add(actor, location);
+            size++;
+        }
+    }
+
+    private int bucketIndex(Location location) {
+        return (location.x() >> bucketShift) + (location.y() >> bucketShift) * bucketsWide;
+    }
+
+    private static int bucketsFor(int tiles, int shift) {
+        return ((tiles - 1) >> shift) + 1;
+    }
+
+    /**
+     * The Actors standing in one bucket, and where, in two arrays that only grow.
+     */
+    private static final class Bucket {
+        private Actor[] actors = new Actor[2];
+        private Location[] locations = new Location[2];
+        private int count;
+
+        void add(Actor actor, Location location) {
+            if (count == actors.length) {
+                actors = Arrays.copyOf(actors, count * 2);
+                locations = Arrays.copyOf(locations, count * 2);
+            }
+            actors[count] = actor;
+            locations[count] = location;
+            count++;
+        }
+
+        void remove(Actor actor) {
+            for (int i = 0; i < count; i++) {
+                if (actors[i] == actor) {
+                    count--;
+                    actors[i] = actors[count];
+                    locations[i] = locations[count];
+                    actors[count] = null;
+                    locations[count] = null;
+                    return;
+                }
+            }
+        }
+    }
+}
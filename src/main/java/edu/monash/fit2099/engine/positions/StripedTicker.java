@@ -0,0 +1,149 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.GameEngineException;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Ticks the active tiles of a GameMap in row stripes on a ForkJoinPool.
+ * <p>
+ * While the stripes run, nothing that another stripe could see is changed:
+ * each stripe collects its changes as {@link PendingChanges}. Once every
+ * stripe is done, the queues are applied one stripe after another, top to
+ * bottom, on the calling thread. The result is the same
+ * whatever the number of threads, because each tile's changes end up applied
+ * in row by row order.
+ * <p>
+ * A tile's tick may still change the tile itself (its Ground's own fields, its
+ * items, the Actor standing on it), and may read other tiles, but should not
+ * rely on seeing another tile's Ground or statuses change during the tick.
+ */
+class StripedTicker {
+
+	/**
+	 * Stripes cut per worker thread, so that one busy stripe does not hold up the others.
+	 */
+	private static final int STRIPES_PER_THREAD = 4;
+
+	private final ForkJoinPool pool;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param pool the pool to run the stripes on
+	 */
+	StripedTicker(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Tick every active tile of the map once, then apply the queued changes.
+	 *
+	 * @param map the map to tick
+	 * @param activeTiles the map's active tiles, indexed by x + y * width; tiles
+	 *                    that no longer need ticking are cleared
+	 * @param width width of the map
+	 * @param height height of the map
+	 * @throws GameEngineException if a tile's tick or a queued change throws one
+	 */
+	void tick(GameMap map, BitSet activeTiles, int width, int height) throws GameEngineException {
+		int stripeCount = Math.max(1, Math.min(height, pool.getParallelism() * STRIPES_PER_THREAD));
+		List<Stripe> stripes = new ArrayList<>(stripeCount);
+		for (int s = 0; s < stripeCount; s++) {
+			int fromRow = s * height / stripeCount;
+			int toRow = (s + 1) * height / stripeCount;
+			stripes.add(new Stripe(map, activeTiles, width, fromRow * width, toRow * width));
+		}
+
+		runAll(pool, stripes, "ticking " + map);
+
+		// The barrier: everything below runs on the calling thread, in stripe order.
+		// Every stripe's idle tiles are dropped before any change is applied, so that a
+		// change scheduling a tile in a later stripe is not undone by that stripe's idle set.
+		for (Stripe stripe : stripes) {
+			activeTiles.andNot(stripe.idle);
+		}
+		for (Stripe stripe : stripes) {
+			PendingChanges.applyAll(stripe.changes);
+		}
+	}
+
+	/**
+	 * Run tasks on a pool and wait for all of them.
+	 *
+	 * @param pool the pool to run on
+	 * @param tasks the tasks to run
+	 * @param what what the tasks are doing, for the message if the wait is interrupted
+	 * @param <T> the type of the tasks' results
+	 * @return the results, in the same order as the tasks
+	 * @throws GameEngineException if a task throws one, or the wait is interrupted
+	 */
+	static <T> List<T> runAll(ForkJoinPool pool, List<? extends Callable<T>> tasks, String what) throws GameEngineException {
+		List<T> results = new ArrayList<>(tasks.size());
+		try {
+			for (Future<T> future : pool.invokeAll(tasks)) {
+				results.add(future.get());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new GameEngineException("Interrupted while " + what);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof GameEngineException) {
+				throw (GameEngineException) cause;
+			}
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IllegalStateException(cause);
+		}
+		return results;
+	}
+
+	/**
+	 * A band of whole rows, ticked by one thread.
+	 */
+	private static class Stripe implements Callable<Void> {
+		private final GameMap map;
+		private final BitSet activeTiles;
+		private final int width;
+		private final int from;
+		private final int to;
+		private final List<PendingChanges.Change> changes = new ArrayList<>();
+		private final BitSet idle = new BitSet();
+
+		Stripe(GameMap map, BitSet activeTiles, int width, int from, int to) {
+			this.map = map;
+			this.activeTiles = activeTiles;
+			this.width = width;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		public Void call() throws GameEngineException {
+			PendingChanges.collectInto(changes);
+			try {
+				for (int i = activeTiles.nextSetBit(from); i >= 0 && i < to; i = activeTiles.nextSetBit(i + 1)) {
+					Location here = map.at(i % width, i / width);
+					here.tick();
+					if (!here.needsTick()) {
+						idle.set(i);
+					}
+				}
+			} finally {
+				PendingChanges.stopCollecting();
+			}
+			return null;
+		}
+	}
+}
@@ -6,13 +6,24 @@ import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.actors.ActorLocationsIterator;
 import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.displays.RecordingDisplay;
 import edu.monash.fit2099.engine.GameEngineException;
 import edu.monash.fit2099.engine.items.Item;
+import edu.monash.fit2099.engine.metrics.LatencyHistogram;
+import edu.monash.fit2099.engine.metrics.TurnMetrics;
+import edu.monash.fit2099.engine.snapshots.Snapshottable;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 
 /**
  * Za Warudo! - DIO
@@ -22,11 +33,27 @@ import java.util.Objects;
  * @author Adrian Kristanto
  */
 public abstract class World {
+	private static final LatencyHistogram ALLOWABLE_ACTIONS_TIME = TurnMetrics.histogram("World.prepareAllowableActions");
+	private static final TurnMetrics.ByClass PLAY_TURN_TIME = TurnMetrics.byClass("Actor.playTurn");
+	private static final TurnMetrics.ByClass EXECUTE_TIME = TurnMetrics.byClass("Action.execute");
+
 	protected Display display;
 	protected ArrayList<GameMap> gameMaps = new ArrayList<>();
 	protected ActorLocationsIterator actorLocations = new ActorLocationsIterator();
 	protected Actor player; // We only draw the particular map this actor is on.
 	protected Map<Actor, Action> lastActionMap = new HashMap<>();
+	/**
+	 * Decides NPC turns in parallel, or null to give every Actor its whole turn in order.
+	 */
+	private ForkJoinPool decisionPool;
+	/**
+	 * How often the tiles of maps without the player are ticked; see {@link #setOffscreenTickInterval(int)}.
+	 */
+	private int offscreenTickInterval = 1;
+	/**
+	 * How to make objects of the classes that cannot be made with a constructor without arguments.
+	 */
+	private final Map<Class<?>, Supplier<?>> snapshotFactories = new HashMap<>();
 
 	/**
 	 * Constructor.
@@ -76,10 +103,7 @@ public abstract class World {
 			if (player == null)
 				throw new IllegalStateException();
 
-			// initialize the last action map to nothing actions;
-			for (Actor actor : actorLocations) {
-				lastActionMap.put(actor, new DoNothingAction());
-			}
+			initLastActions();
 
 			// This loop is basically the whole game
 			while (stillRunning()) {
@@ -92,15 +116,58 @@ public abstract class World {
 		}
 	}
 
+	/**
+	 * Run the game for at most the given number of turns, without printing the
+	 * end game message. This is intended for headless runs, where a script or a
+	 * bot rather than a person is choosing the player's actions.
+	 *
+	 * @param maxTurns the maximum number of turns to play
+	 * @return the number of turns actually played; less than maxTurns if the game ended early
+	 * @throws GameEngineException if a game rule is broken during a turn
+	 */
+	public int runTurns(int maxTurns) throws GameEngineException {
+		if (player == null)
+			throw new IllegalStateException();
+
+		initLastActions();
+
+		int turns = 0;
+		while (turns < maxTurns && stillRunning()) {
+			this.gameLoop();
+			turns++;
+		}
+		return turns;
+	}
+
+	/**
+	 * Initialize the last action map to nothing actions.
+	 */
+	protected void initLastActions() {
+		for (Actor actor : actorLocations) {
+			lastActionMap.putIfAbsent(actor, new DoNothingAction());
+		}
+	}
+
 	protected void gameLoop() throws GameEngineException{
 		GameMap playersMap = actorLocations.locationOf(player).map();
 		// Tick over all the maps. For the map stuff.
 		for (GameMap gameMap : gameMaps) {
-			gameMap.tick();
+			long start = TurnMetrics.start();
+			tickMap(gameMap, gameMap == playersMap);
+			if (start != 0L) {
+				if (gameMap.tickTime == null)
+					gameMap.tickTime = TurnMetrics.histogram("GameMap.tick[" + gameMap + "]");
+				TurnMetrics.record(gameMap.tickTime, start);
+			}
 		}
 
 		playersMap.draw(display);
 
+		if (decisionPool != null) {
+			processTurnsWithParallelDecisions();
+			return;
+		}
+
 		// Process all the actors.
 		for (Actor actor : actorLocations) {
 			if (stillRunning())
@@ -108,6 +175,226 @@ public abstract class World {
 		}
 	}
 
+	/**
+	 * Tick one map, or as much of it as this turn calls for. What Actors carry
+	 * and suffer is ticked every turn wherever they are. The tiles of a map
+	 * without the player are ticked every {@link #setOffscreenTickInterval
+	 * offscreen tick interval} turns, each time catching up the turns in between,
+	 * and are caught up in full as soon as the player arrives.
+	 *
+	 * @param gameMap the map to tick
+	 * @param hasPlayer true if the player is on it
+	 * @throws GameEngineException if a game rule is broken while ticking
+	 */
+	protected void tickMap(GameMap gameMap, boolean hasPlayer) throws GameEngineException {
+		if (hasPlayer || offscreenTickInterval == 1) {
+			gameMap.catchUp(gameMap.turnsBehind);
+			gameMap.turnsBehind = 0;
+			gameMap.tick();
+			return;
+		}
+		gameMap.tickCarried();
+		gameMap.turnsBehind++;
+		if (offscreenTickInterval > 0 && gameMap.turnsBehind >= offscreenTickInterval) {
+			gameMap.catchUp(gameMap.turnsBehind - 1);
+			gameMap.turnsBehind = 0;
+			gameMap.tickTiles();
+		}
+	}
+
+	/**
+	 * @return how often the tiles of maps without the player are ticked
+	 */
+	public int getOffscreenTickInterval() {
+		return offscreenTickInterval;
+	}
+
+	/**
+	 * Tick the tiles of maps the player is not on less often, since nobody is
+	 * watching them.
+	 * <p>
+	 * With an interval of k, such a map's Grounds and the items lying on it are
+	 * ticked once every k turns, and each time are told through
+	 * {@link Ground#catchUp(Location, int)} about the k - 1 turns they missed.
+	 * With 0 they are not ticked at all until the player arrives, and then catch
+	 * up on every turn they missed before the map is ticked as usual. Either way
+	 * a Ground that catches up exactly ends up where ticking it every turn would
+	 * have left it, and a player stepping onto the map finds it up to date.
+	 * Items lying on the ground have no way to catch up, so they only age on the
+	 * turns their map is ticked. The Actors on every map, and the items they
+	 * carry, are still ticked every turn.
+	 * <p>
+	 * The default of 1 ticks every map every turn.
+	 *
+	 * @param interval how many turns apart to tick, or 0 to wait for the player
+	 */
+	public void setOffscreenTickInterval(int interval) {
+		if (interval < 0)
+			throw new IllegalArgumentException("Tick interval cannot be negative: " + interval);
+		this.offscreenTickInterval = interval;
+	}
+
+	/**
+	 * Let NPCs decide what to do in parallel from now on.
+	 * <p>
+	 * After the player's turn, every Actor that {@link #decidesInParallel(Actor)}
+	 * prepares its allowable actions and plays its turn on the pool, all looking
+	 * at the world as the player left it. Their Actions are then executed one at
+	 * a time, in the usual turn order. Anything a decision prints, and any change
+	 * it makes to the map (such as an Actor removing itself), is held back until
+	 * that Actor's place in the order.
+	 * <p>
+	 * An Action that an earlier Actor has made impossible, such as a move onto
+	 * a tile someone else has just entered or an attack on an Actor that has
+	 * died, is replaced by doing nothing; see {@link Action#isStillPossible}.
+	 *
+	 * @param pool the pool to decide on, or null to go back to whole turns in order
+	 */
+	public void setDecisionPool(ForkJoinPool pool) {
+		this.decisionPool = pool;
+	}
+
+	/**
+	 * Can this Actor decide its turn at the same time as others?
+	 * <p>
+	 * Only return true for Actors whose {@code playTurn}, and whose behaviours,
+	 * read the world without changing anything but the Actor itself. Changes
+	 * made through Locations and GameMaps are held back safely; other shared
+	 * state is not. The player is never asked.
+	 *
+	 * @param actor an Actor other than the player
+	 * @return false; override this to opt Actors in
+	 */
+	protected boolean decidesInParallel(Actor actor) {
+		return false;
+	}
+
+	/**
+	 * The actor phase of a turn when a decision pool is set.
+	 */
+	private void processTurnsWithParallelDecisions() throws GameEngineException {
+		// The same Actors, in the same order, that iterating actorLocations would visit
+		List<Actor> turnOrder = new ArrayList<>();
+		for (Actor actor : actorLocations) {
+			turnOrder.add(actor);
+		}
+
+		Map<Actor, Decision> decisions = null;
+		for (Actor actor : turnOrder) {
+			if (!actorLocations.contains(actor) || !stillRunning()) {
+				continue;
+			}
+			if (actor == player) {
+				processActorTurn(actor);
+				continue;
+			}
+			if (decisions == null) {
+				decisions = decideInParallel(turnOrder);
+			}
+			Decision decision = decisions.get(actor);
+			if (decision == null) {
+				processActorTurn(actor);
+			} else {
+				applyDecision(actor, decision);
+			}
+		}
+	}
+
+	/**
+	 * Work out what every opted in NPC will do, on the decision pool.
+	 *
+	 * @param turnOrder the Actors having a turn, in order
+	 * @return each opted in Actor's decision
+	 */
+	private Map<Actor, Decision> decideInParallel(List<Actor> turnOrder) throws GameEngineException {
+		List<Actor> deciders = new ArrayList<>();
+		for (Actor actor : turnOrder) {
+			if (actor != player && actorLocations.contains(actor) && decidesInParallel(actor)) {
+				deciders.add(actor);
+			}
+		}
+
+		// A few batches per thread rather than a task per Actor
+		int batchCount = Math.max(1, Math.min(deciders.size(), decisionPool.getParallelism() * 4));
+		List<Callable<List<Decision>>> batches = new ArrayList<>(batchCount);
+		for (int b = 0; b < batchCount; b++) {
+			List<Actor> batch = deciders.subList(b * deciders.size() / batchCount, (b + 1) * deciders.size() / batchCount);
+			batches.add(() -> {
+				List<Decision> decided = new ArrayList<>(batch.size());
+				for (Actor actor : batch) {
+					decided.add(decide(actor));
+				}
+				return decided;
+			});
+		}
+
+		Map<Actor, Decision> decisions = new IdentityHashMap<>();
+		for (List<Decision> decided : StripedTicker.runAll(decisionPool, batches, "deciding turns")) {
+			for (Decision decision : decided) {
+				decisions.put(decision.actor, decision);
+			}
+		}
+		return decisions;
+	}
+
+	/**
+	 * The first half of {@link #processActorTurn(Actor)}, run on a pool thread.
+	 *
+	 * @param actor the Actor deciding
+	 * @return what it decided, with its output and changes held back
+	 */
+	private Decision decide(Actor actor) {
+		Decision decision = new Decision(actor);
+		PendingChanges.collectInto(decision.changes);
+		try {
+			Location here = actorLocations.locationOf(actor);
+			decision.map = here.map();
+			ActionList actions = this.actionsFor(actor, here);
+			long start = TurnMetrics.start();
+			decision.action = actor.playTurn(actions, lastActionMap.get(actor), decision.map, decision.output);
+			PLAY_TURN_TIME.record(actor, start);
+		} finally {
+			PendingChanges.stopCollecting();
+		}
+		return decision;
+	}
+
+	/**
+	 * The second half of {@link #processActorTurn(Actor)}, back on the game loop's thread.
+	 *
+	 * @param actor the Actor whose turn it is
+	 * @param decision what it decided
+	 */
+	private void applyDecision(Actor actor, Decision decision) throws GameEngineException {
+		decision.output.replayTo(display);
+		PendingChanges.applyAll(decision.changes);
+
+		Action action = decision.action;
+		if (!action.isStillPossible(actor, decision.map)) {
+			action = new DoNothingAction();
+		}
+		lastActionMap.put(actor, action);
+		long start = TurnMetrics.start();
+		String result = action.execute(actor, decision.map);
+		EXECUTE_TIME.record(action, start);
+		display.println(result);
+	}
+
+	/**
+	 * An Action chosen ahead of its Actor's turn, with what choosing it printed and changed.
+	 */
+	private static class Decision {
+		private final Actor actor;
+		private final RecordingDisplay output = new RecordingDisplay();
+		private final List<PendingChanges.Change> changes = new ArrayList<>();
+		private GameMap map;
+		private Action action;
+
+		Decision(Actor actor) {
+			this.actor = actor;
+		}
+	}
+
 	/**
 	 * Gives an Actor its turn.
 	 *
@@ -126,25 +413,47 @@ public abstract class World {
 		// before
 		Location here = actorLocations.locationOf(actor); // prepare current location
 		GameMap map = here.map(); //prepare the map
-		ActionList actions = this.prepareAllowableActions(actor, here); //prepare all actions that this actor can do.
+		ActionList actions = this.actionsFor(actor, here); //prepare all actions that this actor can do.
 
 		// during: action selection
+		long start = TurnMetrics.start();
 		Action action = actor.playTurn(actions, lastActionMap.get(actor), map, display); //get the action from the actor.
+		PLAY_TURN_TIME.record(actor, start);
 
 		// after
 		lastActionMap.put(actor, action); // record selected action
+		start = TurnMetrics.start();
 		String result = action.execute(actor, map); // execute selected action
+		EXECUTE_TIME.record(action, start);
 		display.println(result); // resolve.
 	}
 
 
+	/**
+	 * The Actions to hand an Actor for its turn: all of them if it chooses from
+	 * them, an empty list if it does not.
+	 *
+	 * @param actor the Actor whose turn it is
+	 * @param here where it is
+	 * @return the Actions
+	 * @see Actor#needsAllowableActions()
+	 */
+	private ActionList actionsFor(Actor actor, Location here) {
+		if (!actor.needsAllowableActions())
+			return new ActionList();
+		long start = TurnMetrics.start();
+		ActionList actions = prepareAllowableActions(actor, here);
+		TurnMetrics.record(ALLOWABLE_ACTIONS_TIME, start);
+		return actions;
+	}
+
 	/**
 	 * A method to prepare all actions that are allowed by the actor at the corresponding location (here).
 	 * @param actor actor that is
 	 * @param here
 	 * @return
 	 */
-	private ActionList prepareAllowableActions(Actor actor, Location here){
+	protected ActionList prepareAllowableActions(Actor actor, Location here){
 		ActionList actions = new ActionList();
 		for (Item item : actor.getItemInventory()) {
 			// for each item that can perform an action to its owner
@@ -187,6 +496,61 @@ public abstract class World {
 		return actions;
 	}
 
+	/**
+	 * Save this World to a file, so that it can be put back by {@link #loadSnapshot(Path)}.
+	 * <p>
+	 * Everything on every GameMap is saved: the Ground and Items on each
+	 * Location, and every Actor with its position, base attributes and
+	 * inventory, along with their abilities and statuses. Anything that is
+	 * {@link Snapshottable}, including this World, also saves its own state.
+	 * Actions that take more than one turn are not saved; every Actor starts
+	 * afresh after loading.
+	 *
+	 * @param path the file to write
+	 * @throws IOException if the file cannot be written
+	 */
+	public void saveSnapshot(Path path) throws IOException {
+		WorldSnapshot.save(this, path);
+	}
+
+	/**
+	 * Put this World back the way it was when {@link #saveSnapshot(Path)} wrote the file.
+	 * <p>
+	 * The World must have been built the same way as the one that was saved,
+	 * with GameMaps of the same names and sizes in the same order. Grounds and
+	 * Items that are already in the right place are kept and given their saved
+	 * state, so anything set up while building the World (such as where a door
+	 * leads) is not lost. Everything else is made afresh with its constructor
+	 * without arguments, or with a factory given to {@link #registerSnapshotType}.
+	 * If loading fails part of the way through, the World should not be used.
+	 *
+	 * @param path the file to read
+	 * @throws IOException if the file cannot be read, or does not fit this World
+	 */
+	public void loadSnapshot(Path path) throws IOException {
+		WorldSnapshot.load(this, path);
+	}
+
+	/**
+	 * Tell {@link #loadSnapshot(Path)} how to make an object of a class that has
+	 * no constructor without arguments, or that needs something from this World.
+	 *
+	 * @param type the class
+	 * @param factory makes a new object of exactly that class
+	 * @param <T> the class
+	 */
+	public <T> void registerSnapshotType(Class<T> type, Supplier<? extends T> factory) {
+		snapshotFactories.put(Objects.requireNonNull(type), Objects.requireNonNull(factory));
+	}
+
+	/**
+	 * @param type a class
+	 * @return the factory registered for it, or null
+	 */
+	Supplier<?> snapshotFactory(Class<?> type) {
+		return snapshotFactories.get(type);
+	}
+
 	/**
 	 * Returns true if the game is still running.
 	 *
@@ -0,0 +1,428 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.GameEntity;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.attributes.ActorAttributeOperation;
+import edu.monash.fit2099.engine.actors.attributes.BaseAttributes;
+import edu.monash.fit2099.engine.capabilities.Status;
+import edu.monash.fit2099.engine.items.Item;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
+import edu.monash.fit2099.engine.snapshots.Snapshottable;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Saves a World to a binary file and loads it back; see {@link World#saveSnapshot} and {@link World#loadSnapshot}.
+ * <p>
+ * The file holds, in order: the name and size of each GameMap, so that a
+ * snapshot is only loaded into a World built the same way; every Actor's class
+ * and position, in turn order; every Location's Ground and Items; every Actor's
+ * base attributes, inventory and own state; and last the World's own state.
+ * Grounds, Items, Actors and Statuses all have their abilities, statuses and,
+ * if they are {@link Snapshottable}, their own fields saved.
+ * <p>
+ * The snapshot is built in memory and written with one call. It is loaded
+ * from a memory-mapped view of the file, so nothing is copied on the way in.
+ */
+final class WorldSnapshot {
+	private static final int MAGIC = 0x46495457; // "FITW"
+	private static final int VERSION = 1;
+
+	private WorldSnapshot() {
+	}
+
+	static void save(World world, Path path) throws IOException {
+		for (GameMap map : world.gameMaps) {
+			if (map instanceof ChunkedGameMap)
+				throw new IOException(map + " is a chunked map, which cannot be saved in a snapshot");
+		}
+		Saver out = new Saver(world);
+		out.writeWorld();
+		ByteBuffer bytes = out.bytes();
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			while (bytes.hasRemaining())
+				channel.write(bytes);
+		}
+	}
+
+	static void load(World world, Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			try {
+				new Loader(world, bytes).readWorld();
+			} catch (BufferUnderflowException e) {
+				throw new IOException(path + " ends too soon to be a whole snapshot", e);
+			} catch (IllegalStateException | IllegalArgumentException | IndexOutOfBoundsException e) {
+				throw new IOException(path + ": " + e.getMessage(), e);
+			}
+		}
+	}
+
+	private static final class Saver extends SnapshotWriter {
+		private final World world;
+		private final Map<Actor, Integer> actorNumbers = new HashMap<>();
+
+		Saver(World world) {
+			super(1 << 16);
+			this.world = world;
+		}
+
+		ByteBuffer bytes() {
+			return written();
+		}
+
+		void writeWorld() {
+			writeInt(MAGIC);
+			writeInt(VERSION);
+
+			writeVarInt(world.gameMaps.size());
+			for (GameMap map : world.gameMaps) {
+				writeString(map.name);
+				writeVarInt(map.getXRange().size());
+				writeVarInt(map.getYRange().size());
+			}
+
+			List<Actor> actors = new ArrayList<>();
+			for (Actor actor : world.actorLocations)
+				actors.add(actor);
+			writeVarInt(actors.size());
+			for (Actor actor : actors) {
+				Location here = world.actorLocations.locationOf(actor);
+				int mapNumber = world.gameMaps.indexOf(here.map());
+				if (mapNumber < 0)
+					throw new IllegalStateException(actor + " is on a map that is not part of the World");
+				actorNumbers.put(actor, actorNumbers.size() + 1);
+				writeClass(actor.getClass());
+				writeBoolean(actor == world.player);
+				writeVarInt(mapNumber);
+				writeVarInt(here.x());
+				writeVarInt(here.y());
+			}
+
+			for (GameMap map : world.gameMaps) {
+				NumberRange xs = map.getXRange();
+				NumberRange ys = map.getYRange();
+				for (int x = xs.min(); x <= xs.max(); x++) {
+					for (int y = ys.min(); y <= ys.max(); y++) {
+						Location here = map.at(x, y);
+						Ground ground = here.getGround();
+						writeClass(ground.getClass());
+						writeEntity(ground);
+						writeItems(here.getItems());
+					}
+				}
+			}
+
+			for (Actor actor : actors) {
+				writeAttributes(actor);
+				writeAbilities(actor);
+				writeStatuses(actor);
+				writeItems(actor.getItemInventory());
+				writeState(actor);
+			}
+
+			writeState(world);
+		}
+
+		@Override
+		public void writeActor(Actor actor) {
+			Integer number = actor == null ? null : actorNumbers.get(actor);
+			writeVarInt(number == null ? 0 : number);
+		}
+
+		@Override
+		public void writeItem(Item item) {
+			writeClass(item == null ? null : item.getClass());
+			if (item != null)
+				writeEntity(item);
+		}
+
+		private void writeItems(List<Item> items) {
+			writeVarInt(items.size());
+			for (Item item : items)
+				writeItem(item);
+		}
+
+		private void writeEntity(GameEntity entity) {
+			writeAbilities(entity);
+			writeStatuses(entity);
+			writeState(entity);
+		}
+
+		private void writeAbilities(GameEntity entity) {
+			List<Enum<?>> abilities = entity.abilities();
+			writeVarInt(abilities.size());
+			for (Enum<?> ability : abilities)
+				writeEnum(ability);
+		}
+
+		private void writeStatuses(GameEntity entity) {
+			List<Status> statuses = entity.statuses();
+			writeVarInt(statuses.size());
+			for (Status status : statuses) {
+				writeClass(status.getClass());
+				writeState(status);
+			}
+		}
+
+		private void writeAttributes(Actor actor) {
+			List<BaseAttributes> present = new ArrayList<>();
+			for (BaseAttributes attribute : BaseAttributes.values()) {
+				if (actor.hasStatistic(attribute))
+					present.add(attribute);
+			}
+			writeVarInt(present.size());
+			for (BaseAttributes attribute : present) {
+				writeEnum(attribute);
+				writeInt(actor.getAttribute(attribute));
+				writeInt(actor.getMaximumAttribute(attribute));
+			}
+		}
+
+		private void writeState(Object object) {
+			if (object instanceof Snapshottable)
+				((Snapshottable) object).writeState(this);
+		}
+	}
+
+	private static final class Loader extends SnapshotReader {
+		private final World world;
+		private final Map<Class<?>, Supplier<?>> factories = new HashMap<>();
+		private Actor[] actors = new Actor[0];
+
+		Loader(World world, ByteBuffer bytes) {
+			super(bytes);
+			this.world = world;
+		}
+
+		void readWorld() throws IOException {
+			if (readInt() != MAGIC)
+				throw new IOException("Not a World snapshot");
+			int version = readInt();
+			if (version != VERSION)
+				throw new IOException("Snapshot version " + version + " cannot be loaded by this version of the game");
+
+			int mapCount = readVarInt();
+			if (mapCount != world.gameMaps.size())
+				throw new IOException("Snapshot has " + mapCount + " maps, but the World has " + world.gameMaps.size());
+			for (GameMap map : world.gameMaps) {
+				String name = readString();
+				int width = readVarInt();
+				int height = readVarInt();
+				if (!map.name.equals(name) || width != map.getXRange().size() || height != map.getYRange().size())
+					throw new IOException("Snapshot has a " + width + "x" + height + " map " + name + " where the World has "
+							+ map.getXRange().size() + "x" + map.getYRange().size() + " " + map.name);
+			}
+
+			Actor player = world.player;
+			List<Actor> present = new ArrayList<>();
+			for (Actor actor : world.actorLocations)
+				present.add(actor);
+			for (Actor actor : present)
+				world.actorLocations.remove(actor);
+			world.lastActionMap.clear();
+
+			actors = new Actor[readVarInt()];
+			for (int i = 0; i < actors.length; i++) {
+				Class<?> type = readClass();
+				boolean isPlayer = readBoolean();
+				GameMap map = world.gameMaps.get(readVarInt());
+				Location location = map.at(readVarInt(), readVarInt());
+				Actor actor = isPlayer && player != null && player.getClass() == type ? player : create(type, Actor.class);
+				try {
+					world.actorLocations.add(actor, location);
+				} catch (GameEngineException e) {
+					throw new IOException(e.getMessage(), e);
+				}
+				if (isPlayer) {
+					world.player = actor;
+					world.actorLocations.setPlayer(actor);
+				}
+				actors[i] = actor;
+			}
+
+			// Read into this rather than into a shared Ground, which cannot be changed
+			Ground spare = null;
+			for (GameMap map : world.gameMaps) {
+				NumberRange xs = map.getXRange();
+				NumberRange ys = map.getYRange();
+				for (int x = xs.min(); x <= xs.max(); x++) {
+					for (int y = ys.min(); y <= ys.max(); y++) {
+						Location here = map.at(x, y);
+						Class<?> type = readClass();
+						Ground ground = here.getGround();
+						if (ground != null && ground.getClass() == type && ground.isShared()) {
+							if (spare == null || spare.getClass() != type)
+								spare = create(type, Ground.class);
+							readEntity(spare);
+							// Keep sharing unless the saved tile had its own statuses or abilities
+							if (!spare.statuses().isEmpty() || !sameAbilities(spare, ground)) {
+								here.setGround(spare);
+								spare = null;
+							}
+						} else {
+							if (ground == null || ground.getClass() != type) {
+								ground = create(type, Ground.class);
+								here.setGround(ground);
+							}
+							readEntity(ground);
+						}
+						readItems(here.getItems(), here::removeItem, here::addItem);
+					}
+				}
+			}
+
+			for (Actor actor : actors) {
+				readAttributes(actor);
+				readAbilities(actor);
+				readStatuses(actor);
+				readItems(actor.getItemInventory(), actor::removeItemFromInventory, actor::addItemToInventory);
+				readState(actor);
+			}
+
+			readState(world);
+		}
+
+		@Override
+		public Actor readActor() {
+			int number = readVarInt();
+			return number == 0 ? null : actors[number - 1];
+		}
+
+		@Override
+		public Item readItem() {
+			Class<?> type = readClass();
+			if (type == null)
+				return null;
+			Item item = create(type, Item.class);
+			readEntity(item);
+			return item;
+		}
+
+		/**
+		 * Replace the given items with the saved ones. An item already there is
+		 * reused for a saved item of the same class, so that anything set up when
+		 * the World was built (such as where a teleporter goes) is kept.
+		 */
+		private void readItems(List<Item> current, Consumer<Item> remove, Consumer<Item> add) {
+			int count = readVarInt();
+			if (count == 0 && current.isEmpty())
+				return;
+
+			List<Item> spare = new ArrayList<>(current);
+			for (Item item : spare)
+				remove.accept(item);
+			for (int i = 0; i < count; i++) {
+				Class<?> type = readClass();
+				Item item = takeSpare(spare, type);
+				if (item == null)
+					item = create(type, Item.class);
+				readEntity(item);
+				add.accept(item);
+			}
+		}
+
+		private static Item takeSpare(List<Item> spare, Class<?> type) {
+			for (int i = 0; i < spare.size(); i++) {
+				if (spare.get(i).getClass() == type)
+					return spare.remove(i);
+			}
+			return null;
+		}
+
+		private void readEntity(GameEntity entity) {
+			readAbilities(entity);
+			readStatuses(entity);
+			readState(entity);
+		}
+
+		private boolean sameAbilities(GameEntity a, GameEntity b) {
+			List<Enum<?>> mine = a.abilities();
+			List<Enum<?>> theirs = b.abilities();
+			return mine.size() == theirs.size() && (mine.isEmpty() || Set.copyOf(mine).equals(Set.copyOf(theirs)));
+		}
+
+		private void readAbilities(GameEntity entity) {
+			int count = readVarInt();
+			for (Enum<?> ability : entity.abilities())
+				entity.disableAbility(ability);
+			for (int i = 0; i < count; i++)
+				entity.enableAbility(readEnum());
+		}
+
+		private void readStatuses(GameEntity entity) {
+			int count = readVarInt();
+			if (!entity.statuses().isEmpty()) {
+				for (Status status : new ArrayList<>(entity.statuses()))
+					entity.removeStatus(status);
+			}
+			for (int i = 0; i < count; i++) {
+				Status status = create(readClass(), Status.class);
+				readState(status);
+				entity.addStatus(status);
+			}
+		}
+
+		private void readAttributes(Actor actor) {
+			int count = readVarInt();
+			for (int i = 0; i < count; i++) {
+				BaseAttributes attribute = readEnum(BaseAttributes.class);
+				int current = readInt();
+				int maximum = readInt();
+				if (actor.hasStatistic(attribute)) {
+					actor.modifyStatsMaximum(attribute, ActorAttributeOperation.UPDATE, maximum);
+					actor.modifyAttribute(attribute, ActorAttributeOperation.UPDATE, current);
+				}
+			}
+		}
+
+		private void readState(Object object) {
+			if (object instanceof Snapshottable)
+				((Snapshottable) object).readState(this);
+		}
+
+		private <T> T create(Class<?> type, Class<T> kind) {
+			if (type == null || !kind.isAssignableFrom(type))
+				throw new IllegalStateException("Snapshot has " + (type == null ? "nothing" : "a " + type.getName())
+						+ " where a " + kind.getSimpleName() + " was expected");
+			return kind.cast(factories.computeIfAbsent(type, this::factoryFor).get());
+		}
+
+		private Supplier<?> factoryFor(Class<?> type) {
+			Supplier<?> registered = world.snapshotFactory(type);
+			if (registered != null)
+				return registered;
+
+			Constructor<?> constructor;
+			try {
+				constructor = type.getDeclaredConstructor();
+				constructor.setAccessible(true);
+			} catch (NoSuchMethodException e) {
+				throw new IllegalStateException(type.getName() + " has no constructor without arguments; "
+						+ "give it one or register it with World.registerSnapshotType", e);
+			}
+			return () -> {
+				try {
+					return constructor.newInstance();
+				} catch (ReflectiveOperationException e) {
+					throw new IllegalStateException("Could not make a new " + type.getName(), e);
+				}
+			};
+		}
+	}
+}
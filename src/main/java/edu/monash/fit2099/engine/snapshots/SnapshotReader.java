@@ -0,0 +1,158 @@
+package edu.monash.fit2099.engine.snapshots;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.items.Item;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads back what a {@link SnapshotWriter} wrote, in the same order.
+ * <p>
+ * A snapshot that is cut short, or that names a class that no longer exists,
+ * makes the reader throw an unchecked exception; the World being loaded turns
+ * that into an IOException.
+ */
+public abstract class SnapshotReader {
+	private final ByteBuffer buffer;
+	private final List<Class<?>> classes = new ArrayList<>();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param buffer the bytes of the snapshot, positioned where reading should start
+	 */
+	protected SnapshotReader(ByteBuffer buffer) {
+		this.buffer = buffer;
+	}
+
+	/**
+	 * Read a reference to an Actor written by {@link SnapshotWriter#writeActor}.
+	 *
+	 * @return the Actor in the World being loaded, or null
+	 */
+	public abstract Actor readActor();
+
+	/**
+	 * Read an Item written by {@link SnapshotWriter#writeItem}.
+	 *
+	 * @return a new Item with the saved state, or null
+	 */
+	public abstract Item readItem();
+
+	public boolean readBoolean() {
+		return buffer.get() != 0;
+	}
+
+	public int readByte() {
+		return buffer.get();
+	}
+
+	public int readInt() {
+		return buffer.getInt();
+	}
+
+	public long readLong() {
+		return buffer.getLong();
+	}
+
+	public double readDouble() {
+		return buffer.getDouble();
+	}
+
+	/**
+	 * Read a value written by {@link SnapshotWriter#writeVarInt}.
+	 *
+	 * @return the value
+	 */
+	public int readVarInt() {
+		int value = 0;
+		for (int shift = 0; shift < 32; shift += 7) {
+			byte b = buffer.get();
+			value |= (b & 0x7F) << shift;
+			if (b >= 0)
+				return value;
+		}
+		throw new IllegalStateException("Malformed count in snapshot");
+	}
+
+	/**
+	 * Read a String written by {@link SnapshotWriter#writeString}.
+	 *
+	 * @return the String, or null
+	 */
+	public String readString() {
+		int length = readVarInt() - 1;
+		if (length < 0)
+			return null;
+		if (buffer.hasArray()) {
+			String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+			buffer.position(buffer.position() + length);
+			return value;
+		}
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Read a class written by {@link SnapshotWriter#writeClass}.
+	 *
+	 * @return the class, or null
+	 * @throws IllegalStateException if the class cannot be found
+	 */
+	public Class<?> readClass() {
+		int number = readVarInt();
+		if (number == 0)
+			return null;
+		if (number <= classes.size())
+			return classes.get(number - 1);
+		if (number != classes.size() + 1)
+			throw new IllegalStateException("Snapshot refers to class number " + number + " before naming it");
+		String name = readString();
+		try {
+			Class<?> type = Class.forName(name, false, SnapshotReader.class.getClassLoader());
+			classes.add(type);
+			return type;
+		} catch (ClassNotFoundException e) {
+			throw new IllegalStateException("Snapshot refers to " + name + ", which no longer exists", e);
+		}
+	}
+
+	/**
+	 * Read an enumeration constant written by {@link SnapshotWriter#writeEnum}.
+	 *
+	 * @return the constant, or null
+	 * @throws IllegalStateException if the constant no longer exists
+	 */
+	public Enum<?> readEnum() {
+		Class<?> type = readClass();
+		if (type == null)
+			return null;
+		String name = readString();
+		if (type.isEnum()) {
+			for (Object constant : type.getEnumConstants()) {
+				if (((Enum<?>) constant).name().equals(name))
+					return (Enum<?>) constant;
+			}
+		}
+		throw new IllegalStateException("Snapshot refers to " + type.getName() + "." + name + ", which no longer exists");
+	}
+
+	/**
+	 * Read an enumeration constant of a known type.
+	 *
+	 * @param type the type of enumeration
+	 * @param <E> the type of enumeration
+	 * @return the constant, or null
+	 * @throws IllegalStateException if the constant is of another type or no longer exists
+	 */
+	public <E extends Enum<E>> E readEnum(Class<E> type) {
+		Enum<?> value = readEnum();
+		if (value != null && value.getDeclaringClass() != type)
+			throw new IllegalStateException("Snapshot has a " + value.getDeclaringClass().getName() + " where a " + type.getName() + " was expected");
+		return type.cast(value);
+	}
+}
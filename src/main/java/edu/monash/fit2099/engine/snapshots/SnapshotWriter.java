@@ -0,0 +1,155 @@
+package edu.monash.fit2099.engine.snapshots;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.items.Item;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes the binary form of a World snapshot into a buffer that grows as needed.
+ * <p>
+ * Numbers are written big-endian, counts and sizes as variable-length ints so that
+ * the usual small ones take a single byte. A class is written by name the first
+ * time it is seen and by number after that.
+ * <p>
+ * Actors and Items are written by the World that is being saved, which knows how
+ * to refer to an Actor and how to write everything an Item has.
+ *
+ * @see SnapshotReader
+ */
+public abstract class SnapshotWriter {
+	private ByteBuffer buffer;
+	private final Map<Class<?>, Integer> classNumbers = new HashMap<>();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param initialCapacity how many bytes to make room for at first
+	 */
+	protected SnapshotWriter(int initialCapacity) {
+		buffer = ByteBuffer.allocate(Math.max(16, initialCapacity));
+	}
+
+	/**
+	 * Write a reference to an Actor in the World being saved.
+	 *
+	 * @param actor the Actor, or null
+	 */
+	public abstract void writeActor(Actor actor);
+
+	/**
+	 * Write an Item that is not on the map or in an inventory, such as one an Actor is carrying in its mouth.
+	 *
+	 * @param item the Item, or null
+	 */
+	public abstract void writeItem(Item item);
+
+	public void writeBoolean(boolean value) {
+		room(1).put((byte) (value ? 1 : 0));
+	}
+
+	public void writeByte(int value) {
+		room(1).put((byte) value);
+	}
+
+	public void writeInt(int value) {
+		room(Integer.BYTES).putInt(value);
+	}
+
+	public void writeLong(long value) {
+		room(Long.BYTES).putLong(value);
+	}
+
+	public void writeDouble(double value) {
+		room(Double.BYTES).putDouble(value);
+	}
+
+	/**
+	 * Write a count or a size, which cannot be negative, in as few bytes as it needs.
+	 *
+	 * @param value the value to write
+	 * @throws IllegalArgumentException if the value is negative
+	 */
+	public void writeVarInt(int value) {
+		if (value < 0)
+			throw new IllegalArgumentException("Not a count: " + value);
+		room(5);
+		while (value >= 0x80) {
+			buffer.put((byte) (value | 0x80));
+			value >>>= 7;
+		}
+		buffer.put((byte) value);
+	}
+
+	/**
+	 * Write a String as UTF-8.
+	 *
+	 * @param value the String, or null
+	 */
+	public void writeString(String value) {
+		if (value == null) {
+			writeVarInt(0);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarInt(bytes.length + 1);
+		room(bytes.length).put(bytes);
+	}
+
+	/**
+	 * Write a class, so that the reader can make another object of it.
+	 *
+	 * @param type the class, or null
+	 */
+	public void writeClass(Class<?> type) {
+		if (type == null) {
+			writeVarInt(0);
+			return;
+		}
+		Integer number = classNumbers.get(type);
+		if (number != null) {
+			writeVarInt(number);
+			return;
+		}
+		number = classNumbers.size() + 1;
+		classNumbers.put(type, number);
+		writeVarInt(number);
+		writeString(type.getName());
+	}
+
+	/**
+	 * Write an enumeration constant by name, so that reordering the constants does not break old snapshots.
+	 *
+	 * @param value the constant, or null
+	 */
+	public void writeEnum(Enum<?> value) {
+		if (value == null) {
+			writeClass(null);
+			return;
+		}
+		writeClass(value.getDeclaringClass());
+		writeString(value.name());
+	}
+
+	/**
+	 * The bytes written so far, ready to be read from the start.
+	 *
+	 * @return a read-only view of the written bytes
+	 */
+	protected ByteBuffer written() {
+		return buffer.asReadOnlyBuffer().flip();
+	}
+
+	private ByteBuffer room(int bytes) {
+		if (buffer.remaining() < bytes) {
+			int capacity = Math.max(buffer.capacity() * 2, buffer.position() + bytes);
+			ByteBuffer bigger = ByteBuffer.allocate(capacity);
+			bigger.put(buffer.flip());
+			buffer = bigger;
+		}
+		return buffer;
+	}
+}
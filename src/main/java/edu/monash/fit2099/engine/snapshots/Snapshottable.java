@@ -0,0 +1,31 @@
+package edu.monash.fit2099.engine.snapshots;
+
+/**
+ * Something with state of its own that should survive a save and a load of the World.
+ * <p>
+ * The engine already saves what it knows about: which Ground, Items and Actors
+ * are where, their abilities and statuses, an Actor's inventory and base
+ * attributes. A Ground, Item, Actor or Status only needs to implement this for
+ * the fields its own class adds, such as a timer or a counter. A World that
+ * implements it is asked for its state after everything else.
+ * <p>
+ * {@link #readState} is called on a fresh object of the same class (or on the
+ * one already in the World, when it can be reused) and must read exactly what
+ * {@link #writeState} wrote, in the same order.
+ */
+public interface Snapshottable {
+
+	/**
+	 * Write the state of this object.
+	 *
+	 * @param out where to write it
+	 */
+	void writeState(SnapshotWriter out);
+
+	/**
+	 * Read back the state that {@link #writeState} wrote.
+	 *
+	 * @param in where to read it from
+	 */
+	void readState(SnapshotReader in);
+}
@@ -1,14 +1,27 @@
 package game;
 
-import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.displays.AsyncDisplay;
+import game.api.OwmWeatherService;
+import game.simulation.JournalWriter;
+import game.simulation.MenuPolicy;
+import game.simulation.RecordingPolicy;
+import game.simulation.RecordingWeatherService;
 
+import java.nio.file.Paths;
+
+/**
+ * Usage: {@code Application [journal]}. Given a journal file, the session is recorded
+ * in it so that {@link game.simulation.ReplayRunner} can play it again.
+ */
 public class Application {
     public static void main(String[] args) {
-        Display terminalDisplay = new Display();
-        Earth earth = new Earth(terminalDisplay);
-        try{
+        try (AsyncDisplay terminalDisplay = AsyncDisplay.forTerminal();
+             JournalWriter journal = args.length > 0 ? JournalWriter.create(Paths.get(args[0]), GameRandom.seed()) : null) {
+            Earth earth = journal == null
+                    ? new Earth(terminalDisplay)
+                    : new Earth(terminalDisplay, new RecordingWeatherService(new OwmWeatherService(), journal));
             for (String line : FancyMessage.GAME_TITLE.split("\n")) {
-                new Display().println(line);
+                terminalDisplay.println(line);
                 try {
                     Thread.sleep(200);
                 } catch (Exception exception) {
@@ -17,6 +30,9 @@ public class Application {
             }
 
             earth.constructWorld();
+            if (journal != null) {
+                earth.getPlayer().setActionPolicy(new RecordingPolicy(new MenuPolicy(terminalDisplay), journal));
+            }
             earth.run();
         }
         catch (Exception e) {
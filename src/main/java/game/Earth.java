@@ -1,12 +1,18 @@
 package game;
 
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.metrics.LatencyHistogram;
+import edu.monash.fit2099.engine.metrics.TurnMetrics;
 import edu.monash.fit2099.engine.positions.DefaultGroundCreator;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.World;
-import edu.monash.fit2099.engine.actors.Actor; // REQ5: Added import
-import edu.monash.fit2099.engine.actions.DoNothingAction; // REQ5: Added import
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
+import edu.monash.fit2099.engine.snapshots.Snapshottable;
 import game.actors.Player;
+import game.actors.animals.Animal;
 import game.actors.animals.Bear;
 import game.actors.animals.Deer;
 import game.actors.animals.Wolf;
@@ -19,6 +25,10 @@ import game.grounds.spawners.Tundra;
 import game.grounds.trees.HazelnutTree;
 import game.grounds.trees.WildAppleTree;
 import game.grounds.trees.YewBerryTree;
+import game.effects.BleedingEffect;
+import game.effects.BurningEffect;
+import game.effects.FrostbiteEffect;
+import game.effects.PoisonedEffect;
 import game.items.*;
 import game.teleport.TeleportDestination;
 
@@ -46,7 +56,10 @@ import java.util.List;
  * main game loop.
  * </p>
  */
-public class Earth extends World {
+public class Earth extends World implements Snapshottable {
+
+    private static final LatencyHistogram WEATHER_FETCH_TIME = TurnMetrics.histogram("WeatherService.getCurrentWeather");
+    private static final LatencyHistogram WEATHER_TICK_TIME = TurnMetrics.histogram("WeatherController.tick");
 
     private Player player;
 
@@ -61,18 +74,29 @@ public class Earth extends World {
         super(display);
     }
 
+    /**
+     * Creates the world with a specific weather source, e.g. a fixed one for headless runs.
+     *
+     * @param display the Display that will display this World
+     * @param apiWeatherService where to fetch the API weather from each turn
+     */
+    public Earth(Display display, WeatherService apiWeatherService) {
+        super(display);
+        this.apiWeatherService = apiWeatherService;
+    }
+
     public void constructWorld() throws Exception {
         // === FIXED: Define groundCreator at the beginning of the method ===
         DefaultGroundCreator groundCreator = new DefaultGroundCreator();
 
-        // Register all ground types
-        groundCreator.registerGround('.', Snow::new);
+        // Register all ground types. Plain snow and dirt have no state, so one of each covers every tile.
+        groundCreator.registerSharedGround('.', Snow::new);
         groundCreator.registerGround('T', WildAppleTree::new);
         groundCreator.registerGround('A', HazelnutTree::new);
         groundCreator.registerGround('Y', YewBerryTree::new);
         groundCreator.registerGround('#', TeleDoor::new);
         groundCreator.registerGround('O', TeleportationCircle::new);
-        groundCreator.registerGround('+', Dirt::new);
+        groundCreator.registerSharedGround('+', Dirt::new);
 
         // REQ5 Note: We see 'Fire.java' and 'Campfire.java' both use '^'.
         // 'BuildCampfireAction' creates 'Campfire', so we register 'Campfire'
@@ -210,7 +234,7 @@ public class Earth extends World {
 
         // Weapons
         player.addItemToInventory(new game.items.weapons.Axe());
-        player.addItemToInventory(new game.items.weapons.Torch());
+        player.addItemToInventory(new game.items.weapons.Torch(display));
         player.addItemToInventory(new game.items.weapons.Bow());
 
         // ... (System.out.println sections remain unchanged) ...
@@ -221,57 +245,41 @@ public class Earth extends World {
         // 1. (REQ3/4) Initialize the Weather Controller
         this.weatherController = new WeatherController();
 
-        // 2. (REQ5) Initialize the API Weather Service
-        this.apiWeatherService = new OwmWeatherService();
+        // 2. (REQ5) Initialize the API Weather Service, unless one was supplied
+        if (this.apiWeatherService == null) {
+            this.apiWeatherService = new OwmWeatherService();
+        }
 
         // 3. (REQ5) Create and place the StormSeer NPC
-        StormSeer stormSeer = new StormSeer(this.weatherController);
+        StormSeer stormSeer = new StormSeer(this.weatherController, display);
         // Place him somewhere in the Forest
         forestMap.at(10, 2).addActor(stormSeer);
+
+        // === Snapshots: how to remake what has no constructor without arguments ===
+        registerSnapshotType(StormSeer.class, () -> new StormSeer(this.weatherController, display));
+        registerSnapshotType(BurningEffect.class, () -> new BurningEffect(0, 0, display));
+        registerSnapshotType(game.items.weapons.Torch.class, () -> new game.items.weapons.Torch(display));
+        registerSnapshotType(BleedingEffect.class, () -> new BleedingEffect(0, 0));
+        registerSnapshotType(PoisonedEffect.class, () -> new PoisonedEffect(0, 0));
+        registerSnapshotType(FrostbiteEffect.class, () -> new FrostbiteEffect(0));
     }
 
     /**
      * REQ5: Override the World's run method.
-     * This allows us to inject the API weather logic into the
-     * main game loop before each turn is processed.
+     * The API weather logic itself lives in {@link #gameLoop()}, so that headless
+     * runs through {@link #runTurns(int)} see exactly the same turn as the game.
      */
     @Override
     public void run() {
-        // Based on World.java, the base run() method contains the loop
-        // that calls gameLoop(). We must replicate that loop here.
-
         try {
             if (player == null)
                 throw new IllegalStateException("Player not set.");
 
-            // initialize the last action map to nothing actions;
-            // This loop is copied from World.java's run() method
-            for (Actor actor : actorLocations) {
-                lastActionMap.put(actor, new DoNothingAction());
-            }
+            initLastActions();
 
             // This loop is basically the whole game
             while (stillRunning()) {
-
-                // --- REQ5 API WEATHER LOGIC (INJECTED) ---
-                // 1. Fetch current weather from the API
-                WeatherEffect apiWeather = apiWeatherService.getCurrentWeather();
-
-                // 2. Push this weather state to the controller
-                if (apiWeather != null) {
-                    // FIX: Use the 'gameMaps' field from World.java
-                    weatherController.setExternalWeather(apiWeather, gameMaps.toArray(new GameMap[0]));
-                }
-
-                // 3. Tick the controller
-                // This applies the API weather's effects (actor + ground)
-                // FIX: Use the 'gameMaps' field from World.java
-                weatherController.tick(gameMaps.toArray(new GameMap[0]));
-                // --- END REQ5 LOGIC ---
-
-                // Now, run the original game turn logic from the base World class
-                // FIX: Call gameLoop() instead of gameTurn()
-                super.gameLoop();
+                gameLoop();
             }
 
             // After the loop (when stillRunning() is false), print the end game message
@@ -282,9 +290,65 @@ public class Earth extends World {
         }
     }
 
+    /**
+     * REQ5: One turn of the Earth scenario. Fetches the API weather, ticks the
+     * weather controller, then runs the original game turn logic from the base World class.
+     */
+    @Override
+    protected void gameLoop() throws GameEngineException {
+        GameMap[] maps = gameMaps.toArray(new GameMap[0]);
+
+        // --- REQ5 API WEATHER LOGIC (INJECTED) ---
+        // 1. Fetch current weather from the API
+        long start = TurnMetrics.start();
+        WeatherEffect apiWeather = apiWeatherService.getCurrentWeather();
+        TurnMetrics.record(WEATHER_FETCH_TIME, start);
+
+        // 2. Push this weather state to the controller
+        if (apiWeather != null) {
+            weatherController.setExternalWeather(apiWeather, maps);
+        }
+
+        // 3. Tick the controller
+        // This applies the API weather's effects (actor + ground)
+        start = TurnMetrics.start();
+        weatherController.tick(maps);
+        TurnMetrics.record(WEATHER_TICK_TIME, start);
+        // --- END REQ5 LOGIC ---
+
+        super.gameLoop();
+    }
+
+    /**
+     * Animals (including the drake) and the Storm Seer only change themselves
+     * while deciding, so they can decide in parallel once a decision pool is set.
+     */
+    @Override
+    protected boolean decidesInParallel(Actor actor) {
+        return actor instanceof Animal || actor instanceof StormSeer;
+    }
+
+    /**
+     * @return the Explorer, once {@link #constructWorld()} has been called
+     */
+    public Player getPlayer() {
+        return player;
+    }
+
     @Override
     protected boolean stillRunning() {
         // player is a field in Earth, so we check it directly
         return super.stillRunning() && player.isConscious();
     }
-}
\ No newline at end of file
+
+    /** Saves the weather, on top of everything the engine saves. */
+    @Override
+    public void writeState(SnapshotWriter out) {
+        weatherController.writeState(out);
+    }
+
+    @Override
+    public void readState(SnapshotReader in) {
+        weatherController.readState(in);
+    }
+}
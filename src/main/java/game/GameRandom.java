@@ -0,0 +1,123 @@
+package game;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import game.traits.RollsDice;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.random.RandomGenerator;
+
+/**
+ * The one seeded source of randomness for the whole game, so that a run can be played
+ * again exactly from its seed.
+ *
+ * <p>Nothing draws from the seed directly. Every Actor gets its own stream: animals and the
+ * Explorer split one off as they are made and keep it themselves (see {@link RollsDice}), and
+ * any other Actor is given one the first time it is asked for. Every Ground or controller that
+ * rolls dice splits one off as it is made. A stream is only used by its owner, so what one
+ * Actor rolls does not depend on how many times another rolled, or on which thread decided
+ * first.</p>
+ *
+ * <p>Something made during a turn, such as a spawned animal, takes its stream from whatever
+ * made it rather than from the seed; see {@link #makeFrom}. Otherwise which of two things
+ * made on different threads at once got which stream would depend on which got here first.</p>
+ *
+ * <p>Call {@link #seed(long)} before building the world.</p>
+ */
+public final class GameRandom {
+
+    private static long seed;
+    private static SplittableRandom source;
+    private static final Map<Actor, RandomGenerator> actorStreams = new WeakHashMap<>();
+    /**
+     * Where {@link #split()} takes streams from on this thread while {@link #makeFrom} is
+     * making something, or null the rest of the time.
+     */
+    private static final ThreadLocal<SplittableRandom> maker = new ThreadLocal<>();
+
+    static {
+        seed(System.nanoTime());
+    }
+
+    private GameRandom() {
+    }
+
+    /**
+     * Start again from the given seed. Streams handed out before this keep going as they were.
+     *
+     * @param seed the seed
+     */
+    public static synchronized void seed(long seed) {
+        GameRandom.seed = seed;
+        source = new SplittableRandom(seed);
+        actorStreams.clear();
+    }
+
+    /**
+     * @return the seed the game is running from
+     */
+    public static synchronized long seed() {
+        return seed;
+    }
+
+    /**
+     * Split off a new stream, for an object that rolls dice of its own. Inside
+     * {@link #makeFrom} the stream comes from the maker's stream instead of the seed.
+     *
+     * @return a stream that only the caller should use
+     */
+    public static RandomGenerator split() {
+        SplittableRandom from = maker.get();
+        if (from != null) {
+            return from.split();
+        }
+        synchronized (GameRandom.class) {
+            return source.split();
+        }
+    }
+
+    /**
+     * Make something whose streams come from the given stream rather than from the seed:
+     * every {@link #split()} made by {@code make} on this thread draws from it. The stream is
+     * only read from once, so the same maker makes the same things in the same order
+     * whichever thread it runs on.
+     *
+     * @param random the stream of whatever is doing the making
+     * @param make makes the object
+     * @param <T> the type of the object
+     * @return what {@code make} made
+     * @throws Exception whatever {@code make} throws
+     */
+    public static <T> T makeFrom(RandomGenerator random, Callable<T> make) throws Exception {
+        SplittableRandom outer = maker.get();
+        maker.set(new SplittableRandom(random.nextLong()));
+        try {
+            return make.call();
+        } finally {
+            if (outer == null) {
+                maker.remove();
+            } else {
+                maker.set(outer);
+            }
+        }
+    }
+
+    /**
+     * The stream for everything an Actor, or an Action or Behaviour acting for it, rolls.
+     * An Actor that keeps its own stream is answered without taking a lock, so that NPCs
+     * deciding in parallel do not queue up here; any other Actor's is looked up under one.
+     *
+     * @param actor the Actor
+     * @return the Actor's own stream
+     */
+    public static RandomGenerator of(Actor actor) {
+        if (actor instanceof RollsDice dice) {
+            return dice.random();
+        }
+        synchronized (GameRandom.class) {
+            return actorStreams.computeIfAbsent(actor, key -> source.split());
+        }
+    }
+}
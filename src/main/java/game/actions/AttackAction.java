@@ -2,10 +2,12 @@ package game.actions;
 
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Location;
+import game.GameRandom;
 
 import java.lang.reflect.Method;
-import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Generic melee attack that works across engine variants.
@@ -50,7 +52,7 @@ public class AttackAction extends Action {
         }
 
         int hitChance = (overrideHitChance != null) ? overrideHitChance : readHitChance(attacker, 100);
-        int roll = ThreadLocalRandom.current().nextInt(100);
+        int roll = GameRandom.of(attacker).nextInt(100);
         if (roll >= hitChance) {
             return attacker + " misses " + target + ".";
         }
@@ -67,6 +69,37 @@ public class AttackAction extends Action {
         return result;
     }
 
+    /**
+     * An attack chosen ahead of time still goes ahead only if the target is
+     * still on the map and still next to the attacker; otherwise the attacker
+     * does nothing.
+     */
+    @Override
+    public boolean isStillPossible(Actor attacker, GameMap map) {
+        return isNextTo(attacker, target, map);
+    }
+
+    /**
+     * Whether a target stands on one of the Locations an attacker's Exits lead to.
+     *
+     * @param attacker the Actor attacking
+     * @param target the Actor attacked; may be null
+     * @param map the map the attacker is on
+     * @return true if both are on the map and the target is one step away
+     */
+    static boolean isNextTo(Actor attacker, Actor target, GameMap map) {
+        if (target == null || !map.contains(target) || !map.contains(attacker)) {
+            return false;
+        }
+        Location there = map.locationOf(target);
+        for (Exit exit : map.locationOf(attacker).getExits()) {
+            if (exit.getDestination().equals(there)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public String menuDescription(Actor actor) {
         return actor + " attacks " + target + (directionText.isEmpty() ? "" : " (" + directionText + ")");
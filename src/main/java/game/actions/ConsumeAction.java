@@ -63,6 +63,16 @@ public class ConsumeAction extends Action {
     return result;
   }
 
+  /** Food on the ground may have been eaten by someone else since this was chosen. */
+  @Override
+  public boolean isStillPossible(Actor actor, GameMap map) {
+    if (!fromGround) {
+      return true;
+    }
+    var location = map.locationOf(actor);
+    return location != null && location.getItems().contains(item);
+  }
+
   @Override
   public String menuDescription(Actor actor) {
     if (bottle != null)
@@ -19,14 +19,19 @@ public class TalkToAction extends Action {
     /** The current weather, passed in to get context for the monologue. */
     private final ApiWeatherBase weather;
 
+    /** Where the monologue is printed, in order with the rest of the turn. */
+    private final Display display;
+
     /**
      * Constructor.
      * @param target The StormSeer NPC.
      * @param weather The current API-driven weather.
+     * @param display The Display to print the monologue to.
      */
-    public TalkToAction(StormSeer target, ApiWeatherBase weather) {
+    public TalkToAction(StormSeer target, ApiWeatherBase weather, Display display) {
         this.target = target;
         this.weather = weather;
+        this.display = display;
     }
 
     /**
@@ -36,9 +41,6 @@ public class TalkToAction extends Action {
      */
     @Override
     public String execute(Actor actor, GameMap map) {
-        // We must create a new Display object to print to the console
-        Display display = new Display();
-
         // 1. Print standard flavour text
         display.println(String.format("\n%s looks at you, then gestures to the sky:", target));
 
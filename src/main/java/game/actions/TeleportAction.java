@@ -7,10 +7,10 @@ import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 import game.grounds.Fire;
 import game.teleport.TeleportDestination;
+import game.GameRandom;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 /**
  * Action to teleport using Tele-doors or Teleportation Circles.
@@ -22,7 +22,6 @@ public class TeleportAction extends Action {
     private final boolean burnsDestination;
     private final boolean burnsSource;
     private final Location sourceLocation;
-    private final Random random = new Random();
 
     /**
      * Constructor for TeleportAction.
@@ -69,7 +68,7 @@ public class TeleportAction extends Action {
             result += " This burns the surrounding locations of (" + destLocation.x() + ", " + destLocation.y() + ") on " + destination.getMap();
         }
         if (burnsSource) {
-            Location burnedLocation = burnRandomSurrounding(sourceLocation);
+            Location burnedLocation = burnRandomSurrounding(actor, sourceLocation);
             result += " A fire starts on (" + burnedLocation.x() + ", " + burnedLocation.y() + ") on " + map;
         }
 
@@ -90,13 +89,13 @@ public class TeleportAction extends Action {
      * Burn one random surrounding location.
      * @return The location that was burned.
      */
-    private Location burnRandomSurrounding(Location center) {
+    private Location burnRandomSurrounding(Actor actor, Location center) {
         List<Location> surroundings = new ArrayList<>();
         for (Exit exit : center.getExits()) {
             surroundings.add(exit.getDestination());
         }
         if (!surroundings.isEmpty()) {
-            Location toBurn = surroundings.get(random.nextInt(surroundings.size()));
+            Location toBurn = surroundings.get(GameRandom.of(actor).nextInt(surroundings.size()));
             toBurn.setGround(new Fire());
             return toBurn;
         }
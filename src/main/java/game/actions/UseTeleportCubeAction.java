@@ -6,10 +6,11 @@ import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 import game.items.TeleportCube;
 import game.teleport.TeleportDestination;
+import game.GameRandom;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Action to use a Teleport Cube from inventory.
@@ -18,7 +19,6 @@ import java.util.Random;
 public class UseTeleportCubeAction extends Action {
     private final TeleportDestination destination;
     private final TeleportCube cube;
-    private final Random random = new Random();
 
     /**
      * Constructor for UseTeleportCubeAction.
@@ -34,18 +34,16 @@ public class UseTeleportCubeAction extends Action {
     @Override
     public String execute(Actor actor, GameMap map) {
         Location sourceLocation = map.locationOf(actor);
+        RandomGenerator random = GameRandom.of(actor);
         // 50% chance of malfunction
         if (random.nextBoolean()) {
             // Malfunction - teleport to random location on current map
             List<Location> possibleLocations = new ArrayList<>();
-            for (int x : map.getXRange()) {
-                for (int y : map.getYRange()) {
-                    Location loc = map.at(x, y);
-                    if (loc.canActorEnter(actor) && !loc.containsAnActor()) {
-                        possibleLocations.add(loc);
-                    }
+            map.forEachLiveLocation(loc -> {
+                if (loc.canActorEnter(actor) && !loc.containsAnActor()) {
+                    possibleLocations.add(loc);
                 }
-            }
+            });
 
             if (!possibleLocations.isEmpty()) {
                 Location randomDest = possibleLocations.get(random.nextInt(possibleLocations.size()));
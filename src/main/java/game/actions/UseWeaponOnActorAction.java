@@ -48,6 +48,19 @@ public class UseWeaponOnActorAction extends Action {
         return weapon.attack(actor, target, map);
     }
 
+    /**
+     * The attack is only still possible while the target is on the map and
+     * still next to the attacker.
+     *
+     * @param actor the attacker
+     * @param map the map where the action occurs
+     * @return true if the target has neither been removed nor stepped out of reach
+     */
+    @Override
+    public boolean isStillPossible(Actor actor, GameMap map) {
+        return AttackAction.isNextTo(actor, target, map);
+    }
+
     /**
      * Describes the action for menus.
      *
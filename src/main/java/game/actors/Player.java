@@ -2,14 +2,23 @@ package game.actors;
 
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actions.DoNothingAction;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actors.attributes.BaseAttributes;
 import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.displays.Menu;
 import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
+import edu.monash.fit2099.engine.snapshots.Snapshottable;
+import game.GameRandom;
 import game.items.weapons.BareFist;
 import game.items.Bedroll;
 import game.items.Bottle;
+import game.simulation.ActionPolicy;
+import game.traits.RollsDice;
+
+import java.util.random.RandomGenerator;
 
 
 /** The controllable Explorer character.
@@ -19,7 +28,7 @@ import game.items.Bottle;
  * {@link game.items.Bedroll} and drink from a {@link game.items.Bottle}.</p>
  */
 
-public class Player extends Actor {
+public class Player extends Actor implements Snapshottable, RollsDice {
 
     // Survival stats (REQ1)
     private int hydration = 20;
@@ -30,6 +39,11 @@ public class Player extends Actor {
     // Sleep state
     private int sleepTurnsRemaining = 0;
 
+    // Headless runs: chooses actions instead of the menu when set
+    private ActionPolicy actionPolicy;
+
+    private final RandomGenerator random;
+
     /** Creates the Explorer with 100 HP, bare fist, bedroll and bottle. */
 
     public Player() {
@@ -37,6 +51,13 @@ public class Player extends Actor {
         this.setIntrinsicWeapon(new BareFist());
         this.addItemToInventory(new Bedroll());
         this.addItemToInventory(new Bottle());
+        this.random = GameRandom.split();
+    }
+
+    /** @return the Explorer's own random stream; see {@link GameRandom#of} */
+    @Override
+    public RandomGenerator random() {
+        return random;
     }
 
     // ---------- Helpers used by actions/items ----------
@@ -61,6 +82,25 @@ public class Player extends Actor {
         warmth = Math.max(0, newWarmth);
     }
 
+    /** Current hydration. */
+    public int getHydration() {
+        return hydration;
+    }
+
+    /** Current warmth. */
+    public int getWarmth() {
+        return warmth;
+    }
+
+    /**
+     * Let a policy choose this player's actions instead of the menu.
+     *
+     * @param actionPolicy the policy to use, or null to go back to the interactive menu
+     */
+    public void setActionPolicy(ActionPolicy actionPolicy) {
+        this.actionPolicy = actionPolicy;
+    }
+
     // ---------- Turn logic ----------
 
     /**
@@ -84,7 +124,12 @@ public class Player extends Actor {
                     this.getAttribute(BaseAttributes.HEALTH), hydration, maxHydration, warmth, maxWarmth));
             display.println("Explorer cannot survive any longer...");
             map.removeActor(this);
-            System.out.println("Game Over.");
+            if (actionPolicy != null) {
+                // Headless or recording: let the world loop notice the player is gone and stop
+                return new DoNothingAction();
+            }
+            display.println("Game Over.");
+            display.flush();
             System.exit(0);
         }
 
@@ -99,6 +144,24 @@ public class Player extends Actor {
         if (lastAction != null && lastAction.getNextAction() != null) {
             return lastAction.getNextAction();
         }
+        if (actionPolicy != null) {
+            return actionPolicy.selectAction(this, actions, map);
+        }
         return new Menu(actions).showMenu(this, display);
     }
-}
\ No newline at end of file
+
+    /** Saves hydration, warmth and how long the Explorer has left to sleep. */
+    @Override
+    public void writeState(SnapshotWriter out) {
+        out.writeInt(hydration);
+        out.writeInt(warmth);
+        out.writeInt(sleepTurnsRemaining);
+    }
+
+    @Override
+    public void readState(SnapshotReader in) {
+        hydration = in.readInt();
+        warmth = in.readInt();
+        sleepTurnsRemaining = in.readInt();
+    }
+}
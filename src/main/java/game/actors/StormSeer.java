@@ -28,18 +28,21 @@ public class StormSeer extends Actor {
 
     private final DialogueService dialogueService;
     private final WeatherController weatherController;
+    private final Display display;
 
     /**
      * Constructor for the StormSeer.
      *
      * @param weatherController A reference to the game's global WeatherController.
      * This is used to read the current weather state.
+     * @param display The game's Display, which the monologue is printed to.
      */
-    public StormSeer(WeatherController weatherController) {
+    public StormSeer(WeatherController weatherController, Display display) {
         super("Storm Seer", '§', 99999); // Name, Display Char, Hitpoints
         // DIP: Depend on the interface, not the concrete class
         this.dialogueService = new GeminiDialogueService();
         this.weatherController = weatherController;
+        this.display = display;
     }
 
     /**
@@ -52,6 +55,14 @@ public class StormSeer extends Actor {
         return new DoNothingAction();
     }
 
+    /**
+     * The StormSeer never looks at its actions, so the engine need not list them.
+     */
+    @Override
+    public boolean needsAllowableActions() {
+        return false;
+    }
+
     /**
      * Defines the actions other actors (like the Player) can perform on the StormSeer.
      */
@@ -71,7 +82,7 @@ public class StormSeer extends Actor {
             // 只有当是 API 控制的天气 (ApiWeatherBase) 时才提供交谈选项
             if (current != null && current.isApiControlled() && current instanceof ApiWeatherBase) {
                 // TalkToAction 构造函数需要 ApiWeatherBase 类型来获取温度和描述
-                actions.add(new TalkToAction(this, (ApiWeatherBase) current));
+                actions.add(new TalkToAction(this, (ApiWeatherBase) current, display));
             }
         }
 
@@ -7,16 +7,22 @@ import edu.monash.fit2099.engine.actors.attributes.BaseAttributes;
 import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.items.Item;
 import edu.monash.fit2099.engine.positions.*;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
+import edu.monash.fit2099.engine.snapshots.Snapshottable;
 
+import game.GameRandom;
 import game.items.weapons.BareFist;
 import game.grounds.spawners.Spawner;
 import game.actions.*;
 import game.actors.Player;
 import game.items.Edible;
 import game.taming.Tameable;
+import game.traits.RollsDice;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 /**
  * Abstract base class for all animal actors in the game.
@@ -40,7 +46,7 @@ import java.util.List;
  *
  * @author @awan0091
  */
-public abstract class Animal extends Actor implements Tameable {
+public abstract class Animal extends Actor implements Tameable, Snapshottable, RollsDice {
 
   protected final List<Behaviour> behaviours = new ArrayList<>();
   protected boolean tamed = false;
@@ -48,6 +54,7 @@ public abstract class Animal extends Actor implements Tameable {
   protected int warmth;
   protected boolean coldResistant = false;
   protected boolean canConsumeGroundItems = false;
+  private final RandomGenerator random;
 
   /**
    * Constructs a new {@code Animal} instance with base attributes.
@@ -61,6 +68,16 @@ public abstract class Animal extends Actor implements Tameable {
     super(name, displayChar, hitPoints);
     this.warmth = warmthLevel; // A2
     this.setIntrinsicWeapon(new BareFist());
+    // Take a stream in the order animals are made, not the order they first roll,
+    // which differs when they decide their turns in parallel; a spawned animal's
+    // comes from its spawner (see GameRandom.makeFrom)
+    this.random = GameRandom.split();
+  }
+
+  /** @return this animal's own random stream; see {@link GameRandom#of} */
+  @Override
+  public RandomGenerator random() {
+    return random;
   }
 
   /** Reduces the animal’s warmth level by one per turn. (A2)*/
@@ -128,6 +145,15 @@ public abstract class Animal extends Actor implements Tameable {
     return getTamedMessage();
   }
 
+  /**
+   * Animals make up their own actions from their behaviours, so the engine
+   * does not need to list every action open to them.
+   */
+  @Override
+  public boolean needsAllowableActions() {
+    return false;
+  }
+
   /**
    * Defines the animal’s behavior each turn, including warmth management,
    * environmental reactions, and decision-making through behaviors.
@@ -224,4 +250,30 @@ public abstract class Animal extends Actor implements Tameable {
   public String toString() {
     return super.toString() + " [Warmth: " + warmth + "]";
   }
+
+  /**
+   * Saves warmth, traits and who the animal is tamed by. A tamed animal gets its
+   * owner's behaviours back when it is loaded.
+   */
+  @Override
+  public void writeState(SnapshotWriter out) {
+    out.writeBoolean(tamed);
+    out.writeActor(owner);
+    out.writeInt(warmth);
+    out.writeBoolean(coldResistant);
+    out.writeBoolean(canConsumeGroundItems);
+  }
+
+  @Override
+  public void readState(SnapshotReader in) {
+    tamed = in.readBoolean();
+    owner = (Player) in.readActor();
+    warmth = in.readInt();
+    coldResistant = in.readBoolean();
+    canConsumeGroundItems = in.readBoolean();
+    if (tamed && owner != null) {
+      behaviours.clear();
+      onTamed(owner);
+    }
+  }
 }
@@ -1,6 +1,8 @@
 package game.actors.animals;
 
 import edu.monash.fit2099.engine.items.Item;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
 import game.actors.Player;
 import game.behaviours.FetchAndDeliverBehaviour;
 import game.behaviours.FollowPlayerBehaviour;
@@ -46,4 +48,16 @@ public class Deer extends Animal implements Gatherer {
         behaviours.add(new FollowPlayerBehaviour(owner));
         behaviours.add(new WanderBehaviour());
     }
+
+    @Override
+    public void writeState(SnapshotWriter out) {
+        super.writeState(out);
+        out.writeItem(carriedItem);
+    }
+
+    @Override
+    public void readState(SnapshotReader in) {
+        super.readState(in);
+        carriedItem = in.readItem();
+    }
 }
@@ -9,6 +9,8 @@ import edu.monash.fit2099.engine.items.Item;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 import edu.monash.fit2099.engine.weapons.Weapon;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
 import game.actions.UseWeaponOnActorAction;
 import game.actors.Player;
 import game.effects.FrostbiteEffect;
@@ -17,8 +19,9 @@ import game.states.DragonState;
 import game.states.EarthenScaleState;
 import game.states.FlameHeartState;
 import game.states.StormsEyeState;
+import game.GameRandom;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * A powerful creature that can switch between three elemental states.
@@ -52,7 +55,7 @@ public class ElementalDrake extends Animal implements Weapon {
     /**
      * Random number generator for state transitions and attack rolls.
      */
-    private final Random random = new Random();
+    private final RandomGenerator random = GameRandom.of(this);
 
     /**
      * Constructor.
@@ -213,4 +216,24 @@ public class ElementalDrake extends Animal implements Weapon {
     public String toString() {
         return super.toString() + " (" + currentState.getStateName() + ")";
     }
-}
\ No newline at end of file
+
+    /** Saves which state the drake is in, as well as what every animal saves. */
+    @Override
+    public void writeState(SnapshotWriter out) {
+        super.writeState(out);
+        out.writeClass(currentState.getClass());
+    }
+
+    @Override
+    public void readState(SnapshotReader in) {
+        super.readState(in);
+        Class<?> state = in.readClass();
+        if (state == EarthenScaleState.class) {
+            currentState = new EarthenScaleState();
+        } else if (state == StormsEyeState.class) {
+            currentState = new StormsEyeState();
+        } else {
+            currentState = new FlameHeartState();
+        }
+    }
+}
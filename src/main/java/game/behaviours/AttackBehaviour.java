@@ -11,6 +11,9 @@ import game.actors.Player;
 
 /** If an adjacent target is available, returns an {@link game.actions.AttackAction}.
  * <p>Configured with damage, hit chance and verb so species can share the behaviour.</p>
+ * <p>"Adjacent" means through any exit of the actor's location, including ones added with
+ * {@code addExit} such as doors to another map; the actor index is not asked first because it
+ * only sees the square around the actor on the same map.</p>
  */
 public class AttackBehaviour implements Behaviour {
 
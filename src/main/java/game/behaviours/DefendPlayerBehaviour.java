@@ -12,7 +12,8 @@ import game.traits.Predator;
 
 /** Makes a tamed animal attack hostile predators adjacent to it to defend its owner.
  * <p>“Hostile” means the target implements {@link game.traits.Predator} and is not already
- * allied via {@link game.taming.Tameable}.</p>
+ * allied via {@link game.taming.Tameable}. Every exit is looked through, including ones
+ * added with {@code addExit}, so a predator behind a door to another map is seen too.</p>
  */
 public class DefendPlayerBehaviour implements Behaviour {
 
@@ -9,7 +9,11 @@ import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 import game.actors.Player;
 
-/** Move one step toward the player (greedy) if possible. */
+/**
+ * Move one step toward the player if possible, along the map's shared
+ * {@link edu.monash.fit2099.engine.positions.DistanceField} so that trees are walked around.
+ * Further away than the field reaches, step greedily instead.
+ */
 public class FollowPlayerBehaviour implements Behaviour {
 
     private final Player owner;
@@ -22,6 +26,9 @@ public class FollowPlayerBehaviour implements Behaviour {
     public Action generateAction(Actor actor, GameMap map) {
         if (owner == null || !map.contains(owner)) return null;
 
+        Exit step = map.distanceFieldTo(owner).nextStep(actor);
+        if (step != null) return new MoveActorAction(step.getDestination(), step.getName());
+
         Location here = map.locationOf(actor);
         Location there = map.locationOf(owner);
         int bestDist = dist(here, there);
@@ -7,10 +7,10 @@ import edu.monash.fit2099.engine.actors.Behaviour;
 import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
+import game.GameRandom;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
 
 /** Choose a random adjacent enterable tile and move there. */
 public class WanderBehaviour implements Behaviour {
@@ -26,7 +26,7 @@ public class WanderBehaviour implements Behaviour {
             }
         }
         if (options.isEmpty()) return null;
-        Exit choice = options.get(ThreadLocalRandom.current().nextInt(options.size()));
+        Exit choice = options.get(GameRandom.of(actor).nextInt(options.size()));
         return new MoveActorAction(choice.getDestination(), choice.getName());
     }
 }
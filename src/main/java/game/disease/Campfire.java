@@ -2,6 +2,9 @@ package game.disease;
 
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
+import edu.monash.fit2099.engine.snapshots.Snapshottable;
 
 /**
  * A ground tile representing an active campfire.
@@ -10,7 +13,7 @@ import edu.monash.fit2099.engine.positions.Location;
  * {@link UnderCampfireTherapy}. When fuel runs out, it becomes dirt-like
  * (here we just keep it as burnt campfire but inactive).</p>
  */
-public class Campfire extends TreatmentStation {
+public class Campfire extends TreatmentStation implements Snapshottable {
 
     /** How many turns the fire lasts. */
     private static final int INITIAL_FUEL_TURNS = 8;
@@ -56,4 +59,15 @@ public class Campfire extends TreatmentStation {
     public boolean isActive() {
         return remainingFuel > 0;
     }
+
+    /** Saves how much fuel is left. */
+    @Override
+    public void writeState(SnapshotWriter out) {
+        out.writeInt(remainingFuel);
+    }
+
+    @Override
+    public void readState(SnapshotReader in) {
+        remainingFuel = in.readInt();
+    }
 }
@@ -2,6 +2,9 @@ package game.disease;
 
 import edu.monash.fit2099.engine.GameEntity;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
+import edu.monash.fit2099.engine.snapshots.Snapshottable;
 
 /**
  * Simple fever: damages HP every turn until the actor has spent
@@ -9,7 +12,7 @@ import edu.monash.fit2099.engine.positions.Location;
  *
  * <p>Healed by {@code game.disease.UnderCampfireTherapy}.</p>
  */
-public class FeverDisease extends DiseaseEffect {
+public class FeverDisease extends DiseaseEffect implements Snapshottable {
 
     /** Damage per turn from fever. */
     private static final int FEVER_DAMAGE_PER_TURN = 2;
@@ -47,4 +50,14 @@ public class FeverDisease extends DiseaseEffect {
     public void cure() {
         this.active = false;
     }
+
+    @Override
+    public void writeState(SnapshotWriter out) {
+        out.writeBoolean(active);
+    }
+
+    @Override
+    public void readState(SnapshotReader in) {
+        active = in.readBoolean();
+    }
 }
@@ -2,13 +2,16 @@ package game.disease;
 
 import edu.monash.fit2099.engine.GameEntity;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
+import edu.monash.fit2099.engine.snapshots.Snapshottable;
 
 /**
  * Frost flu: mainly reduces warmth every turn; healed in a steam hut.
  *
  * <p>Healed by {@code game.disease.UnderSteamTherapy}.</p>
  */
-public class FrostFluDisease extends DiseaseEffect {
+public class FrostFluDisease extends DiseaseEffect implements Snapshottable {
 
     /** Warmth lost per turn. */
     private static final int FLU_WARMTH_LOSS = 1;
@@ -42,4 +45,14 @@ public class FrostFluDisease extends DiseaseEffect {
     public void cure() {
         this.active = false;
     }
+
+    @Override
+    public void writeState(SnapshotWriter out) {
+        out.writeBoolean(active);
+    }
+
+    @Override
+    public void readState(SnapshotReader in) {
+        active = in.readBoolean();
+    }
 }
@@ -3,6 +3,9 @@ package game.disease;
 import edu.monash.fit2099.engine.GameEntity;
 import edu.monash.fit2099.engine.capabilities.Status;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
+import edu.monash.fit2099.engine.snapshots.Snapshottable;
 
 import java.lang.reflect.Method;
 
@@ -11,7 +14,7 @@ import java.lang.reflect.Method;
  * Counts consecutive turns of heat; when enough turns collected,
  * it tries to cure {@link FeverDisease}.
  */
-public class UnderCampfireTherapy implements Status {
+public class UnderCampfireTherapy implements Status, Snapshottable {
 
     /** Number of turns of heat required to cure fever. */
     private static final int REQUIRED_HEAT_TURNS = 3;
@@ -57,4 +60,16 @@ public class UnderCampfireTherapy implements Status {
     public boolean isStatusActive() {
         return active;
     }
+
+    @Override
+    public void writeState(SnapshotWriter out) {
+        out.writeInt(heatTicks);
+        out.writeBoolean(active);
+    }
+
+    @Override
+    public void readState(SnapshotReader in) {
+        heatTicks = in.readInt();
+        active = in.readBoolean();
+    }
 }
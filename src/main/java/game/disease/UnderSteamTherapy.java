@@ -3,6 +3,9 @@ package game.disease;
 import edu.monash.fit2099.engine.GameEntity;
 import edu.monash.fit2099.engine.capabilities.Status;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
+import edu.monash.fit2099.engine.snapshots.Snapshottable;
 
 import java.lang.reflect.Method;
 
@@ -10,7 +13,7 @@ import java.lang.reflect.Method;
  * Status added when the actor starts steam therapy inside a {@link SteamHut}.
  * After enough ticks, it cures {@link FrostFluDisease}.
  */
-public class UnderSteamTherapy implements Status {
+public class UnderSteamTherapy implements Status, Snapshottable {
 
     /** Number of ticks required to cure. */
     private static final int REQUIRED_STEAM_TURNS = 4;
@@ -54,4 +57,16 @@ public class UnderSteamTherapy implements Status {
     public boolean isStatusActive() {
         return active;
     }
+
+    @Override
+    public void writeState(SnapshotWriter out) {
+        out.writeInt(steamTicks);
+        out.writeBoolean(active);
+    }
+
+    @Override
+    public void readState(SnapshotReader in) {
+        steamTicks = in.readInt();
+        active = in.readBoolean();
+    }
 }
@@ -4,6 +4,9 @@ import edu.monash.fit2099.engine.GameEntity;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.capabilities.Status;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
+import edu.monash.fit2099.engine.snapshots.Snapshottable;
 
 /**
  * A stacking damage-over-time (DoT) effect that represents bleeding.
@@ -13,7 +16,7 @@ import edu.monash.fit2099.engine.positions.Location;
  *
  * <p><b>REQ3</b>: Applied by Axe on a successful bleed proc.</p>
  */
-public class BleedingEffect implements Status {
+public class BleedingEffect implements Status, Snapshottable {
     /** Damage dealt each tick while the effect is active. */
     private int damagePerTurn;
 
@@ -62,4 +65,16 @@ public class BleedingEffect implements Status {
     public String toString() {
         return "Bleeding (" + turnsRemaining + " turns, " + damagePerTurn + " dmg/turn)";
     }
+
+    @Override
+    public void writeState(SnapshotWriter out) {
+        out.writeInt(damagePerTurn);
+        out.writeInt(turnsRemaining);
+    }
+
+    @Override
+    public void readState(SnapshotReader in) {
+        damagePerTurn = in.readInt();
+        turnsRemaining = in.readInt();
+    }
 }
@@ -5,18 +5,28 @@ import edu.monash.fit2099.engine.GameEntity;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
+import edu.monash.fit2099.engine.snapshots.Snapshottable;
 
 /**
  * Burning status effect that deals damage over time.
  * Stacks with multiple applications.
  */
-public class BurningEffect implements Status {
+public class BurningEffect implements Status, Snapshottable {
+    private final Display display;
     private int damagePerTurn;
     private int turnsRemaining;
 
-    public BurningEffect(int damagePerTurn, int duration) {
+    /**
+     * @param damagePerTurn damage dealt each turn
+     * @param duration how many turns it burns for
+     * @param display where to report the damage
+     */
+    public BurningEffect(int damagePerTurn, int duration, Display display) {
         this.damagePerTurn = damagePerTurn;
         this.turnsRemaining = duration;
+        this.display = display;
     }
 
     @Override
@@ -24,7 +34,7 @@ public class BurningEffect implements Status {
         if (entity instanceof Actor && turnsRemaining > 0) {
             Actor actor = (Actor) entity;
             actor.hurt(damagePerTurn);
-            new Display().println(actor + " is burned, losing " + damagePerTurn + " HP");
+            display.println(actor + " is burned, losing " + damagePerTurn + " HP");
             turnsRemaining--;
         }
     }
@@ -38,4 +48,16 @@ public class BurningEffect implements Status {
     public String toString() {
         return "Burning (" + turnsRemaining + " turns, " + damagePerTurn + " damage/turn)";
     }
-}
\ No newline at end of file
+
+    @Override
+    public void writeState(SnapshotWriter out) {
+        out.writeInt(damagePerTurn);
+        out.writeInt(turnsRemaining);
+    }
+
+    @Override
+    public void readState(SnapshotReader in) {
+        damagePerTurn = in.readInt();
+        turnsRemaining = in.readInt();
+    }
+}
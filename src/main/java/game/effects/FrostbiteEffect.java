@@ -3,6 +3,9 @@ package game.effects;
 import edu.monash.fit2099.engine.GameEntity;
 import edu.monash.fit2099.engine.capabilities.Status;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
+import edu.monash.fit2099.engine.snapshots.Snapshottable;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -16,7 +19,7 @@ import java.lang.reflect.Method;
  *
  * <p><b>REQ4</b>: Applied when a weapon coated with snow hits a non-immune target.</p>
  */
-public class FrostbiteEffect implements Status {
+public class FrostbiteEffect implements Status, Snapshottable {
 
     /** Default duration used when snow is the source of the frostbite. */
     public static final int DEFAULT_DURATION_FROM_SNOW = 3;
@@ -153,4 +156,14 @@ public class FrostbiteEffect implements Status {
     public String toString() {
         return "Frostbite (" + turnsRemaining + " turns, -" + WARMTH_REDUCTION_PER_TICK + " warmth/turn)";
     }
+
+    @Override
+    public void writeState(SnapshotWriter out) {
+        out.writeInt(turnsRemaining);
+    }
+
+    @Override
+    public void readState(SnapshotReader in) {
+        turnsRemaining = in.readInt();
+    }
 }
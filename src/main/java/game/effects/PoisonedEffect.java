@@ -3,6 +3,9 @@ package game.effects;
 import edu.monash.fit2099.engine.GameEntity;
 import edu.monash.fit2099.engine.capabilities.Status;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
+import edu.monash.fit2099.engine.snapshots.Snapshottable;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -16,7 +19,7 @@ import java.lang.reflect.Method;
  * <p><b>REQ4</b>: Applied when a weapon coated with yew berry hits a target (same profile as
  * eating a {@code YewBerry}).</p>
  */
-public class PoisonedEffect implements Status {
+public class PoisonedEffect implements Status, Snapshottable {
 
     /** Canonical damage for "yewberry poison". */
     public static final int DEFAULT_DAMAGE_FROM_YEWBERRY = 4;
@@ -31,7 +34,7 @@ public class PoisonedEffect implements Status {
     private static final String FIELD_HP = "hitPoints";
 
     /** Damage dealt each tick while the effect is active. */
-    private final int damagePerTurn;
+    private int damagePerTurn;
 
     /** Number of ticks remaining before the effect expires. */
     private int turnsRemaining;
@@ -126,4 +129,16 @@ public class PoisonedEffect implements Status {
     public String toString() {
         return "Poisoned (" + turnsRemaining + " turns, " + damagePerTurn + " dmg/turn)";
     }
+
+    @Override
+    public void writeState(SnapshotWriter out) {
+        out.writeInt(damagePerTurn);
+        out.writeInt(turnsRemaining);
+    }
+
+    @Override
+    public void readState(SnapshotReader in) {
+        damagePerTurn = in.readInt();
+        turnsRemaining = in.readInt();
+    }
 }
@@ -3,6 +3,9 @@ package game.grounds;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.Ground;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
+import edu.monash.fit2099.engine.snapshots.Snapshottable;
 // We assume BurningEffect is in game.effects
 // import game.effects.BurningEffect;
 // We assume Dirt is in game.grounds
@@ -19,7 +22,7 @@ import edu.monash.fit2099.engine.positions.Location;
  * <p><b>REQ3</b>: Used by Torch to ignite surrounding tiles for area denial.</p>
  * <p><b>REQ5</b>: Can now be "doused" by rain, reducing its duration.</p>
  */
-public class Fire extends Ground {
+public class Fire extends Ground implements Snapshottable {
     /** Number of ticks before this fire goes out. */
     private int turnsRemaining;
 
@@ -68,6 +71,17 @@ public class Fire extends Ground {
         }
     }
 
+    /**
+     * Burns down by the turns it missed while its part of the map was frozen.
+     *
+     * @param location the location of this tile
+     * @param turns how many turns were missed
+     */
+    @Override
+    public void catchUp(Location location, int turns) {
+        turnsRemaining = Math.max(0, turnsRemaining - turns);
+    }
+
     /**
      * Fire does not block movement.
      *
@@ -78,4 +92,15 @@ public class Fire extends Ground {
     public boolean canActorEnter(Actor actor) {
         return true;
     }
-}
\ No newline at end of file
+
+    /** Saves how many turns the fire has left. */
+    @Override
+    public void writeState(SnapshotWriter out) {
+        out.writeInt(turnsRemaining);
+    }
+
+    @Override
+    public void readState(SnapshotReader in) {
+        turnsRemaining = in.readInt();
+    }
+}
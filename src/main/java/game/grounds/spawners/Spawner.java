@@ -4,10 +4,14 @@ import edu.monash.fit2099.engine.GameEngineException;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.Ground;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
+import edu.monash.fit2099.engine.snapshots.Snapshottable;
 import game.actors.Player;
+import game.GameRandom;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Abstract base class for all spawners in the game.
@@ -27,8 +31,8 @@ import java.util.Random;
  *
  * @author @awan0091
  */
-public abstract class Spawner extends Ground {
-  protected final Random random = new Random();
+public abstract class Spawner extends Ground implements Snapshottable {
+  protected final RandomGenerator random = GameRandom.split();
   private int tickCounter = 0;
   private final int spawnInterval;
   protected final List<Actor> spawnOptions = new ArrayList<>(); // Any animal to be spawned
@@ -98,6 +102,42 @@ public abstract class Spawner extends Ground {
     }
   }
 
+  /**
+   * Moves the spawn timer on by the turns missed while this part of the map was
+   * frozen. If a spawn attempt fell due in that time, one is made now; the tile
+   * only has room for one animal anyway.
+   *
+   * @param location the spawner’s map location
+   * @param turns how many turns were missed
+   * @throws GameEngineException if an error occurs while spawning
+   */
+  @Override
+  public void catchUp(Location location, int turns) throws GameEngineException {
+    // Time only passes for spawners while the player is on the map, as in tick,
+    // so turns the map fell behind while the player was elsewhere do not count
+    if (playerRef == null || !location.map().contains(playerRef) || location.map().getTurnsBehind() > 0) {
+      return;
+    }
+
+    if (!active) {
+      active = true;
+      turns--;
+    }
+
+    if (turns <= 0) {
+      return;
+    }
+
+    // The counter is counted down first, so an attempt is due in at least one turn
+    int due = Math.max(1, tickCounter);
+    if (turns >= due) {
+      tickCounter = spawnInterval - (turns - due) % spawnInterval;
+      spawnablePosition(location);
+    } else {
+      tickCounter -= turns;
+    }
+  }
+
   /**
    * Determines whether the spawner can create an animal at the given location,
    * and if conditions are met, adds it to the map.
@@ -125,7 +165,9 @@ public abstract class Spawner extends Ground {
 
   /**
    * Randomly selects an animal type from the spawn list and creates a new instance.
-   * Ensure chosen at random for equal probability/chances.
+   * Ensure chosen at random for equal probability/chances. The animal's own random
+   * stream comes from this spawner's, so spawners ticked in parallel still give the
+   * same animals the same streams.
    *
    * @return the newly created animal instance, or null if instantiation fails
    */
@@ -135,7 +177,7 @@ public abstract class Spawner extends Ground {
     // New instance per spawn to avoid sharing state
     Actor base = spawnOptions.get(index);
     try {
-      return base.getClass().getDeclaredConstructor().newInstance();
+      return GameRandom.makeFrom(random, () -> base.getClass().getDeclaredConstructor().newInstance());
     } catch (Exception e) {
       e.printStackTrace();
       return null;
@@ -162,5 +204,17 @@ public abstract class Spawner extends Ground {
       e.printStackTrace();
     }
   }
-}
 
+  /** Saves how far the spawner is towards its next spawn. */
+  @Override
+  public void writeState(SnapshotWriter out) {
+    out.writeInt(tickCounter);
+    out.writeBoolean(active);
+  }
+
+  @Override
+  public void readState(SnapshotReader in) {
+    tickCounter = in.readInt();
+    active = in.readBoolean();
+  }
+}
@@ -6,16 +6,21 @@ import edu.monash.fit2099.engine.items.Item;
 import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.Ground;
 import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
+import edu.monash.fit2099.engine.snapshots.Snapshottable;
 import game.items.Hazelnut;
+import game.GameRandom;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /** A tree that periodically drops {@link game.items.Hazelnut} items around itself (every 10 turns). */
-public class HazelnutTree extends Ground {
+public class HazelnutTree extends Ground implements Snapshottable {
 
     private int turnCounter = 0;
+    private final RandomGenerator random = GameRandom.split();
 
     public HazelnutTree() {
         super('A', "Hazelnut Tree");
@@ -34,13 +39,34 @@ public class HazelnutTree extends Ground {
         dropOneAdjacent(location, new Hazelnut());
     }
 
+    /** Drops the fruit it would have dropped while frozen, but no more than one per neighbouring tile. */
+    @Override
+    public void catchUp(Location location, int turns) {
+        long drops = ((long) turnCounter % 10 + turns) / 10;
+        turnCounter = (int) (((long) turnCounter + turns) % 10);
+        for (long i = Math.min(drops, location.getExits().size()); i > 0; i--) {
+            dropOneAdjacent(location, new Hazelnut());
+        }
+    }
+
     private void dropOneAdjacent(Location location, Item item) {
         List<Location> neighbours = new ArrayList<>();
         for (Exit e : location.getExits()) {
             neighbours.add(e.getDestination());
         }
         if (neighbours.isEmpty()) return;
-        Location dest = neighbours.get(ThreadLocalRandom.current().nextInt(neighbours.size()));
+        Location dest = neighbours.get(random.nextInt(neighbours.size()));
         dest.addItem(item);
     }
+
+    /** Saves how far the tree is towards dropping its next fruit. */
+    @Override
+    public void writeState(SnapshotWriter out) {
+        out.writeInt(turnCounter);
+    }
+
+    @Override
+    public void readState(SnapshotReader in) {
+        turnCounter = in.readInt();
+    }
 }
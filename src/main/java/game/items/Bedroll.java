@@ -7,7 +7,7 @@ import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 import game.actions.SleepAction;
 import game.actors.Player;
-import java.util.concurrent.ThreadLocalRandom;
+import game.GameRandom;
 
 /**
  * A bedroll (=). Must be dropped on the ground to be used; offers SleepAction at the Player's tile.
@@ -26,7 +26,7 @@ public class Bedroll extends Item {
     public ActionList allowableActions(Location location) {
         ActionList list = new ActionList();
         if (location.containsAnActor() && location.getActor() instanceof Player) {
-            int turns = ThreadLocalRandom.current().nextInt(6, 11); // [6,10]
+            int turns = GameRandom.of(location.getActor()).nextInt(6, 11); // [6,10]
             list.add(new SleepAction(turns));
         }
         return list;
@@ -4,13 +4,16 @@ import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.items.Item;
 import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
+import edu.monash.fit2099.engine.snapshots.Snapshottable;
 import game.actions.ConsumeAction;
 import game.actors.Player;
 
 /**
  * A bottle (o) with 5 sips; each sip restores 4 hydration.
  */
-public class Bottle extends Item {
+public class Bottle extends Item implements Snapshottable {
 
     private int sips = 5;
 
@@ -42,5 +45,15 @@ public class Bottle extends Item {
         }
         return list;
     }
-}
 
+    /** Saves how many sips are left. */
+    @Override
+    public void writeState(SnapshotWriter out) {
+        out.writeInt(sips);
+    }
+
+    @Override
+    public void readState(SnapshotReader in) {
+        sips = in.readInt();
+    }
+}
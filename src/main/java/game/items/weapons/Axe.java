@@ -28,14 +28,14 @@ public class Axe extends CoatableWeapon {
      */
     @Override
     public String attack(Actor attacker, Actor target, GameMap map) {
-        if (!roll(75)) {
+        if (!roll(attacker, 75)) {
             return attacker + " swings Axe at " + target + " but misses.";
         }
         int dmg = 15;
         target.hurt(dmg);
         StringBuilder sb =
                 new StringBuilder(attacker + " chops " + target + " with Axe for " + dmg + " damage.");
-        if (roll(50)) {
+        if (roll(attacker, 50)) {
             target.addStatus(new BleedingEffect(10, 2));
             sb.append(" The target starts bleeding!");
         }
@@ -5,6 +5,7 @@ import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 import game.actions.ShootBowAction;
+import game.GameRandom;
 
 /**
  * Bow weapon ({@code 'c'}).
@@ -29,7 +30,7 @@ public class Bow extends CoatableWeapon {
      * @return a human-readable result string
      */
     public String rangedAttack(Actor attacker, Actor target, GameMap map) {
-        if (java.util.concurrent.ThreadLocalRandom.current().nextInt(100) >= 25) {
+        if (GameRandom.of(attacker).nextInt(100) >= 25) {
             return attacker + " shoots at " + target + " with Bow but misses.";
         }
         int dmg = 5;
@@ -55,28 +56,13 @@ public class Bow extends CoatableWeapon {
     public ActionList allowableActions(Actor owner, GameMap map) {
         ActionList list = super.allowableActions(owner, map);
         Location here = map.locationOf(owner);
-        for (int dx = -3; dx <= 3; dx++) {
-            for (int dy = -3; dy <= 3; dy++) {
-                if (Math.abs(dx) + Math.abs(dy) == 0) {
-                    continue;
-                }
-                if (Math.abs(dx) + Math.abs(dy) > 3) {
-                    continue;
-                }
-                int nx = here.x() + dx;
-                int ny = here.y() + dy;
-                if (!map.getXRange().contains(nx) || !map.getYRange().contains(ny)) {
-                    continue;
-                }
-                Location loc = map.at(nx, ny);
-                if (loc.containsAnActor()) {
-                    Actor target = loc.getActor();
-                    if (target != owner) {
-                        list.add(new ShootBowAction(this, target));
-                    }
-                }
+        map.getActorIndex().forEachWithin(here, 3, Actor.class, (target, there) -> {
+            int distance = Math.abs(there.x() - here.x()) + Math.abs(there.y() - here.y());
+            if (target != owner && distance <= 3) {
+                list.add(new ShootBowAction(this, target));
             }
-        }
+            return true;
+        });
         return list;
     }
 }
@@ -6,16 +6,19 @@ import edu.monash.fit2099.engine.items.Item;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 import edu.monash.fit2099.engine.weapons.Weapon;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
+import edu.monash.fit2099.engine.snapshots.Snapshottable;
 import game.actions.CoatWeaponAction;
 import game.actions.UseWeaponOnActorAction;
 import game.effects.FrostbiteEffect;
 import game.effects.PoisonedEffect;
+import game.GameRandom;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Base class for melee weapons that support coatings and offer adjacent attack actions.
@@ -33,7 +36,7 @@ import java.util.concurrent.ThreadLocalRandom;
  * </ul>
  * </p>
  */
-public abstract class CoatableWeapon extends Item implements Weapon {
+public abstract class CoatableWeapon extends Item implements Weapon, Snapshottable {
 
     /* ====== coating effect constants (no magic numbers) ====== */
     private static final int POISON_DAMAGE_PER_TURN = 4;
@@ -169,9 +172,9 @@ public abstract class CoatableWeapon extends Item implements Weapon {
         }
     }
 
-    /** Helper for RNG% */
-    protected static boolean roll(int percent) {
-        return ThreadLocalRandom.current().nextInt(100) < percent;
+    /** Helper for RNG%, rolled on the attacker's own stream */
+    protected static boolean roll(Actor attacker, int percent) {
+        return GameRandom.of(attacker).nextInt(100) < percent;
     }
 
     /** Show coating in item name to aid debugging and avoid "getter unused" warnings. */
@@ -181,4 +184,15 @@ public abstract class CoatableWeapon extends Item implements Weapon {
         Coating c = getCoating();
         return (c == Coating.NONE) ? base : base + " [" + c.name().toLowerCase() + "]";
     }
+
+    /** Saves the coating on the weapon. */
+    @Override
+    public void writeState(SnapshotWriter out) {
+        out.writeEnum(coating);
+    }
+
+    @Override
+    public void readState(SnapshotReader in) {
+        coating = in.readEnum(Coating.class);
+    }
 }
@@ -2,6 +2,7 @@ package game.items.weapons;
 
 import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.items.Item;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
@@ -9,6 +10,7 @@ import edu.monash.fit2099.engine.weapons.Weapon;
 import game.actions.UseWeaponOnActorAction;
 import game.effects.BurningEffect;
 import game.grounds.Fire;
+import game.GameRandom;
 
 /**
  * Torch weapon ({@code 'y'}).
@@ -21,9 +23,17 @@ import game.grounds.Fire;
  * coated.</p>
  */
 public class Torch extends Item implements Weapon {
-    /** Constructs a new Torch item. */
-    public Torch() {
+    /** Where the burns this Torch causes are reported. */
+    private final Display display;
+
+    /**
+     * Constructs a new Torch item.
+     *
+     * @param display where the burns it causes are reported
+     */
+    public Torch(Display display) {
         super("Torch", 'y', true);
+        this.display = display;
     }
 
     /**
@@ -37,13 +47,13 @@ public class Torch extends Item implements Weapon {
      */
     @Override
     public String attack(Actor attacker, Actor target, GameMap map) {
-        if (java.util.concurrent.ThreadLocalRandom.current().nextInt(100) >= 50) {
+        if (GameRandom.of(attacker).nextInt(100) >= 50) {
             spawnSurroundingFire(map.locationOf(attacker), map, 5);
             return attacker + " swings Torch at " + target + " but misses. Flames flare around!";
         }
         int dmg = 10;
         target.hurt(dmg);
-        target.addStatus(new BurningEffect(3, 7));
+        target.addStatus(new BurningEffect(3, 7, display));
         spawnSurroundingFire(map.locationOf(attacker), map, 5);
         return attacker + " scorches " + target + " with Torch for " + dmg + " damage. The target catches fire!";
     }
@@ -0,0 +1,25 @@
+package game.simulation;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.positions.GameMap;
+
+/**
+ * Chooses the player's action without asking a person.
+ *
+ * <p>Used in place of the {@link edu.monash.fit2099.engine.displays.Menu} when the
+ * game is run headless, e.g. for soak tests and benchmarks.</p>
+ */
+public interface ActionPolicy {
+
+    /**
+     * Pick one of the allowable actions for this turn.
+     *
+     * @param actor the actor whose turn it is
+     * @param actions the actions the engine allows this turn (never empty)
+     * @param map the map containing the actor
+     * @return one of the given actions
+     */
+    Action selectAction(Actor actor, ActionList actions, GameMap map);
+}
@@ -0,0 +1,87 @@
+package game.simulation;
+
+import edu.monash.fit2099.engine.displays.NullDisplay;
+import edu.monash.fit2099.engine.metrics.TurnMetrics;
+import game.Earth;
+import game.GameRandom;
+
+import java.nio.file.Paths;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Runs the full Earth scenario without a terminal, for soak tests and benchmarks.
+ *
+ * <p>The map is not drawn, the game log is discarded and the player's actions come from
+ * an {@link ActionPolicy} instead of the menu. Weather, spawners, animals and diseases
+ * all run exactly as in the real game, except that the API weather comes from a
+ * {@link SeededWeatherService} rather than the network.</p>
+ *
+ * <p>Usage: {@code HeadlessRunner [turns] [policy] [seed] [threads]} where policy is one of
+ * {@code random}, {@code survival} (default) or {@code script:<file>}. The seed is used for
+ * the whole game as well as the policy, so two runs with the same arguments play the same.
+ * With a thread count above zero, animals decide their turns in parallel on that many threads.
+ * Run with {@code -Dfit2099.metrics=true} to print where the time went at the end.</p>
+ */
+public class HeadlessRunner {
+
+    private static final int DEFAULT_TURNS = 1000;
+    private static final String DEFAULT_POLICY = "survival";
+
+    public static void main(String[] args) {
+        int turns = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_TURNS;
+        String policyName = args.length > 1 ? args[1] : DEFAULT_POLICY;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : 0;
+
+        ForkJoinPool pool = threads > 0 ? new ForkJoinPool(threads) : null;
+        try {
+            GameRandom.seed(seed);
+            Earth earth = new Earth(new NullDisplay(), new SeededWeatherService(seed));
+            earth.constructWorld();
+            earth.getPlayer().setActionPolicy(createPolicy(policyName, seed));
+            earth.setDecisionPool(pool);
+
+            long start = System.nanoTime();
+            int played = earth.runTurns(turns);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            System.out.println(report(played, seconds));
+            if (TurnMetrics.isEnabled()) {
+                System.out.print(TurnMetrics.report());
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Build a policy from its command line name.
+     *
+     * @param name {@code random}, {@code survival} or {@code script:<file>}
+     * @param seed seed for policies that make random choices
+     * @return the policy
+     * @throws Exception if the name is unknown or the script cannot be read
+     */
+    public static ActionPolicy createPolicy(String name, long seed) throws Exception {
+        if (name.startsWith("script:")) {
+            return ScriptedPolicy.fromFile(Paths.get(name.substring("script:".length())));
+        }
+        switch (name) {
+            case "random":
+                return new RandomPolicy(seed);
+            case "survival":
+                return new SurvivalPolicy(seed);
+            default:
+                throw new IllegalArgumentException("Unknown policy: " + name);
+        }
+    }
+
+    private static String report(int turns, double seconds) {
+        double turnsPerSecond = seconds > 0 ? turns / seconds : 0;
+        return String.format("Played %d turns in %.3f s (%.1f turns/s)", turns, seconds, turnsPerSecond);
+    }
+}
@@ -0,0 +1,174 @@
+package game.simulation;
+
+import game.weather.ApiWeatherBase;
+import game.weather.WeatherEffect;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads back a journal written by {@link JournalWriter}, one record at a time, in the
+ * order the session asked for them.
+ *
+ * <p>If the game asks for a choice where the journal has a weather reading, or the
+ * other way round, the replay has gone out of step with the recording (e.g. the game
+ * was changed since) and an exception says so, rather than playing on from there.</p>
+ */
+public class JournalReader implements AutoCloseable {
+
+    private final DataInputStream in;
+    private final long seed;
+    private final List<Class<?>> weatherClasses = new ArrayList<>();
+    private WeatherEffect lastWeather;
+    private int nextTag;
+
+    private JournalReader(DataInputStream in, long seed) throws IOException {
+        this.in = in;
+        this.seed = seed;
+        this.nextTag = in.read();
+    }
+
+    /**
+     * Open a journal for replay.
+     *
+     * @param file the journal
+     * @return the reader, positioned at the first record
+     * @throws IOException if the file cannot be read or is not a journal
+     */
+    public static JournalReader open(Path file) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)));
+        try {
+            if (in.readInt() != JournalWriter.MAGIC) {
+                throw new StreamCorruptedException(file + " is not a replay journal");
+            }
+            int version = in.readByte();
+            if (version != JournalWriter.VERSION) {
+                throw new StreamCorruptedException(file + " is a version " + version + " journal; expected version " + JournalWriter.VERSION);
+            }
+            return new JournalReader(in, in.readLong());
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return the seed the session was played from
+     */
+    public long seed() {
+        return seed;
+    }
+
+    /**
+     * @return true if there are records left to read
+     */
+    public boolean hasNext() {
+        return nextTag >= 0;
+    }
+
+    /**
+     * Read the next choice the player made.
+     *
+     * @return the chosen action's position in the action list, or -1 if it was not in the list
+     * @throws IOException if the next record is not a choice or cannot be read
+     */
+    public int nextChoice() throws IOException {
+        expect(JournalWriter.CHOICE == nextTag, "a choice");
+        int index = readCount() - 1;
+        advance();
+        return index;
+    }
+
+    /**
+     * Read the next weather reading.
+     *
+     * @return the weather the service reported, or null if it had nothing
+     * @throws IOException if the next record is not a weather reading or cannot be read
+     */
+    public WeatherEffect nextWeather() throws IOException {
+        WeatherEffect weather;
+        if (nextTag == JournalWriter.NO_WEATHER) {
+            weather = null;
+        } else if (nextTag == JournalWriter.SAME_WEATHER && lastWeather != null) {
+            weather = lastWeather;
+        } else {
+            expect(nextTag == JournalWriter.NEW_WEATHER, "a weather reading");
+            weather = readWeather();
+        }
+        lastWeather = weather;
+        advance();
+        return weather;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private void expect(boolean found, String wanted) throws IOException {
+        if (nextTag < 0) {
+            throw new EOFException("Journal ended where " + wanted + " was expected");
+        }
+        if (!found) {
+            throw new StreamCorruptedException("Replay is out of step with the journal: expected " + wanted
+                    + " but found record '" + (char) nextTag + "'");
+        }
+    }
+
+    private void advance() throws IOException {
+        nextTag = in.read();
+    }
+
+    private WeatherEffect readWeather() throws IOException {
+        Class<?> type = readClass();
+        try {
+            if (ApiWeatherBase.class.isAssignableFrom(type)) {
+                double temperature = in.readDouble();
+                String description = in.readUTF();
+                return (WeatherEffect) type.getConstructor(double.class, String.class).newInstance(temperature, description);
+            }
+            return (WeatherEffect) type.getConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            Throwable cause = e instanceof InvocationTargetException ? e.getCause() : e;
+            throw new IOException("Journal weather " + type.getName() + " cannot be made again", cause);
+        }
+    }
+
+    private Class<?> readClass() throws IOException {
+        int number = readCount();
+        if (number > 0) {
+            if (number > weatherClasses.size()) {
+                throw new StreamCorruptedException("Journal refers to weather class " + number + " before naming it");
+            }
+            return weatherClasses.get(number - 1);
+        }
+        String name = in.readUTF();
+        try {
+            Class<?> type = Class.forName(name, false, JournalReader.class.getClassLoader());
+            weatherClasses.add(type);
+            return type;
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Journal refers to " + name + ", which no longer exists", e);
+        }
+    }
+
+    private int readCount() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("Malformed count in journal");
+    }
+}
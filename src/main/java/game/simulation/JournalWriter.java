@@ -0,0 +1,156 @@
+package game.simulation;
+
+import game.weather.ApiWeatherBase;
+import game.weather.WeatherEffect;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes a replay journal: everything from outside the game that a session depended on,
+ * so that {@link ReplayRunner} can play it again exactly.
+ *
+ * <p>Given the seed for {@link game.GameRandom}, the only things left that can change a
+ * run are the player's choices and the weather the weather service reported, so that is
+ * all the journal holds. After a short header with the seed, it is a list of records,
+ * each one tag byte followed by its data:</p>
+ * <ul>
+ *     <li>a choice: the position of the chosen action in the turn's action list, as a
+ *     variable length count (0 for an action that was not in the list)</li>
+ *     <li>a weather reading: nothing if it was the same as the last reading, otherwise the
+ *     weather's class and, for API weather, its temperature and description</li>
+ * </ul>
+ *
+ * <p>A typical turn takes two or three bytes. The journal is only ever appended to, and
+ * is flushed after every choice, so a session that crashes can still be replayed up to
+ * the last thing the player did.</p>
+ */
+public class JournalWriter implements AutoCloseable {
+
+    static final int MAGIC = 0x4A524E4C;
+    static final int VERSION = 1;
+
+    static final int CHOICE = 'C';
+    static final int NO_WEATHER = 'N';
+    static final int SAME_WEATHER = 'S';
+    static final int NEW_WEATHER = 'W';
+
+    private final DataOutputStream out;
+    private final Map<Class<?>, Integer> weatherClasses = new HashMap<>();
+    private WeatherEffect lastWeather;
+
+    private JournalWriter(DataOutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Start a new journal, replacing any file already there.
+     *
+     * @param file the file to write
+     * @param seed the seed the session is played from
+     * @return the writer
+     * @throws IOException if the file cannot be written
+     */
+    public static JournalWriter create(Path file, long seed) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeLong(seed);
+        out.flush();
+        return new JournalWriter(out);
+    }
+
+    /**
+     * Record the action the player chose.
+     *
+     * @param index the chosen action's position in the action list, or -1 if it was not in the list
+     * @throws IOException if the journal cannot be written
+     */
+    public void recordChoice(int index) throws IOException {
+        out.writeByte(CHOICE);
+        writeCount(index + 1);
+        out.flush();
+    }
+
+    /**
+     * Record what the weather service reported this turn.
+     *
+     * @param weather the weather, or null if the service had nothing
+     * @throws IOException if the journal cannot be written
+     * @throws IllegalArgumentException if the weather could not be made again on replay
+     */
+    public void recordWeather(WeatherEffect weather) throws IOException {
+        if (weather == null) {
+            out.writeByte(NO_WEATHER);
+        } else if (sameReading(weather, lastWeather)) {
+            out.writeByte(SAME_WEATHER);
+        } else {
+            checkReplayable(weather.getClass());
+            out.writeByte(NEW_WEATHER);
+            writeClass(weather.getClass());
+            if (weather instanceof ApiWeatherBase api) {
+                out.writeDouble(api.getTemperature());
+                out.writeUTF(api.getDescription() == null ? "" : api.getDescription());
+            }
+        }
+        lastWeather = weather;
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private static boolean sameReading(WeatherEffect weather, WeatherEffect last) {
+        if (weather == last) {
+            return true;
+        }
+        if (last == null || weather.getClass() != last.getClass()) {
+            return false;
+        }
+        if (weather instanceof ApiWeatherBase api) {
+            ApiWeatherBase lastApi = (ApiWeatherBase) last;
+            return Double.compare(api.getTemperature(), lastApi.getTemperature()) == 0
+                    && String.valueOf(api.getDescription()).equals(String.valueOf(lastApi.getDescription()));
+        }
+        return true;
+    }
+
+    /** The reader makes API weather from its temperature and description, and any other weather from nothing. */
+    private static void checkReplayable(Class<?> type) {
+        try {
+            if (ApiWeatherBase.class.isAssignableFrom(type)) {
+                type.getConstructor(double.class, String.class);
+            } else {
+                type.getConstructor();
+            }
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(type.getName() + " cannot be journaled: the replay could not make one", e);
+        }
+    }
+
+    /** Each class is named the first time it appears, and referred to by number after that. */
+    private void writeClass(Class<?> type) throws IOException {
+        Integer number = weatherClasses.get(type);
+        if (number != null) {
+            writeCount(number);
+            return;
+        }
+        weatherClasses.put(type, weatherClasses.size() + 1);
+        writeCount(0);
+        out.writeUTF(type.getName());
+    }
+
+    private void writeCount(int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+}
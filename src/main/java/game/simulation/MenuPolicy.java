@@ -0,0 +1,26 @@
+package game.simulation;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.displays.Menu;
+import edu.monash.fit2099.engine.positions.GameMap;
+
+/** Asks a person, through the usual menu, so that their choices can be recorded. */
+public class MenuPolicy implements ActionPolicy {
+
+    private final Display display;
+
+    /**
+     * @param display the display to show the menu on and read the choice from
+     */
+    public MenuPolicy(Display display) {
+        this.display = display;
+    }
+
+    @Override
+    public Action selectAction(Actor actor, ActionList actions, GameMap map) {
+        return new Menu(actions).showMenu(actor, display);
+    }
+}
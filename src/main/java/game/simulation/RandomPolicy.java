@@ -0,0 +1,26 @@
+package game.simulation;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.positions.GameMap;
+
+import java.util.Random;
+
+/** Picks uniformly at random from the allowable actions. */
+public class RandomPolicy implements ActionPolicy {
+
+    private final Random random;
+
+    /**
+     * @param seed seed for the policy's own random source, so runs can be repeated
+     */
+    public RandomPolicy(long seed) {
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public Action selectAction(Actor actor, ActionList actions, GameMap map) {
+        return actions.get(random.nextInt(actions.size()));
+    }
+}
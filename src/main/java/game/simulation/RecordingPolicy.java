@@ -0,0 +1,49 @@
+package game.simulation;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.positions.GameMap;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Lets another policy choose, and writes down which action it chose in a journal.
+ *
+ * <p>Only the position of the action in the list is kept. An action that was not in the
+ * list is recorded as doing nothing, which is what {@link ScriptedPolicy} returns when a
+ * step does not match.</p>
+ */
+public class RecordingPolicy implements ActionPolicy {
+
+    private final ActionPolicy policy;
+    private final JournalWriter journal;
+
+    /**
+     * @param policy the policy that makes the choices
+     * @param journal the journal to record them in
+     */
+    public RecordingPolicy(ActionPolicy policy, JournalWriter journal) {
+        this.policy = policy;
+        this.journal = journal;
+    }
+
+    @Override
+    public Action selectAction(Actor actor, ActionList actions, GameMap map) {
+        Action chosen = policy.selectAction(actor, actions, map);
+        int index = -1;
+        for (int i = 0; i < actions.size(); i++) {
+            if (actions.get(i) == chosen) {
+                index = i;
+                break;
+            }
+        }
+        try {
+            journal.recordChoice(index);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return chosen;
+    }
+}
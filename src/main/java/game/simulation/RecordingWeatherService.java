@@ -0,0 +1,34 @@
+package game.simulation;
+
+import game.api.WeatherService;
+import game.weather.WeatherEffect;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/** Passes on what another weather service reports, writing each reading in a journal. */
+public class RecordingWeatherService implements WeatherService {
+
+    private final WeatherService service;
+    private final JournalWriter journal;
+
+    /**
+     * @param service the service that really reports the weather
+     * @param journal the journal to record its readings in
+     */
+    public RecordingWeatherService(WeatherService service, JournalWriter journal) {
+        this.service = service;
+        this.journal = journal;
+    }
+
+    @Override
+    public WeatherEffect getCurrentWeather() {
+        WeatherEffect weather = service.getCurrentWeather();
+        try {
+            journal.recordWeather(weather);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return weather;
+    }
+}
@@ -0,0 +1,48 @@
+package game.simulation;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actions.DoNothingAction;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.positions.GameMap;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/** Plays back the choices in a journal written through a {@link RecordingPolicy}. */
+public class ReplayPolicy implements ActionPolicy {
+
+    private final JournalReader journal;
+
+    /**
+     * @param journal the journal to read the choices from
+     */
+    public ReplayPolicy(JournalReader journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * @throws UncheckedIOException if the journal cannot be read or is out of step with the game
+     */
+    @Override
+    public Action selectAction(Actor actor, ActionList actions, GameMap map) {
+        if (!journal.hasNext()) {
+            // The recording stopped part way through this turn
+            return new DoNothingAction();
+        }
+        int index;
+        try {
+            index = journal.nextChoice();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (index < 0) {
+            return new DoNothingAction();
+        }
+        if (index >= actions.size()) {
+            throw new UncheckedIOException(new IOException("Replay is out of step with the journal: choice "
+                    + index + " of " + actions.size() + " actions"));
+        }
+        return actions.get(index);
+    }
+}
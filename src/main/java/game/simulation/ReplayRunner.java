@@ -0,0 +1,63 @@
+package game.simulation;
+
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.displays.NullDisplay;
+import game.Earth;
+import game.GameRandom;
+
+import java.nio.file.Paths;
+
+/**
+ * Plays a recorded session again, from its journal, as fast as the game can go.
+ *
+ * <p>The world is built from the journal's seed, the weather comes from the journal
+ * rather than the network, and the player's choices come from the journal rather than
+ * the menu, so the game log is exactly what was shown when the session was played.</p>
+ *
+ * <p>Usage: {@code ReplayRunner <journal> [quiet]}. With {@code quiet} the game log is
+ * discarded and only the time taken is printed.</p>
+ */
+public class ReplayRunner {
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: ReplayRunner <journal> [quiet]");
+            return;
+        }
+        boolean quiet = args.length > 1 && args[1].equals("quiet");
+        Display display = quiet ? new NullDisplay() : new Display();
+
+        try (JournalReader journal = JournalReader.open(Paths.get(args[0]))) {
+            long start = System.nanoTime();
+            int played = replay(journal, display);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            display.flush();
+            System.out.println(String.format("Replayed %d turns in %.3f s", played, seconds));
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Build the Earth scenario from the journal's seed and play it until the journal runs
+     * out or the game ends.
+     *
+     * @param journal the journal, not yet read from
+     * @param display where the game log goes
+     * @return the number of turns played
+     * @throws Exception if the world cannot be built, or the journal is out of step with the game
+     */
+    public static int replay(JournalReader journal, Display display) throws Exception {
+        GameRandom.seed(journal.seed());
+        Earth earth = new Earth(display, new ReplayWeatherService(journal));
+        earth.constructWorld();
+        earth.getPlayer().setActionPolicy(new ReplayPolicy(journal));
+
+        int played = 0;
+        while (journal.hasNext() && earth.runTurns(1) == 1) {
+            played++;
+        }
+        return played;
+    }
+}
@@ -0,0 +1,36 @@
+package game.simulation;
+
+import game.api.WeatherService;
+import game.weather.WeatherEffect;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/** Reports the weather readings recorded in a journal, without going near the network. */
+public class ReplayWeatherService implements WeatherService {
+
+    private final JournalReader journal;
+
+    /**
+     * @param journal the journal to read the weather from
+     */
+    public ReplayWeatherService(JournalReader journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * @return the recorded reading for this turn, or null once the journal has run out
+     * @throws UncheckedIOException if the journal cannot be read or is out of step with the game
+     */
+    @Override
+    public WeatherEffect getCurrentWeather() {
+        if (!journal.hasNext()) {
+            return null;
+        }
+        try {
+            return journal.nextWeather();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
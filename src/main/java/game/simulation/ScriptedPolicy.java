@@ -0,0 +1,69 @@
+package game.simulation;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actions.DoNothingAction;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.positions.GameMap;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Plays back a list of choices read from a text file, one per turn.
+ *
+ * <p>Each non-blank line that does not start with {@code #} is either a menu hotkey
+ * (e.g. {@code 8} to go North) or {@code @n} to take the n-th allowable action
+ * (wrapped around the size of the list). If the choice is not available this turn,
+ * or the script has run out, the player does nothing.</p>
+ */
+public class ScriptedPolicy implements ActionPolicy {
+
+    private final Iterator<String> steps;
+
+    /**
+     * @param steps the choices to play back, in turn order
+     */
+    public ScriptedPolicy(List<String> steps) {
+        this.steps = new ArrayList<>(steps).iterator();
+    }
+
+    /**
+     * Load a script from file.
+     *
+     * @param scriptFile path to the script
+     * @return a policy that plays the script back
+     * @throws IOException if the file cannot be read
+     */
+    public static ScriptedPolicy fromFile(Path scriptFile) throws IOException {
+        List<String> steps = new ArrayList<>();
+        for (String line : Files.readAllLines(scriptFile)) {
+            String step = line.strip();
+            if (!step.isEmpty() && !step.startsWith("#")) {
+                steps.add(step);
+            }
+        }
+        return new ScriptedPolicy(steps);
+    }
+
+    @Override
+    public Action selectAction(Actor actor, ActionList actions, GameMap map) {
+        if (steps.hasNext()) {
+            String step = steps.next();
+            if (step.startsWith("@")) {
+                int index = Integer.parseInt(step.substring(1));
+                return actions.get(Math.floorMod(index, actions.size()));
+            }
+            for (Action action : actions) {
+                if (step.equals(action.hotkey())) {
+                    return action;
+                }
+            }
+        }
+        return new DoNothingAction();
+    }
+}
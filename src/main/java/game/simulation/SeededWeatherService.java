@@ -0,0 +1,55 @@
+package game.simulation;
+
+import game.api.WeatherService;
+import game.weather.ApiClearWeather;
+import game.weather.ApiRainWeather;
+import game.weather.ApiSnowWeather;
+import game.weather.WeatherEffect;
+
+import java.util.Random;
+
+/**
+ * Stands in for the real weather API in headless runs: clear skies, rain and snow
+ * at made-up temperatures, chosen from a seed, so that runs can be repeated and
+ * never wait on the network.
+ */
+public class SeededWeatherService implements WeatherService {
+
+    /** How many turns each reading lasts before the next is chosen. */
+    private static final int TURNS_PER_READING = 20;
+
+    private final Random random;
+    private WeatherEffect current;
+    private int turnsLeft;
+
+    /**
+     * @param seed seed for choosing the readings
+     */
+    public SeededWeatherService(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * @return the reading for this turn; never null
+     */
+    @Override
+    public WeatherEffect getCurrentWeather() {
+        if (turnsLeft == 0) {
+            current = nextReading();
+            turnsLeft = TURNS_PER_READING;
+        }
+        turnsLeft--;
+        return current;
+    }
+
+    private WeatherEffect nextReading() {
+        switch (random.nextInt(3)) {
+            case 0:
+                return new ApiSnowWeather(-10.0 + random.nextInt(10), "light snow");
+            case 1:
+                return new ApiRainWeather(2.0 + random.nextInt(15), "light rain");
+            default:
+                return new ApiClearWeather(-5.0 + random.nextInt(30), "clear sky");
+        }
+    }
+}
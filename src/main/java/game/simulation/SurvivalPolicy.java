@@ -0,0 +1,129 @@
+package game.simulation;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actions.DoNothingAction;
+import edu.monash.fit2099.engine.actions.MoveActorAction;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.items.DropAction;
+import edu.monash.fit2099.engine.items.PickUpAction;
+import edu.monash.fit2099.engine.positions.Exit;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Location;
+import game.actions.ConsumeAction;
+import game.actions.SleepAction;
+import game.actors.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A simple bot that tries to keep the Explorer alive.
+ *
+ * <p>In order of preference it eats or drinks when hydration is low, sleeps when
+ * warmth is low, picks up anything on its tile (except a bedroll it has put down
+ * to sleep on), and otherwise steps to the tile with the fewest actors next to it.
+ * It never starts a fight, so long runs mostly exercise weather, spawners and
+ * animals.</p>
+ */
+public class SurvivalPolicy implements ActionPolicy {
+
+    /** Eat or drink at or below this hydration. */
+    private static final int THIRSTY = 8;
+    /** Sleep at or below this warmth. */
+    private static final int COLD = 10;
+    /** Name of the item that lets the Explorer sleep. */
+    private static final String BEDROLL = "Bedroll";
+
+    private final Random random;
+
+    /**
+     * @param seed seed for choosing where to wander
+     */
+    public SurvivalPolicy(long seed) {
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public Action selectAction(Actor actor, ActionList actions, GameMap map) {
+        List<Action> moves = new ArrayList<>();
+        Action consume = null;
+        Action sleep = null;
+        Action pickUp = null;
+        Action dropBedroll = null;
+        for (Action action : actions) {
+            if (action instanceof ConsumeAction && consume == null) {
+                consume = action;
+            } else if (action instanceof SleepAction && sleep == null) {
+                sleep = action;
+            } else if (action instanceof PickUpAction && pickUp == null
+                    && !action.menuDescription(actor).endsWith(BEDROLL)) {
+                pickUp = action;
+            } else if (action instanceof DropAction && action.menuDescription(actor).endsWith(BEDROLL)) {
+                dropBedroll = action;
+            } else if (action instanceof MoveActorAction) {
+                moves.add(action);
+            }
+        }
+
+        if (actor instanceof Player) {
+            Player player = (Player) actor;
+            if (consume != null && player.getHydration() <= THIRSTY) {
+                return consume;
+            }
+            if (player.getWarmth() <= COLD) {
+                if (sleep != null) {
+                    return sleep;
+                }
+                if (dropBedroll != null) {
+                    // The bedroll only offers sleep once it is on the ground
+                    return dropBedroll;
+                }
+            }
+        }
+        if (pickUp != null) {
+            return pickUp;
+        }
+        if (!moves.isEmpty()) {
+            return safestMove(actor, moves, map);
+        }
+        return new DoNothingAction();
+    }
+
+    /**
+     * Pick a move that leaves the fewest actors next to us, breaking ties at random.
+     * Moves are matched to exits by hotkey; moves without a matching exit count as unsafe.
+     */
+    private Action safestMove(Actor actor, List<Action> moves, GameMap map) {
+        List<Action> best = new ArrayList<>();
+        int bestNeighbours = Integer.MAX_VALUE;
+        for (Action move : moves) {
+            int neighbours = Integer.MAX_VALUE - 1;
+            for (Exit exit : map.locationOf(actor).getExits()) {
+                if (exit.getHotKey().equals(move.hotkey())) {
+                    neighbours = neighbouringActors(exit.getDestination(), actor);
+                }
+            }
+            if (neighbours < bestNeighbours) {
+                bestNeighbours = neighbours;
+                best.clear();
+            }
+            if (neighbours == bestNeighbours) {
+                best.add(move);
+            }
+        }
+        return best.get(random.nextInt(best.size()));
+    }
+
+    private int neighbouringActors(Location location, Actor self) {
+        int count = 0;
+        for (Exit exit : location.getExits()) {
+            Actor other = exit.getDestination().getActor();
+            if (other != null && other != self) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
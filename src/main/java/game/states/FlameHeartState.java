@@ -4,6 +4,7 @@ import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Location;
 import game.actions.UseWeaponOnActorAction;
 import game.actors.Player;
 import game.actors.animals.ElementalDrake;
@@ -23,6 +24,8 @@ public class FlameHeartState implements DragonState {
     /**
      * Generates an action for the drake's turn. It will prioritize attacking
      * an adjacent player. If no player is adjacent, it will wander randomly.
+     * A player is adjacent if it is through any of the drake's exits, so one
+     * past a door to another map counts as well.
      *
      * @param drake the ElementalDrake instance.
      * @param map the GameMap the drake is on.
@@ -31,7 +34,8 @@ public class FlameHeartState implements DragonState {
     @Override
     public Action getAction(ElementalDrake drake, GameMap map) {
         // Prioritize attacking an adjacent player
-        for (Exit exit : map.locationOf(drake).getExits()) {
+        Location here = map.locationOf(drake);
+        for (Exit exit : here.getExits()) {
             Actor target = exit.getDestination().getActor();
             if (target instanceof Player) {
                 // Return an action to attack the target using the drake itself as the weapon
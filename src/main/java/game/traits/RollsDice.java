@@ -0,0 +1,12 @@
+package game.traits;
+
+import java.util.random.RandomGenerator;
+
+/** For actors that keep their own random stream, so rolling for them takes no lock. */
+public interface RollsDice {
+
+    /**
+     * @return the stream everything this actor rolls comes from; only used on its behalf
+     */
+    RandomGenerator random();
+}
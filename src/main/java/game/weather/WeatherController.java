@@ -2,9 +2,12 @@ package game.weather;
 
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.GameMap;
-import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
+import edu.monash.fit2099.engine.snapshots.Snapshottable;
+import game.GameRandom;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Global controller that manages current weather, remaining duration, and per-turn application.
@@ -23,7 +26,7 @@ import java.util.Random;
  * allowing the API to govern the weather state.
  * </p>
  */
-public class WeatherController {
+public class WeatherController implements Snapshottable {
 
     /** Minimum and maximum duration (in turns) for a single weather spell. */
     private static final int MIN_DURATION_TURNS = 8;
@@ -34,7 +37,7 @@ public class WeatherController {
     private static final int PROB_WIND = 30;
     private static final int PROB_BLIZZARD = 30;
 
-    private final Random rng = new Random();
+    private final RandomGenerator rng = GameRandom.split();
 
     // REQ3/4 Internal Weather
     private final WeatherEffect rain = new RainstormWeather();
@@ -131,21 +134,18 @@ public class WeatherController {
             if (map == null) {
                 continue;
             }
-            for (int x : map.getXRange()) {
-                for (int y : map.getYRange()) {
-                    Location loc = map.at(x, y);
-
-                    // REQ5: Apply effect to Ground (e.g., douse fire, create snow)
-                    current.applyToGround(loc, map);
-
-                    // REQ3/4: Apply effect to Actor
-                    if (map.isAnActorAt(loc)) {
-                        Actor actor = map.getActorAt(loc);
-                        // now you have the actor and its exact location
-                        current.applyToActor(actor, map, exposureCalculator.withLocation(loc));
-                    }
+            // Only where time is passing, so frozen parts of a chunked map are left alone
+            map.forEachLiveLocation(loc -> {
+                // REQ5: Apply effect to Ground (e.g., douse fire, create snow)
+                current.applyToGround(loc, map);
+
+                // REQ3/4: Apply effect to Actor
+                Actor actor = loc.getActor();
+                if (actor != null) {
+                    // now you have the actor and its exact location
+                    current.applyToActor(actor, map, exposureCalculator.withLocation(loc));
                 }
-            }
+            });
         }
     }
 
@@ -186,4 +186,27 @@ public class WeatherController {
         int span = MAX_DURATION_TURNS - MIN_DURATION_TURNS + 1;
         return MIN_DURATION_TURNS + rng.nextInt(span);
     }
-}
\ No newline at end of file
+
+    /**
+     * Saves the current weather and how long it has left. Weather from the API is
+     * not kept: the game asks the service for it again on the next turn.
+     */
+    @Override
+    public void writeState(SnapshotWriter out) {
+        out.writeString(current == null ? null : current.getId());
+        out.writeInt(turnsRemaining);
+        out.writeBoolean(externalControl);
+    }
+
+    @Override
+    public void readState(SnapshotReader in) {
+        String id = in.readString();
+        for (WeatherEffect weather : new WeatherEffect[] {rain, wind, blizzard}) {
+            if (weather.getId().equals(id)) {
+                current = weather;
+            }
+        }
+        turnsRemaining = in.readInt();
+        externalControl = in.readBoolean();
+    }
+}
@@ -0,0 +1,91 @@
+package edu.monash.fit2099.engine;
+
+import edu.monash.fit2099.engine.items.Item;
+import edu.monash.fit2099.engine.positions.DefaultGroundCreator;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Ground;
+import edu.monash.fit2099.engine.positions.Location;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for looking up capabilities of game entities.
+ */
+class CapabilityTest {
+
+    /**
+     * TEST 1: Normal case - an entity asked for a capability it has, and one it lacks
+     * Expected: findCapability gives the entity or null, and asCapability agrees
+     */
+    @Test
+    void testFindCapability_MatchesAsCapability() {
+        // Arrange
+        Item torch = new Torch();
+
+        // Act & Assert
+        assertSame(torch, torch.findCapability(Flammable.class));
+        assertNull(torch.findCapability(Edible.class));
+        assertSame(torch, torch.asCapability(Flammable.class).orElseThrow());
+        assertTrue(torch.asCapability(Edible.class).isEmpty());
+    }
+
+    /**
+     * TEST 2: Edge case - a concrete class asked for as a capability
+     * Expected: both lookups refuse it, every time
+     */
+    @Test
+    void testFindCapability_ConcreteClassRejected() {
+        // Arrange
+        Item torch = new Torch();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> torch.findCapability(Torch.class));
+        assertThrows(IllegalArgumentException.class, () -> torch.findCapability(Torch.class));
+        assertThrows(IllegalArgumentException.class, () -> torch.asCapability(String.class));
+    }
+
+    /**
+     * TEST 3: Normal case - visiting the items on a tile that have a capability
+     * Expected: the same items, in the same order, as getItemsAs
+     */
+    @Test
+    void testForEachItemAs_SameAsGetItemsAs() throws GameEngineException {
+        // Arrange
+        DefaultGroundCreator groundCreator = new DefaultGroundCreator();
+        groundCreator.registerGround('.', () -> new Ground('.', "Floor") { });
+        Location here = new GameMap("Room", groundCreator, '.', 2, 2).at(1, 1);
+        here.addItem(new Torch());
+        here.addItem(new Apple());
+        here.addItem(new Torch());
+
+        // Act
+        List<Flammable> visited = new ArrayList<>();
+        here.forEachItemAs(Flammable.class, visited::add);
+
+        // Assert
+        assertEquals(2, visited.size());
+        assertEquals(here.getItemsAs(Flammable.class), visited);
+    }
+
+    private interface Flammable {
+    }
+
+    private interface Edible {
+    }
+
+    private static class Torch extends Item implements Flammable {
+        Torch() {
+            super("Torch", '!', true);
+        }
+    }
+
+    private static class Apple extends Item implements Edible {
+        Apple() {
+            super("Apple", 'a', true);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package edu.monash.fit2099.engine;
+
+import edu.monash.fit2099.engine.capabilities.Status;
+import edu.monash.fit2099.engine.positions.Location;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the statuses kept by GameEntity.
+ */
+class GameEntityStatusTest {
+
+    private GameEntity entity;
+
+    @BeforeEach
+    void setUp() {
+        entity = new GameEntity() { };
+    }
+
+    /**
+     * TEST 1: Normal case - looking statuses up by their class, a superclass and an interface
+     * Expected: all of them find the statuses, and unrelated types do not
+     */
+    @Test
+    void testHasStatus_ByClassSuperclassAndInterface() {
+        // Arrange
+        entity.addStatus(new Poison(2));
+
+        // Act & Assert
+        assertTrue(entity.hasStatus(Poison.class));
+        assertTrue(entity.hasStatus(Timed.class));
+        assertTrue(entity.hasStatus(Status.class));
+        assertFalse(entity.hasStatus(Chill.class));
+        assertFalse(new GameEntity() { }.hasStatus(Status.class), "An entity with no statuses has none");
+    }
+
+    /**
+     * TEST 2: Normal case - statuses of several classes asked for by a shared supertype
+     * Expected: they come back in the order they were added, and later changes do not show
+     */
+    @Test
+    void testStatusesOf_OrderAndSnapshot() {
+        // Arrange
+        Poison first = new Poison(1);
+        Chill second = new Chill(1);
+        Poison third = new Poison(1);
+        entity.addStatus(first);
+        entity.addStatus(second);
+        entity.addStatus(third);
+
+        // Act
+        List<Timed> timed = entity.statusesOf(Timed.class);
+        List<Poison> poisons = entity.statusesOf(Poison.class);
+        entity.removeStatus(first);
+
+        // Assert
+        assertEquals(List.of(first, second, third), timed);
+        assertEquals(List.of(first, third), poisons);
+        assertEquals(List.of(third), entity.statusesOf(Poison.class));
+        assertThrows(UnsupportedOperationException.class, () -> poisons.add(third));
+    }
+
+    /**
+     * TEST 3: Edge case - statuses running out while they are ticked
+     * Expected: every status is ticked once in order, and only the expired ones are removed
+     */
+    @Test
+    void testTickStatuses_RemovesExpiredInOrder() {
+        // Arrange
+        List<Status> ticked = new ArrayList<>();
+        Poison shortPoison = new Poison(1, ticked);
+        Chill longChill = new Chill(2, ticked);
+        Poison longPoison = new Poison(2, ticked);
+        entity.addStatus(shortPoison);
+        entity.addStatus(longChill);
+        entity.addStatus(longPoison);
+
+        // Act
+        entity.tickStatuses(mock(Location.class));
+
+        // Assert
+        assertEquals(List.of(shortPoison, longChill, longPoison), ticked);
+        assertEquals(List.of(longChill, longPoison), entity.statuses());
+        assertEquals(List.of(longPoison), entity.statusesOf(Poison.class));
+    }
+
+    /**
+     * A status that lasts a number of turns.
+     */
+    private abstract static class Timed implements Status {
+        private int turnsLeft;
+        private final List<Status> ticked;
+
+        Timed(int turns, List<Status> ticked) {
+            this.turnsLeft = turns;
+            this.ticked = ticked;
+        }
+
+        @Override
+        public void tickStatus(GameEntity entity, Location location) {
+            ticked.add(this);
+            turnsLeft--;
+        }
+
+        @Override
+        public boolean isStatusActive() {
+            return turnsLeft > 0;
+        }
+    }
+
+    private static class Poison extends Timed {
+        Poison(int turns) {
+            this(turns, new ArrayList<>());
+        }
+
+        Poison(int turns, List<Status> ticked) {
+            super(turns, ticked);
+        }
+    }
+
+    private static class Chill extends Timed {
+        Chill(int turns) {
+            this(turns, new ArrayList<>());
+        }
+
+        Chill(int turns, List<Status> ticked) {
+            super(turns, ticked);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package edu.monash.fit2099.engine.actors;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actions.DoNothingAction;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.items.Item;
+import edu.monash.fit2099.engine.positions.GameMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the abilities an Actor has, on its own and through what it carries.
+ */
+class ActorAbilitiesTest {
+
+    private Actor actor;
+    private Item suit;
+
+    @BeforeEach
+    void setUp() {
+        actor = new Dummy();
+        suit = new Item("Space suit", '[', true) { };
+        suit.enableAbility(Ability.SPACE_TRAVEL);
+    }
+
+    /**
+     * TEST 1: Normal case - an item that gives an ability is picked up, then dropped
+     * Expected: the Actor has the ability only while carrying it
+     */
+    @Test
+    void testHasAbility_FollowsInventory() {
+        // Act
+        boolean before = actor.hasAbility(Ability.SPACE_TRAVEL);
+        actor.addItemToInventory(suit);
+        boolean carrying = actor.hasAbility(Ability.SPACE_TRAVEL);
+        actor.removeItemFromInventory(suit);
+
+        // Assert
+        assertFalse(before);
+        assertTrue(carrying);
+        assertFalse(actor.hasAbility(Ability.SPACE_TRAVEL));
+    }
+
+    /**
+     * TEST 2: Normal case - a carried item gains and loses an ability
+     * Expected: the Actor gains and loses it too, and stops following the item once it is dropped
+     */
+    @Test
+    void testHasAbility_FollowsCarriedItemChanges() {
+        // Arrange
+        actor.addItemToInventory(suit);
+
+        // Act
+        suit.enableAbility(Ability.BREATHE_UNDERWATER);
+        boolean gained = actor.hasAbility(Ability.BREATHE_UNDERWATER);
+        suit.disableAbility(Ability.BREATHE_UNDERWATER);
+        boolean lost = !actor.hasAbility(Ability.BREATHE_UNDERWATER);
+        actor.removeItemFromInventory(suit);
+        suit.enableAbility(Ability.BREATHE_UNDERWATER);
+
+        // Assert
+        assertTrue(gained);
+        assertTrue(lost);
+        assertFalse(actor.hasAbility(Ability.BREATHE_UNDERWATER));
+    }
+
+    /**
+     * TEST 3: Edge case - the Actor has an ability of its own that an item also gives
+     * Expected: dropping the item keeps it, and disabling its own keeps it while the item is carried
+     */
+    @Test
+    void testHasAbility_OwnAndCarriedCountedSeparately() {
+        // Arrange
+        actor.addItemToInventory(suit);
+        actor.enableAbility(Ability.SPACE_TRAVEL);
+
+        // Act
+        actor.removeItemFromInventory(suit);
+        boolean ownKept = actor.hasAbility(Ability.SPACE_TRAVEL);
+        actor.addItemToInventory(suit);
+        actor.disableAbility(Ability.SPACE_TRAVEL);
+
+        // Assert
+        assertTrue(ownKept);
+        assertTrue(actor.hasAbility(Ability.SPACE_TRAVEL));
+    }
+
+    private enum Ability {
+        SPACE_TRAVEL,
+        BREATHE_UNDERWATER
+    }
+
+    /**
+     * An Actor that never does anything.
+     */
+    private static class Dummy extends Actor {
+        Dummy() {
+            super("Dummy", 'd', 10);
+        }
+
+        @Override
+        public Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display) {
+            return new DoNothingAction();
+        }
+    }
+}
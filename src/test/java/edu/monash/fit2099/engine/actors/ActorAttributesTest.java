@@ -0,0 +1,116 @@
+package edu.monash.fit2099.engine.actors;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actions.DoNothingAction;
+import edu.monash.fit2099.engine.actors.attributes.ActorAttribute;
+import edu.monash.fit2099.engine.actors.attributes.ActorAttributeOperation;
+import edu.monash.fit2099.engine.actors.attributes.BaseAttributes;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.positions.GameMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the attributes kept by Actor.
+ */
+class ActorAttributesTest {
+
+    private Actor actor;
+
+    @BeforeEach
+    void setUp() {
+        actor = new Dummy();
+    }
+
+    /**
+     * TEST 1: Normal case - hit points taken and given back past their limits
+     * Expected: they stop at zero and at the maximum, and the Actor is named with them
+     */
+    @Test
+    void testHurtAndHeal_ClampedToLimits() {
+        // Act
+        actor.hurt(500);
+        boolean consciousAtZero = actor.isConscious();
+        actor.heal(30);
+        String hurt = actor.toString();
+        actor.heal(500);
+
+        // Assert
+        assertFalse(consciousAtZero);
+        assertEquals("Dummy (30/200)", hurt);
+        assertEquals(200, actor.getAttribute(BaseAttributes.HEALTH));
+    }
+
+    /**
+     * TEST 2: Edge case - an attribute written against the generic ActorAttribute&lt;Integer&gt;,
+     * under an enumeration of the game's own
+     * Expected: it is used through the adapter, like the built-in ones
+     */
+    @Test
+    void testAddNewStatistic_GenericAttributeStillWorks() {
+        // Arrange
+        actor.addNewStatistic(Extra.MORALE, new Counter(3));
+
+        // Act
+        actor.modifyAttribute(Extra.MORALE, ActorAttributeOperation.INCREASE, 4);
+        actor.modifyAttribute(Extra.MORALE, ActorAttributeOperation.DECREASE, 2);
+
+        // Assert
+        assertTrue(actor.hasStatistic(Extra.MORALE));
+        assertFalse(actor.hasStatistic(BaseAttributes.MANA));
+        assertEquals(5, actor.getAttribute(Extra.MORALE));
+        assertEquals(5, actor.getMaximumAttribute(Extra.MORALE));
+    }
+
+    private enum Extra {
+        MORALE
+    }
+
+    /**
+     * An unbounded counter that only knows about Integers.
+     */
+    private static class Counter implements ActorAttribute<Integer> {
+        private Integer value;
+
+        Counter(Integer value) {
+            this.value = value;
+        }
+
+        @Override
+        public void update(Integer points) {
+            value = points;
+        }
+
+        @Override
+        public void increase(Integer points) {
+            value += points;
+        }
+
+        @Override
+        public void decrease(Integer points) {
+            value -= points;
+        }
+
+        @Override
+        public Integer get() {
+            return value;
+        }
+    }
+
+    /**
+     * An Actor that only has hit points.
+     */
+    private static class Dummy extends Actor {
+        Dummy() {
+            super("Dummy", 'd', 200);
+        }
+
+        @Override
+        public Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display) {
+            return new DoNothingAction();
+        }
+    }
+}
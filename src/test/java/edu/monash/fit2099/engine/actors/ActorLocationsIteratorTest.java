@@ -0,0 +1,161 @@
+package edu.monash.fit2099.engine.actors;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.positions.DefaultGroundCreator;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Ground;
+import edu.monash.fit2099.engine.positions.World;
+import edu.monash.fit2099.engine.displays.Display;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the turn order kept by ActorLocationsIterator.
+ */
+class ActorLocationsIteratorTest {
+
+    private ActorLocationsIterator actorLocations;
+    private GameMap forest;
+    private GameMap plains;
+    private Actor player;
+
+    @BeforeEach
+    void setUp() throws GameEngineException {
+        DefaultGroundCreator groundCreator = new DefaultGroundCreator();
+        groundCreator.registerGround('.', () -> mock(Ground.class));
+        forest = new GameMap("Forest", groundCreator, '.', 5, 5);
+        plains = new GameMap("Plains", groundCreator, '.', 5, 5);
+
+        // Adding the maps to a World wires them to its ActorLocationsIterator
+        TestWorld world = new TestWorld();
+        world.addGameMap(forest);
+        world.addGameMap(plains);
+
+        player = mock(Actor.class);
+        world.addPlayer(player, forest.at(2, 2));
+        actorLocations = world.actorLocations();
+    }
+
+    /**
+     * TEST 1: Normal case - actors take turns player first, then in the order they were added
+     * Expected: the order is stable from one turn to the next
+     */
+    @Test
+    void testIteration_PlayerFirstThenInsertionOrder() throws GameEngineException {
+        // Arrange
+        Actor first = mock(Actor.class);
+        Actor second = mock(Actor.class);
+        Actor third = mock(Actor.class);
+        forest.addActor(first, forest.at(0, 0));
+        plains.addActor(second, plains.at(0, 0));
+        forest.addActor(third, forest.at(4, 4));
+
+        // Act
+        List<Actor> turn1 = collect(actorLocations);
+        List<Actor> turn2 = collect(actorLocations);
+
+        // Assert
+        assertEquals(List.of(player, first, second, third), turn1);
+        assertEquals(turn1, turn2, "Turn order should not change between turns");
+    }
+
+    /**
+     * TEST 2: Edge case - an actor removed before its turn is skipped,
+     * and an actor added during the turn waits for the next one
+     * Expected: neither appears in the current turn
+     */
+    @Test
+    void testIteration_MidTurnRemoveAndAdd() throws GameEngineException {
+        // Arrange
+        Actor victim = mock(Actor.class);
+        Actor spawned = mock(Actor.class);
+        forest.addActor(victim, forest.at(0, 0));
+
+        // Act
+        List<Actor> turn = new ArrayList<>();
+        for (Actor actor : actorLocations) {
+            turn.add(actor);
+            if (actor == player) {
+                forest.removeActor(victim);
+                forest.addActor(spawned, forest.at(1, 1));
+            }
+        }
+
+        // Assert
+        assertEquals(List.of(player), turn);
+        assertEquals(List.of(player, spawned), collect(actorLocations));
+    }
+
+    /**
+     * TEST 3: Edge case - an actor that teleports to another map during the turn
+     * Expected: it still gets exactly one turn, and moves to the other map's roster
+     */
+    @Test
+    void testIteration_TeleportBetweenMaps() throws GameEngineException {
+        // Arrange
+        Actor traveller = mock(Actor.class);
+        Actor other = mock(Actor.class);
+        forest.addActor(traveller, forest.at(0, 0));
+        forest.addActor(other, forest.at(4, 4));
+
+        // Act
+        List<Actor> turn = new ArrayList<>();
+        for (Actor actor : actorLocations) {
+            turn.add(actor);
+            if (actor == player) {
+                forest.removeActor(traveller);
+                plains.addActor(traveller, plains.at(3, 3));
+            }
+        }
+
+        // Assert
+        assertEquals(List.of(player, traveller, other), turn);
+        assertEquals(List.of(player, other), collect(actorLocations.actorsOn(forest)));
+        assertEquals(List.of(traveller), collect(actorLocations.actorsOn(plains)));
+    }
+
+    /**
+     * TEST 4: Edge case - a map's occupancy is changed directly, around addActor and moveActor
+     * Expected: both changes are refused, and the map, its actor index and the turn order still agree
+     */
+    @Test
+    void testSetOccupant_OutsideIteratorRefused() throws GameEngineException {
+        // Arrange
+        Actor stranger = mock(Actor.class);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> forest.setOccupant(forest.at(0, 0), stranger));
+        assertThrows(IllegalStateException.class, () -> forest.setOccupant(forest.at(2, 2), null));
+        assertNull(forest.getActorAt(0, 0));
+        assertSame(player, forest.getActorAt(2, 2));
+        assertEquals(1, forest.getActorIndex().size());
+        assertEquals(List.of(player), collect(actorLocations));
+    }
+
+    private static List<Actor> collect(Iterable<Actor> actors) {
+        List<Actor> result = new ArrayList<>();
+        for (Actor actor : actors) {
+            result.add(actor);
+        }
+        return result;
+    }
+
+    /**
+     * A World that lets the tests see its ActorLocationsIterator.
+     */
+    private static class TestWorld extends World {
+        TestWorld() {
+            super(mock(Display.class));
+        }
+
+        ActorLocationsIterator actorLocations() {
+            return actorLocations;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package edu.monash.fit2099.engine.displays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the differential frames written by AnsiDisplay.
+ */
+class AnsiDisplayTest {
+
+    private static final String CSI = "\u001b[";
+
+    private ByteArrayOutputStream bytes;
+    private AnsiDisplay display;
+
+    @BeforeEach
+    void setUp() {
+        bytes = new ByteArrayOutputStream();
+        display = new AnsiDisplay(new PrintStream(bytes, true, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * TEST 1: Normal case - the first frame
+     * Expected: the screen is cleared and every row is drawn, then the cursor goes under the map
+     */
+    @Test
+    void testPrintFrame_FirstFrameDrawnInFull() {
+        // Act
+        display.printFrame("abcdef".toCharArray(), 3, 2);
+
+        // Assert
+        assertEquals(CSI + "2J" + CSI + "1;1Habc" + CSI + "2;1Hdef" + CSI + "3;1H" + CSI + "J", written());
+    }
+
+    /**
+     * TEST 2: Normal case - a frame that differs from the last in a few cells
+     * Expected: only the changed span of the changed row is rewritten
+     */
+    @Test
+    void testPrintFrame_OnlyChangedCellsRewritten() {
+        // Arrange
+        display.printFrame("........".toCharArray(), 4, 2);
+        bytes.reset();
+
+        // Act
+        display.printFrame(".....@#.".toCharArray(), 4, 2);
+
+        // Assert
+        assertEquals(CSI + "2;2H@#" + CSI + "3;1H" + CSI + "J", written());
+    }
+
+    /**
+     * TEST 3: Edge case - an unchanged frame, then one of a different size
+     * Expected: nothing is redrawn for the first, the second is drawn in full
+     */
+    @Test
+    void testPrintFrame_UnchangedThenResized() {
+        // Arrange
+        display.printFrame("ab".toCharArray(), 2, 1);
+        bytes.reset();
+
+        // Act
+        display.printFrame("ab".toCharArray(), 2, 1);
+        String unchanged = written();
+        bytes.reset();
+        display.printFrame("ab".toCharArray(), 1, 2);
+        String resized = written();
+
+        // Assert
+        assertEquals(CSI + "2;1H" + CSI + "J", unchanged);
+        assertEquals(CSI + "2J" + CSI + "1;1Ha" + CSI + "2;1Hb" + CSI + "3;1H" + CSI + "J", resized);
+    }
+
+    /**
+     * TEST 4: Edge case - on a 5 row terminal under a 2 row map, two lines of log
+     * between frames, then three
+     * Expected: the frame after two lines is still only the changes; the one after three,
+     * which scrolled the map, is drawn in full
+     */
+    @Test
+    void testPrintFrame_RedrawnAfterLogScrollsTerminal() {
+        // Arrange
+        AnsiDisplay small = new AnsiDisplay(new PrintStream(bytes, true, StandardCharsets.UTF_8), 5);
+        small.printFrame("......".toCharArray(), 3, 2);
+        small.println("one");
+        small.println("two");
+        bytes.reset();
+
+        // Act
+        small.printFrame("..@...".toCharArray(), 3, 2);
+        String fits = written();
+        small.println("one");
+        small.print("two" + System.lineSeparator() + "three");
+        small.endLine();
+        bytes.reset();
+        small.printFrame("..@...".toCharArray(), 3, 2);
+        String scrolled = written();
+
+        // Assert
+        assertEquals(CSI + "1;3H@" + CSI + "3;1H" + CSI + "J", fits);
+        assertEquals(CSI + "2J" + CSI + "1;1H..@" + CSI + "2;1H..." + CSI + "3;1H" + CSI + "J", scrolled);
+    }
+
+    /**
+     * TEST 5: Edge case - on a 5 row terminal under a 2 row map, a menu of two lines and
+     * a prompt that leaves the cursor on the bottom row, answered with Enter
+     * Expected: the echoed Enter scrolls the map, so the next frame is drawn in full
+     */
+    @Test
+    void testPrintFrame_RedrawnAfterMenuAnswerScrollsTerminal() {
+        // Arrange
+        InputStream keyboard = System.in;
+        System.setIn(new ByteArrayInputStream(("a" + System.lineSeparator()).getBytes(StandardCharsets.UTF_8)));
+        try {
+            AnsiDisplay small = new AnsiDisplay(new PrintStream(bytes, true, StandardCharsets.UTF_8), 5);
+            small.printFrame("......".toCharArray(), 3, 2);
+            small.println("a: Go north");
+            small.println("b: Go south");
+            small.print("Choice: ");
+
+            // Act
+            char answer = small.readChar();
+            bytes.reset();
+            small.printFrame("..@...".toCharArray(), 3, 2);
+
+            // Assert
+            assertEquals('a', answer);
+            assertEquals(CSI + "2J" + CSI + "1;1H..@" + CSI + "2;1H..." + CSI + "3;1H" + CSI + "J", written());
+        } finally {
+            System.setIn(keyboard);
+        }
+    }
+
+    private String written() {
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,103 @@
+package edu.monash.fit2099.engine.displays;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the output that AsyncDisplay hands to its writer thread.
+ */
+class AsyncDisplayTest {
+
+    private static final String NL = System.lineSeparator();
+
+    /**
+     * TEST 1: Normal case - lines, characters and a frame, then close
+     * Expected: everything reaches the wrapped Display, in the order it was printed
+     */
+    @Test
+    void testClose_WritesEverythingInOrder() {
+        // Arrange
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        AsyncDisplay display = new AsyncDisplay(new Display(new PrintStream(bytes, false, StandardCharsets.UTF_8)), 2);
+        char[] frame = "ab".toCharArray();
+
+        // Act
+        display.println("first");
+        display.printFrame(frame, 2, 1);
+        frame[0] = 'x'; // the caller reuses its frame straight away
+        display.print(() -> '@');
+        display.endLine();
+        display.close();
+        display.println("after close");
+
+        // Assert
+        assertEquals("first" + NL + "ab" + NL + "@" + NL, bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * TEST 2: Normal case - reading a key
+     * Expected: the prompt printed before it is written out first
+     */
+    @Test
+    void testReadChar_FlushesFirst() {
+        // Arrange
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Display keyboard = new Display(new PrintStream(bytes, false, StandardCharsets.UTF_8)) {
+            @Override
+            public char readChar() {
+                return bytes.size() > 0 ? 'y' : 'n';
+            }
+        };
+
+        try (AsyncDisplay display = new AsyncDisplay(keyboard)) {
+            // Act
+            display.println("a: Attack");
+            char key = display.readChar();
+
+            // Assert
+            assertEquals('y', key, "The menu should be on screen before the key is read");
+        }
+    }
+
+    /**
+     * TEST 3: Edge case - a terminal that cannot keep up
+     * Expected: printing returns without waiting for it, and flush waits until it has caught up
+     */
+    @Test
+    void testPrintln_DoesNotWaitForSlowTerminal() throws InterruptedException {
+        // Arrange
+        CountDownLatch terminalReady = new CountDownLatch(1);
+        StringBuilder shown = new StringBuilder();
+        Display slowTerminal = new Display() {
+            @Override
+            public void println(String s) {
+                try {
+                    terminalReady.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                shown.append(s);
+            }
+        };
+
+        try (AsyncDisplay display = new AsyncDisplay(slowTerminal)) {
+            // Act
+            for (int i = 0; i < 100; i++) {
+                display.println(Integer.toString(i % 10));
+            }
+            String beforeTerminalReady = shown.toString();
+            terminalReady.countDown();
+            display.flush();
+
+            // Assert
+            assertEquals("", beforeTerminalReady);
+            assertEquals("0123456789".repeat(10), shown.toString());
+        }
+    }
+}
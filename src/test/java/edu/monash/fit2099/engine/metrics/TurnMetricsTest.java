@@ -0,0 +1,90 @@
+package edu.monash.fit2099.engine.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for timing the parts of a turn.
+ */
+class TurnMetricsTest {
+
+    @AfterEach
+    void turnTimingOff() {
+        TurnMetrics.setEnabled(false);
+        TurnMetrics.reset();
+    }
+
+    /**
+     * TEST 1: Normal case - the times 1 to 10000 nanoseconds are each counted once
+     * Expected: the percentiles are within an eighth of the true value, and the count, total and maximum are exact
+     */
+    @Test
+    void testPercentiles_WithinBucketError() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram("test");
+
+        // Act
+        for (long nanos = 1; nanos <= 10000; nanos++) {
+            histogram.record(nanos);
+        }
+
+        // Assert
+        assertEquals(10000, histogram.getCount());
+        assertEquals(10000L * 10001 / 2, histogram.getTotalNanos());
+        assertEquals(10000, histogram.getMaxNanos());
+        assertEquals(5000, histogram.getPercentileNanos(50), 5000 / 8.0);
+        assertEquals(9900, histogram.getPercentileNanos(99), 9900 / 8.0);
+        assertEquals(10000, histogram.getPercentileNanos(100));
+    }
+
+    /**
+     * TEST 2: Edge case - something is timed while timing is off, then while it is on
+     * Expected: only the time taken while timing was on is counted
+     */
+    @Test
+    void testRecord_NothingCountedWhileOff() {
+        // Arrange
+        LatencyHistogram histogram = TurnMetrics.histogram("TurnMetricsTest.phase");
+
+        // Act
+        TurnMetrics.setEnabled(false);
+        TurnMetrics.record(histogram, TurnMetrics.start());
+        TurnMetrics.setEnabled(true);
+        TurnMetrics.record(histogram, TurnMetrics.start());
+
+        // Assert
+        assertEquals(1, histogram.getCount());
+        assertTrue(TurnMetrics.report().contains("TurnMetricsTest.phase"));
+    }
+
+    /**
+     * TEST 3: Normal case - times are counted by class, and read over JMX
+     * Expected: each class has its own histogram, and the MBean reports its count
+     */
+    @Test
+    void testByClass_ReadOverJmx() throws Exception {
+        // Arrange
+        TurnMetrics.setEnabled(true);
+        TurnMetrics.ByClass byClass = TurnMetrics.byClass("TurnMetricsTest.run");
+        TurnMetrics.registerMBean();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        // Act
+        byClass.record("a string", TurnMetrics.start());
+        byClass.record("another", TurnMetrics.start());
+        byClass.record(42, TurnMetrics.start());
+
+        // Assert
+        Object count = server.invoke(new ObjectName(TurnMetrics.OBJECT_NAME), "getCount",
+                new Object[] {"TurnMetricsTest.run[String]"}, new String[] {String.class.getName()});
+        assertEquals(2L, count);
+        assertEquals(1, TurnMetrics.histogram("TurnMetricsTest.run[Integer]").getCount());
+        assertEquals(true, server.getAttribute(new ObjectName(TurnMetrics.OBJECT_NAME), "Enabled"));
+    }
+}
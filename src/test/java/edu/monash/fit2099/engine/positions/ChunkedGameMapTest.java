@@ -0,0 +1,95 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.positions.Fixtures.Idler;
+import edu.monash.fit2099.engine.positions.Fixtures.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for a GameMap made of chunks that are made, frozen and caught up as Actors move about.
+ */
+class ChunkedGameMapTest {
+
+    private static final int SIZE = 100_000;
+
+    private ChunkedGameMap map;
+    private Actor player;
+
+    @BeforeEach
+    void setUp() throws GameEngineException {
+        DefaultGroundCreator groundCreator = new DefaultGroundCreator();
+        groundCreator.registerGround('.', () -> new Ground('.', "Snow") { });
+        groundCreator.registerGround('T', Timer::new);
+        // A Timer in the corner of every chunk
+        map = new ChunkedGameMap("Tundra", groundCreator, (x, y) -> x % 32 == 0 && y % 32 == 0 ? 'T' : '.', SIZE, SIZE);
+        World world = Fixtures.world();
+        world.addGameMap(map);
+        player = new Idler();
+        world.addPlayer(player, map.at(50_000, 50_000));
+    }
+
+    /**
+     * TEST 1: Normal case - a 100000 by 100000 map with one Actor in the middle, ticked for a while
+     * Expected: only the chunks around the Actor are made and ticked
+     */
+    @Test
+    void testTick_OnlyChunksNearActorsAreMadeAndTicked() throws GameEngineException {
+        // Act
+        for (int turn = 0; turn < 5; turn++) {
+            map.tick();
+        }
+
+        // Assert
+        assertEquals(9, map.getChunkCount());
+        assertEquals(5, ((Timer) map.at(49_984, 49_984).getGround()).ticks);
+        Timer farAway = (Timer) map.at(0, 0).getGround();
+        assertEquals(10, map.getChunkCount());
+        assertEquals(0, farAway.ticks);
+        assertEquals(0, farAway.caughtUp);
+    }
+
+    /**
+     * TEST 2: Normal case - the Actor leaves a chunk for 20 turns and comes back
+     * Expected: the chunk is not ticked while frozen, then catches up the 20 turns in one go
+     */
+    @Test
+    void testTick_FrozenChunkCatchesUpOnReturn() throws GameEngineException {
+        // Arrange
+        Timer timer = (Timer) map.at(50_016, 50_016).getGround();
+        map.tick();
+        map.tick();
+
+        // Act
+        map.moveActor(player, map.at(60_000, 60_000));
+        for (int turn = 0; turn < 20; turn++) {
+            map.tick();
+        }
+        int ticksWhileAway = timer.ticks;
+        map.moveActor(player, map.at(50_000, 50_000));
+        map.tick();
+
+        // Assert
+        assertEquals(2, ticksWhileAway);
+        assertEquals(20, timer.caughtUp);
+        assertEquals(3, timer.ticks);
+    }
+
+    /**
+     * TEST 3: Edge case - the last tile of the map, its exits, and a tile past the edge
+     * Expected: the corner has three exits, and a tile past the edge is refused
+     */
+    @Test
+    void testAt_Edges() {
+        // Act
+        Location corner = map.at(SIZE - 1, SIZE - 1);
+
+        // Assert
+        assertEquals(3, corner.getExits().size());
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> map.at(SIZE, 0));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> map.at(-1, 0));
+    }
+}
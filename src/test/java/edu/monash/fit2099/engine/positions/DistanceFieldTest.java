@@ -0,0 +1,178 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.positions.Fixtures.Idler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the shared field of distances towards an Actor.
+ */
+class DistanceFieldTest {
+
+    private World world;
+    private GameMap map;
+    private Actor player;
+
+    @BeforeEach
+    void setUp() throws GameEngineException {
+        DefaultGroundCreator groundCreator = new DefaultGroundCreator();
+        groundCreator.registerGround('.', Floor::new);
+        groundCreator.registerGround('#', Wall::new);
+        // A wall with a gap at the bottom, between the left and right of the map
+        map = new GameMap("Maze", groundCreator, List.of(
+                ".....#.....",
+                ".....#.....",
+                ".....#.....",
+                ".....#.....",
+                "..........."));
+        world = Fixtures.world();
+        world.addGameMap(map);
+        player = new Idler("Player");
+        world.addPlayer(player, map.at(7, 0));
+    }
+
+    /**
+     * TEST 1: Normal case - a follower straight across the wall from the player
+     * Expected: the distances go round through the gap, and the first step heads down towards it
+     */
+    @Test
+    void testNextStep_GoesRoundWall() throws GameEngineException {
+        // Arrange
+        Actor follower = new Idler("Follower");
+        map.addActor(follower, map.at(3, 0));
+        DistanceField field = map.distanceFieldTo(player);
+
+        // Act
+        Exit step = field.nextStep(follower);
+
+        // Assert
+        assertEquals(8, field.distanceFrom(map.at(3, 0)));
+        assertEquals(-1, field.distanceFrom(map.at(5, 0)));
+        assertEquals(0, field.distanceFrom(map.at(7, 0)));
+        assertEquals(1, step.getDestination().y());
+        assertEquals(7, field.distanceFrom(step.getDestination()));
+    }
+
+    /**
+     * TEST 2: Normal case - five followers each ask for a step, before and after the player moves
+     * Expected: they all get the one field, which is searched once for each place the player stands
+     */
+    @Test
+    void testNextStep_OneSearchForAllFollowers() throws GameEngineException {
+        // Arrange
+        Actor[] followers = new Actor[5];
+        for (int i = 0; i < followers.length; i++) {
+            followers[i] = new Idler("Follower " + i);
+            map.addActor(followers[i], map.at(i, 2));
+        }
+
+        // Act
+        for (Actor follower : followers) {
+            map.distanceFieldTo(player).nextStep(follower);
+        }
+        map.moveActor(player, map.at(8, 0));
+        for (Actor follower : followers) {
+            map.distanceFieldTo(player).nextStep(follower);
+        }
+
+        // Assert
+        assertSame(map.distanceFieldTo(player), map.distanceFieldTo(player));
+        assertEquals(2, map.distanceFieldTo(player).getSearchCount());
+    }
+
+    /**
+     * TEST 3: Normal case - a gap is opened in the wall, then a floor tile is replaced by another floor
+     * Expected: the gap makes the field search again and shortens the way; the new floor does not
+     */
+    @Test
+    void testSetGround_SearchesAgainOnlyWhenItMatters() {
+        // Arrange
+        DistanceField field = map.distanceFieldTo(player);
+        field.distanceFrom(map.at(3, 0));
+
+        // Act
+        map.at(5, 0).setGround(new Floor());
+        int throughGap = field.distanceFrom(map.at(3, 0));
+        long searchesAfterGap = field.getSearchCount();
+        map.at(0, 4).setGround(new Floor());
+        field.distanceFrom(map.at(3, 0));
+
+        // Assert
+        assertEquals(4, throughGap);
+        assertEquals(2, searchesAfterGap);
+        assertEquals(2, field.getSearchCount());
+    }
+
+    /**
+     * TEST 4: Edge case - the player is not on the map
+     * Expected: no distances and no step
+     */
+    @Test
+    void testDistanceFrom_TargetElsewhere() throws GameEngineException {
+        // Arrange
+        Actor follower = new Idler("Follower");
+        map.addActor(follower, map.at(3, 0));
+        Actor stranger = new Idler("Stranger");
+
+        // Act
+        DistanceField field = map.distanceFieldTo(stranger);
+
+        // Assert
+        assertEquals(-1, field.distanceFrom(map.at(3, 0)));
+        assertNull(field.nextStep(follower));
+        assertEquals(1, field.getSearchCount());
+    }
+
+    /**
+     * TEST 5: Edge case - one target is removed and another moves to a second map
+     * Expected: both fields are dropped, so asking again makes new ones; a move within the map keeps its field
+     */
+    @Test
+    void testDistanceFieldTo_DroppedWhenTargetLeaves() throws GameEngineException {
+        // Arrange
+        Actor follower = new Idler("Follower");
+        map.addActor(follower, map.at(3, 0));
+        DefaultGroundCreator groundCreator = new DefaultGroundCreator();
+        groundCreator.registerGround('.', Floor::new);
+        GameMap elsewhere = new GameMap("Elsewhere", groundCreator, '.', 3, 3);
+        world.addGameMap(elsewhere);
+        DistanceField toPlayer = map.distanceFieldTo(player);
+        DistanceField toFollower = map.distanceFieldTo(follower);
+
+        // Act
+        map.moveActor(follower, map.at(2, 0));
+        boolean keptAfterStep = map.distanceFieldTo(follower) == toFollower;
+        map.removeActor(follower);
+        int keptAfterRemove = map.distanceFieldCount();
+        map.moveActor(player, elsewhere.at(1, 1));
+
+        // Assert
+        assertTrue(keptAfterStep);
+        assertEquals(1, keptAfterRemove);
+        assertEquals(0, map.distanceFieldCount());
+        assertNotSame(toPlayer, map.distanceFieldTo(player));
+    }
+
+    private static class Floor extends Ground {
+        Floor() {
+            super('.', "Floor");
+        }
+    }
+
+    private static class Wall extends Ground {
+        Wall() {
+            super('#', "Wall");
+        }
+
+        @Override
+        public boolean canActorEnter(Actor actor) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actions.DoNothingAction;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.Display;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * What the tests in this package build their worlds from.
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    /**
+     * @return a World with no maps yet, that prints to a mock Display
+     */
+    static World world() {
+        return new World(mock(Display.class)) { };
+    }
+
+    /**
+     * An Actor that never does anything.
+     */
+    static class Idler extends Actor {
+        Idler() {
+            this("Explorer");
+        }
+
+        Idler(String name) {
+            super(name, '@', 10);
+        }
+
+        @Override
+        public Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display) {
+            return new DoNothingAction();
+        }
+    }
+
+    /**
+     * A Ground that counts the turns it was ticked and the turns it caught up.
+     */
+    static class Timer extends Ground {
+        int ticks;
+        int caughtUp;
+
+        Timer() {
+            super('T', "Timer");
+        }
+
+        @Override
+        public void tick(Location location) {
+            ticks++;
+        }
+
+        @Override
+        public void catchUp(Location location, int turns) {
+            caughtUp += turns;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for reading GameMaps from text and run-length map files.
+ */
+class GameMapFileTest {
+
+    private static final List<String> ROWS = List.of(
+            "......##",
+            ".~~~..##",
+            "........");
+
+    @TempDir
+    Path folder;
+
+    private DefaultGroundCreator groundCreator;
+
+    @BeforeEach
+    void setUp() throws GameEngineException {
+        groundCreator = new DefaultGroundCreator();
+        groundCreator.registerGround('.', () -> new Tile('.'));
+        groundCreator.registerGround('#', () -> new Tile('#'));
+        groundCreator.registerGround('~', () -> new Tile('~'));
+    }
+
+    /**
+     * TEST 1: Normal case - a text map file with Windows line endings
+     * Expected: the same size and Grounds as a map made from the rows in memory
+     */
+    @Test
+    void testLoad_TextFileMatchesRows() throws Exception {
+        // Arrange
+        Path file = folder.resolve("level.txt");
+        Files.writeString(file, String.join("\r\n", ROWS) + "\r\n");
+
+        // Act
+        GameMap loaded = new GameMap("Level", groundCreator, file.toString());
+
+        // Assert
+        assertEquals(ROWS, rowsOf(loaded));
+        assertEquals(rowsOf(new GameMap("Level", groundCreator, ROWS)), rowsOf(loaded));
+    }
+
+    /**
+     * TEST 2: Normal case - a text map written as a run-length map
+     * Expected: the run-length file is smaller, and loads into the same map
+     */
+    @Test
+    void testLoad_RunLengthFileMatchesText() throws Exception {
+        // Arrange
+        Path text = folder.resolve("big.txt");
+        String row = ".".repeat(300) + "#".repeat(100) + "\n";
+        Files.writeString(text, row.repeat(50) + "~".repeat(400) + "\n");
+        Path compressed = folder.resolve("big.rle");
+
+        // Act
+        GameMap.compressMapFile(text, compressed);
+        GameMap loaded = new GameMap("Big", groundCreator, compressed.toString());
+
+        // Assert
+        assertTrue(Files.size(compressed) < 500);
+        assertEquals(rowsOf(new GameMap("Big", groundCreator, text.toString())), rowsOf(loaded));
+        assertEquals('~', loaded.at(399, 50).getGround().getDisplayChar());
+    }
+
+    /**
+     * TEST 3: Edge case - a text map whose second row is too short, and a run-length map cut short
+     * Expected: an IOException for each, rather than a half-made map
+     */
+    @Test
+    void testLoad_MalformedFilesRejected() throws Exception {
+        // Arrange
+        Path ragged = folder.resolve("ragged.txt");
+        Files.write(ragged, List.of("....", "..", "...."), StandardCharsets.US_ASCII);
+        Path text = folder.resolve("level.txt");
+        Files.write(text, ROWS);
+        Path truncated = folder.resolve("level.rle");
+        GameMap.compressMapFile(text, truncated);
+        byte[] bytes = Files.readAllBytes(truncated);
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 2));
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> new GameMap("Ragged", groundCreator, ragged.toString()));
+        assertThrows(IOException.class, () -> new GameMap("Truncated", groundCreator, truncated.toString()));
+    }
+
+    private static List<String> rowsOf(GameMap map) {
+        List<String> rows = new ArrayList<>();
+        for (int y : map.getYRange()) {
+            StringBuilder row = new StringBuilder();
+            for (int x : map.getXRange()) {
+                row.append(map.at(x, y).getGround().getDisplayChar());
+            }
+            rows.add(row.toString());
+        }
+        return rows;
+    }
+
+    private static class Tile extends Ground {
+        Tile(char displayChar) {
+            super(displayChar, "Tile");
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.GameEntity;
+import edu.monash.fit2099.engine.capabilities.Status;
+import edu.monash.fit2099.engine.items.Item;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for which tiles GameMap.tick visits.
+ */
+class GameMapTickTest {
+
+    private GameMap map;
+
+    @BeforeEach
+    void setUp() throws GameEngineException {
+        DefaultGroundCreator groundCreator = new DefaultGroundCreator();
+        groundCreator.registerGround('.', Plain::new);
+        map = new GameMap("Plains", groundCreator, '.', 4, 4);
+        World world = Fixtures.world();
+        world.addGameMap(map);
+    }
+
+    /**
+     * TEST 1: Normal case - a Ground that overrides tick among inert tiles
+     * Expected: it is ticked every turn, and the inert tiles never are
+     */
+    @Test
+    void testTick_OnlyTicksGroundThatOverridesTick() throws GameEngineException {
+        // Arrange
+        Growing growing = new Growing();
+        map.at(2, 1).setGround(growing);
+        Plain plain = (Plain) map.at(0, 0).getGround();
+
+        // Act
+        map.tick();
+        map.tick();
+
+        // Assert
+        assertEquals(2, growing.ticks);
+        assertFalse(plain.needsTick());
+    }
+
+    /**
+     * TEST 2: Normal case - an item dropped on an inert tile, then picked up again
+     * Expected: the item is ticked while it is there, and not after it leaves
+     */
+    @Test
+    void testTick_ItemTicksOnlyWhileOnTheTile() throws GameEngineException {
+        // Arrange
+        Location here = map.at(1, 3);
+        Item item = mock(Item.class);
+
+        // Act
+        here.addItem(item);
+        map.tick();
+        here.removeItem(item);
+        map.tick();
+
+        // Assert
+        verify(item, times(1)).tick(here);
+    }
+
+    /**
+     * TEST 3: Edge case - a status added to a Ground that is already on the map
+     * Expected: the status is ticked until it wears off
+     */
+    @Test
+    void testTick_StatusAddedAfterPlacementIsTicked() throws GameEngineException {
+        // Arrange
+        Location here = map.at(3, 3);
+        Countdown status = new Countdown(2);
+
+        // Act
+        here.getGround().addStatus(status);
+        map.tick();
+        map.tick();
+        map.tick();
+
+        // Assert
+        assertEquals(2, status.ticks);
+        assertTrue(here.getGround().statuses().isEmpty());
+        assertFalse(here.needsTick());
+    }
+
+    /**
+     * TEST 4: Edge case - ticking in parallel stripes with Grounds that spread
+     * down the map and drop items next to themselves
+     * Expected: the same map whatever the number of threads
+     */
+    @Test
+    void testTick_ParallelResultDoesNotDependOnThreadCount() throws GameEngineException {
+        // Act
+        String oneThread = spreadInParallel(1);
+        String fourThreads = spreadInParallel(4);
+
+        // Assert
+        assertEquals(oneThread, fourThreads);
+        assertTrue(oneThread.contains("*"));
+        assertTrue(oneThread.contains("o"));
+    }
+
+    /**
+     * TEST 5: Edge case - a change made during a parallel tick
+     * Expected: it is not visible to the rest of that tick, only after it
+     */
+    @Test
+    void testTick_ParallelChangesWaitForTheBarrier() throws GameEngineException {
+        // Arrange
+        ForkJoinPool pool = new ForkJoinPool(2);
+        map.setTickPool(pool);
+        map.at(1, 0).setGround(new Spreader());
+
+        // Act
+        map.tick();
+        map.tick();
+
+        // Assert
+        assertEquals('*', map.at(1, 1).getDisplayChar(), "spread after the second tick");
+        assertEquals('.', map.at(1, 2).getDisplayChar(), "the new Spreader only ticks from the next turn");
+        pool.shutdown();
+    }
+
+    /**
+     * TEST 6: Edge case - in a parallel tick, a tile on the top row of one stripe goes idle
+     * while the Ground just above it, in the stripe before, drops an item onto it
+     * Expected: the item is ticked from the next turn, as it is when ticking on one thread
+     */
+    @Test
+    void testTick_ParallelDropOntoIdleTileAtStripeEdge() throws GameEngineException {
+        // Arrange
+        DefaultGroundCreator groundCreator = new DefaultGroundCreator();
+        groundCreator.registerGround('.', Plain::new);
+        GameMap tall = new GameMap("Tall", groundCreator, '.', 4, 8);
+        World world = Fixtures.world();
+        world.addGameMap(tall);
+        // One thread makes four stripes of two rows, so row 2 starts the second stripe
+        ForkJoinPool pool = new ForkJoinPool(1);
+        tall.setTickPool(pool);
+        Location edge = tall.at(1, 2);
+        edge.getGround().addStatus(new Countdown(1));
+        tall.at(1, 1).setGround(new Dropper());
+
+        // Act
+        tall.tick();
+        Counter dropped = (Counter) edge.getItems().get(0);
+        tall.tick();
+        tall.tick();
+
+        // Assert
+        assertEquals(2, dropped.ticks);
+        pool.shutdown();
+    }
+
+    private static String spreadInParallel(int threads) throws GameEngineException {
+        DefaultGroundCreator groundCreator = new DefaultGroundCreator();
+        groundCreator.registerGround('.', Plain::new);
+        GameMap big = new GameMap("Big", groundCreator, '.', 12, 40);
+        World world = Fixtures.world();
+        world.addGameMap(big);
+        for (int x = 0; x < 12; x += 3) {
+            big.at(x, 0).setGround(new Spreader());
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        big.setTickPool(pool);
+        for (int turn = 0; turn < 30; turn++) {
+            big.tick();
+        }
+        pool.shutdown();
+
+        StringBuilder picture = new StringBuilder();
+        for (int y = 0; y < 40; y++) {
+            for (int x = 0; x < 12; x++) {
+                picture.append(big.at(x, y).getDisplayChar());
+            }
+            picture.append('\n');
+        }
+        return picture.toString();
+    }
+
+    /**
+     * A Ground that does nothing over time.
+     */
+    private static class Plain extends Ground {
+        Plain() {
+            super('.', "Plain");
+        }
+    }
+
+    /**
+     * A Ground that counts its ticks.
+     */
+    private static class Growing extends Ground {
+        private int ticks;
+
+        Growing() {
+            super('"', "Growing");
+        }
+
+        @Override
+        public void tick(Location location) {
+            ticks++;
+        }
+    }
+
+    /**
+     * A Ground that every other turn covers the tile below with another
+     * Spreader and drops a Pebble on the tile to its right.
+     */
+    private static class Spreader extends Ground {
+        private int age;
+
+        Spreader() {
+            super('*', "Spreader");
+        }
+
+        @Override
+        public void tick(Location location) {
+            age++;
+            if (age % 2 != 0) {
+                return;
+            }
+            GameMap map = location.map();
+            if (location.y() + 1 < map.getYRange().size()) {
+                map.at(location.x(), location.y() + 1).setGround(new Spreader());
+            }
+            if (location.x() + 1 < map.getXRange().size()) {
+                map.at(location.x() + 1, location.y()).addItem(new Pebble());
+            }
+        }
+    }
+
+    /**
+     * A Ground that, the first time it is ticked, drops a Counter on the tile below.
+     */
+    private static class Dropper extends Ground {
+        private boolean dropped;
+
+        Dropper() {
+            super('v', "Dropper");
+        }
+
+        @Override
+        public void tick(Location location) {
+            if (!dropped) {
+                dropped = true;
+                location.map().at(location.x(), location.y() + 1).addItem(new Counter());
+            }
+        }
+    }
+
+    /**
+     * An item that counts its ticks.
+     */
+    private static class Counter extends Item {
+        private int ticks;
+
+        Counter() {
+            super("Counter", 'c', true);
+        }
+
+        @Override
+        public void tick(Location currentLocation) {
+            ticks++;
+        }
+    }
+
+    /**
+     * An item that does nothing.
+     */
+    private static class Pebble extends Item {
+        Pebble() {
+            super("Pebble", 'o', true);
+        }
+    }
+
+    /**
+     * A Status that wears off after a number of ticks.
+     */
+    private static class Countdown implements Status {
+        private int remaining;
+        private int ticks;
+
+        Countdown(int remaining) {
+            this.remaining = remaining;
+        }
+
+        @Override
+        public void tickStatus(GameEntity currEntity, Location location) {
+            ticks++;
+            remaining--;
+        }
+
+        @Override
+        public boolean isStatusActive() {
+            return remaining > 0;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the exits handed out by Location.
+ */
+class LocationExitsTest {
+
+    private GameMap map;
+    private GameMap otherMap;
+
+    @BeforeEach
+    void setUp() throws GameEngineException {
+        DefaultGroundCreator groundCreator = new DefaultGroundCreator();
+        groundCreator.registerGround('.', () -> mock(Ground.class));
+        map = new GameMap("Forest", groundCreator, '.', 3, 3);
+        otherMap = new GameMap("Cave", groundCreator, '.', 3, 3);
+    }
+
+    /**
+     * TEST 1: Normal case - exits from the middle tile of the map
+     * Expected: all eight neighbours, starting North and going clockwise
+     */
+    @Test
+    void testGetExits_MiddleTileHasEightExitsInOrder() {
+        // Arrange
+        Location middle = map.at(1, 1);
+
+        // Act
+        List<Exit> exits = middle.getExits();
+
+        // Assert
+        assertEquals(List.of("North", "North-East", "East", "South-East", "South", "South-West", "West", "North-West"),
+                exits.stream().map(Exit::getName).toList());
+        assertEquals(List.of("8", "9", "6", "3", "2", "1", "4", "7"),
+                exits.stream().map(Exit::getHotKey).toList());
+        assertSame(map.at(1, 0), exits.get(0).getDestination());
+        assertSame(map.at(0, 0), exits.get(7).getDestination());
+        assertThrows(UnsupportedOperationException.class, () -> exits.add(exits.get(0)));
+    }
+
+    /**
+     * TEST 2: Edge case - exits from a corner tile
+     * Expected: only the three neighbours that are on the map
+     */
+    @Test
+    void testGetExits_CornerTileStaysOnTheMap() {
+        // Act
+        List<Exit> exits = map.at(0, 0).getExits();
+
+        // Assert
+        assertEquals(List.of("East", "South-East", "South"), exits.stream().map(Exit::getName).toList());
+    }
+
+    /**
+     * TEST 3: Normal case - add a door and remove a default exit from one tile
+     * Expected: that tile keeps its own list, and its neighbours are unaffected
+     */
+    @Test
+    void testAddAndRemoveExit_OnlyChangesThatTile() {
+        // Arrange
+        Location here = map.at(1, 1);
+        Exit north = here.getExits().get(0);
+        Exit door = new Exit("to Cave", otherMap.at(0, 0), "5");
+
+        // Act
+        here.addExit(door);
+        here.removeExit(north);
+
+        // Assert
+        List<Exit> exits = here.getExits();
+        assertEquals(8, exits.size());
+        assertFalse(exits.contains(north));
+        assertSame(door, exits.get(exits.size() - 1));
+        assertEquals(5, map.at(1, 2).getExits().size());
+        assertEquals(5, map.at(1, 0).getExits().size());
+    }
+
+    /**
+     * TEST 4: Normal case - a tile is asked for its exits twice, then has an exit removed
+     * Expected: the same list both times; then a list of its own without the removed exit
+     */
+    @Test
+    void testGetExits_KeptAfterFirstAsked() {
+        // Arrange
+        Location here = map.at(1, 1);
+
+        // Act
+        List<Exit> first = here.getExits();
+        List<Exit> second = here.getExits();
+        here.removeExit(first.get(0));
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(8, first.size());
+        assertEquals(7, here.getExits().size());
+        assertNotSame(first, here.getExits());
+    }
+}
@@ -0,0 +1,77 @@
+package edu.monash.fit2099.engine.positions;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for NumberRange.
+ */
+class NumberRangeTest {
+
+    /**
+     * TEST 1: Normal case - iterate a range that does not start at zero
+     * Expected: every int from start to start + count - 1, in order
+     */
+    @Test
+    void testIteration_ReturnsEveryIntInOrder() {
+        // Arrange
+        NumberRange range = new NumberRange(3, 4);
+
+        // Act
+        List<Integer> values = new ArrayList<>();
+        for (int i : range) {
+            values.add(i);
+        }
+
+        // Assert
+        assertEquals(List.of(3, 4, 5, 6), values);
+        assertEquals(3, range.min());
+        assertEquals(6, range.max());
+        assertEquals(4, range.size());
+        assertArrayEquals(new int[] {3, 4, 5, 6}, range.stream().toArray());
+    }
+
+    /**
+     * TEST 2: Edge case - contains at and just past both ends
+     * Expected: only the ints between min and max are contained
+     */
+    @Test
+    void testContains_Boundaries() {
+        // Arrange
+        NumberRange range = new NumberRange(-2, 5);
+
+        // Act & Assert
+        assertFalse(range.contains(-3));
+        assertTrue(range.contains(-2));
+        assertTrue(range.contains(2));
+        assertFalse(range.contains(3));
+        assertFalse(range.contains(Integer.MIN_VALUE));
+        assertFalse(range.contains(Integer.MAX_VALUE));
+    }
+
+    /**
+     * TEST 3: Edge case - an empty range
+     * Expected: nothing to iterate, nothing contained, and no min or max
+     */
+    @Test
+    void testEmptyRange() {
+        // Arrange
+        NumberRange range = new NumberRange(5, 0);
+
+        // Act
+        Iterator<Integer> iterator = range.iterator();
+
+        // Assert
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+        assertFalse(range.contains(5));
+        assertThrows(NoSuchElementException.class, range::min);
+        assertThrows(NoSuchElementException.class, range::max);
+    }
+}
@@ -0,0 +1,180 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actions.DoNothingAction;
+import edu.monash.fit2099.engine.actions.MoveActorAction;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.positions.Fixtures.Idler;
+import game.actions.AttackAction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for deciding NPC turns on a decision pool.
+ */
+class ParallelDecisionTest {
+
+    private GameMap map;
+    private Display display;
+    private TestWorld world;
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() throws GameEngineException {
+        DefaultGroundCreator groundCreator = new DefaultGroundCreator();
+        groundCreator.registerGround('.', () -> new Ground('.', "Floor") { });
+        map = new GameMap("Room", groundCreator, '.', 5, 5);
+        display = mock(Display.class);
+        world = new TestWorld(display);
+        world.addGameMap(map);
+        world.addPlayer(new Idler("Player"), map.at(0, 0));
+        pool = new ForkJoinPool(4);
+        world.setDecisionPool(pool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    /**
+     * TEST 1: Edge case - two NPCs decide to move onto the same empty tile
+     * Expected: the first in turn order moves there, the second does nothing
+     */
+    @Test
+    void testConflictingMoves_FirstInTurnOrderWins() throws GameEngineException {
+        // Arrange
+        Location target = map.at(2, 2);
+        Actor first = new Mover("First", target);
+        Actor second = new Mover("Second", target);
+        map.addActor(first, map.at(2, 3));
+        map.addActor(second, map.at(2, 1));
+
+        // Act
+        world.runTurns(1);
+
+        // Assert
+        assertSame(first, target.getActor());
+        assertSame(map.at(2, 1), map.locationOf(second));
+    }
+
+    /**
+     * TEST 2: Normal case - an NPC prints and removes itself while deciding
+     * Expected: its output and its removal happen at its place in the turn order
+     */
+    @Test
+    void testDecisionSideEffects_HappenInTurnOrder() throws GameEngineException {
+        // Arrange
+        Actor leaver = new Leaver("Leaver");
+        Actor mover = new Mover("Mover", map.at(4, 3));
+        map.addActor(leaver, map.at(4, 0));
+        map.addActor(mover, map.at(4, 4));
+
+        // Act
+        world.runTurns(1);
+
+        // Assert
+        assertFalse(map.contains(leaver));
+        assertSame(mover, map.at(4, 3).getActor());
+        InOrder inOrder = inOrder(display);
+        inOrder.verify(display).println("Leaver (10/10) waves goodbye");
+        inOrder.verify(display).println("Mover (10/10) moves north");
+    }
+
+    /**
+     * TEST 3: Edge case - an NPC decides to attack its neighbour, which steps away
+     * earlier in the turn order, before the attack is applied
+     * Expected: the attack does not happen, and the neighbour is unhurt where it moved to
+     */
+    @Test
+    void testAttack_TargetStepsAwayFirst() throws GameEngineException {
+        // Arrange
+        Actor runner = new Mover("Runner", map.at(4, 2));
+        Actor striker = new Striker("Striker", runner);
+        map.addActor(runner, map.at(2, 2));
+        map.addActor(striker, map.at(1, 2));
+
+        // Act
+        world.runTurns(1);
+
+        // Assert
+        assertTrue(map.contains(runner));
+        assertTrue(runner.isConscious());
+        assertSame(runner, map.at(4, 2).getActor());
+        verify(display, never()).println(contains("hits"));
+    }
+
+    /**
+     * A World where every Actor but the player decides in parallel.
+     */
+    private static class TestWorld extends World {
+        TestWorld(Display display) {
+            super(display);
+        }
+
+        @Override
+        protected boolean decidesInParallel(Actor actor) {
+            return true;
+        }
+    }
+
+    /**
+     * An Actor that always wants to move to the same Location.
+     */
+    private static class Mover extends Idler {
+        private final Location target;
+
+        Mover(String name, Location target) {
+            super(name);
+            this.target = target;
+        }
+
+        @Override
+        public Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display) {
+            return new MoveActorAction(target, "north");
+        }
+    }
+
+    /**
+     * An Actor that always attacks the same Actor, for all of its health in one sure blow.
+     */
+    private static class Striker extends Idler {
+        private final Actor target;
+
+        Striker(String name, Actor target) {
+            super(name);
+            this.target = target;
+        }
+
+        @Override
+        public Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display) {
+            return new AttackAction(target, "east", 10, 100, "hits");
+        }
+    }
+
+    /**
+     * An Actor that says goodbye and leaves the map on its first turn.
+     */
+    private static class Leaver extends Idler {
+        Leaver(String name) {
+            super(name);
+        }
+
+        @Override
+        public Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display) {
+            display.println(this + " waves goodbye");
+            map.removeActor(this);
+            return new DoNothingAction();
+        }
+    }
+}
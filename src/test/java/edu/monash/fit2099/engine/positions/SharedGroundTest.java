@@ -0,0 +1,172 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.capabilities.Status;
+import edu.monash.fit2099.engine.positions.Fixtures.Idler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for Grounds shared between every tile they cover.
+ */
+class SharedGroundTest {
+
+    @TempDir
+    Path folder;
+
+    private GameMap map;
+
+    @BeforeEach
+    void setUp() throws GameEngineException {
+        map = new GameMap("Field", groundCreator(), '.', 4, 3);
+    }
+
+    /**
+     * TEST 1: Normal case - a map filled with a Ground registered as shared
+     * Expected: every tile has the same instance
+     */
+    @Test
+    void testCreateGround_OneInstanceForEveryTile() {
+        // Act
+        Ground corner = map.at(0, 0).getGround();
+
+        // Assert
+        assertTrue(corner.isShared());
+        assertSame(corner, map.at(3, 2).getGround());
+    }
+
+    /**
+     * TEST 2: Normal case - one tile's Ground is given a status and an ability through ownGround
+     * Expected: that tile gets a copy of its own that changes; the other tiles keep the shared Ground unchanged
+     */
+    @Test
+    void testOwnGround_SplitsOneTile() {
+        // Arrange
+        Ground shared = map.at(0, 0).getGround();
+
+        // Act
+        Ground own = map.at(1, 1).ownGround();
+        own.addStatus(new Wet());
+        own.enableAbility(Soil.FERTILE);
+
+        // Assert
+        assertNotSame(shared, own);
+        assertFalse(own.isShared());
+        assertSame(own, map.at(1, 1).getGround());
+        assertSame(own, map.at(1, 1).ownGround());
+        assertTrue(own.hasStatus(Wet.class));
+        assertSame(shared, map.at(2, 1).getGround());
+        assertFalse(shared.hasStatus(Wet.class));
+        assertFalse(shared.hasAbility(Soil.FERTILE));
+    }
+
+    /**
+     * TEST 3: Edge case - changing a shared Ground directly, and sharing a Ground that has to be ticked
+     * Expected: both are refused
+     */
+    @Test
+    void testShared_ChangesAndTickingGroundsRefused() {
+        // Arrange
+        Ground shared = map.at(0, 0).getGround();
+        DefaultGroundCreator groundCreator = new DefaultGroundCreator();
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> shared.addStatus(new Wet()));
+        assertThrows(IllegalStateException.class, () -> shared.enableAbility(Soil.FERTILE));
+        assertThrows(GameEngineException.class, () -> groundCreator.registerSharedGround('T', Sapling::new));
+    }
+
+    /**
+     * TEST 4: Normal case - a World with one split tile is saved and loaded back
+     * Expected: the split tile has its own Ground with its ability again, and the rest stay shared
+     */
+    @Test
+    void testLoadSnapshot_KeepsSharing() throws Exception {
+        // Arrange
+        Path file = folder.resolve("world.snap");
+        World saved = worldOn(map);
+        map.at(2, 0).ownGround().enableAbility(Soil.FERTILE);
+        GameMap fresh = new GameMap("Field", groundCreator(), '.', 4, 3);
+        World loaded = worldOn(fresh);
+
+        // Act
+        saved.saveSnapshot(file);
+        loaded.loadSnapshot(file);
+
+        // Assert
+        Ground split = fresh.at(2, 0).getGround();
+        assertFalse(split.isShared());
+        assertTrue(split.hasAbility(Soil.FERTILE));
+        assertTrue(fresh.at(0, 0).getGround().isShared());
+        assertSame(fresh.at(0, 0).getGround(), fresh.at(3, 2).getGround());
+    }
+
+    /**
+     * TEST 5: Normal case - a status and an ability are given to one tile's shared Ground through its Location
+     * Expected: no exception; that tile is split off and changed, the other tiles keep the shared Ground unchanged
+     */
+    @Test
+    void testAddGroundStatus_SplitsSharedGround() {
+        // Arrange
+        Ground shared = map.at(0, 0).getGround();
+        Location tile = map.at(3, 0);
+
+        // Act
+        tile.addGroundStatus(new Wet());
+        tile.enableGroundAbility(Soil.FERTILE);
+        map.at(0, 2).disableGroundAbility(Soil.FERTILE);
+
+        // Assert
+        assertNotSame(shared, tile.getGround());
+        assertTrue(tile.getGround().hasStatus(Wet.class));
+        assertTrue(tile.getGround().hasAbility(Soil.FERTILE));
+        assertSame(shared, map.at(0, 2).getGround());
+        assertFalse(shared.hasStatus(Wet.class));
+        assertFalse(shared.hasAbility(Soil.FERTILE));
+    }
+
+    private static DefaultGroundCreator groundCreator() throws GameEngineException {
+        DefaultGroundCreator groundCreator = new DefaultGroundCreator();
+        groundCreator.registerSharedGround('.', Grass::new);
+        return groundCreator;
+    }
+
+    private static World worldOn(GameMap map) throws GameEngineException {
+        World world = Fixtures.world();
+        world.addGameMap(map);
+        world.addPlayer(new Idler("Farmer"), map.at(0, 0));
+        return world;
+    }
+
+    private enum Soil {
+        FERTILE
+    }
+
+    private static class Grass extends Ground {
+        Grass() {
+            super('.', "Grass");
+        }
+    }
+
+    private static class Sapling extends Ground {
+        Sapling() {
+            super('t', "Sapling");
+        }
+
+        @Override
+        public void tick(Location location) {
+        }
+    }
+
+    private static class Wet implements Status {
+        @Override
+        public boolean isStatusActive() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.positions.Fixtures.Idler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for finding the Actors near a Location through a map's actor index.
+ */
+class SpatialIndexTest {
+
+    private GameMap map;
+    private SpatialIndex index;
+    private Idler player;
+    private Hunter nearWolf;
+    private Hunter farWolf;
+    private Idler deer;
+
+    @BeforeEach
+    void setUp() throws GameEngineException {
+        DefaultGroundCreator groundCreator = new DefaultGroundCreator();
+        groundCreator.registerGround('.', () -> new Ground('.', "Floor") { });
+        map = new GameMap("Plain", groundCreator, '.', 40, 30);
+        World world = Fixtures.world();
+        world.addGameMap(map);
+        player = new Idler("Player");
+        world.addPlayer(player, map.at(20, 15));
+        nearWolf = new Hunter("Near wolf");
+        map.addActor(nearWolf, map.at(22, 14));
+        farWolf = new Hunter("Far wolf");
+        map.addActor(farWolf, map.at(30, 15));
+        deer = new Idler("Deer");
+        map.addActor(deer, map.at(19, 16));
+        index = map.getActorIndex();
+    }
+
+    /**
+     * TEST 1: Normal case - Actors within 2 of the player, all of them and then only predators
+     * Expected: the player, the near wolf and the deer; then the near wolf alone
+     */
+    @Test
+    void testForEachWithin_RadiusAndType() {
+        // Arrange
+        List<Actor> found = new ArrayList<>();
+
+        // Act
+        int visited = index.forEachWithin(map.at(20, 15), 2, Actor.class, (actor, location) -> found.add(actor));
+        int predators = index.countWithin(map.at(20, 15), 2, Predator.class);
+
+        // Assert
+        assertEquals(3, visited);
+        assertTrue(found.containsAll(List.of(player, nearWolf, deer)));
+        assertEquals(1, predators);
+        assertEquals(4, index.size());
+    }
+
+    /**
+     * TEST 2: Normal case - the far wolf moves next to the player, and the deer is removed
+     * Expected: the index follows: two predators within 2, and the deer is gone
+     */
+    @Test
+    void testForEachWithin_FollowsMovesAndRemovals() {
+        // Act
+        map.moveActor(farWolf, map.at(21, 16));
+        map.removeActor(deer);
+
+        // Assert
+        assertEquals(2, index.countWithin(map.at(20, 15), 2, Predator.class));
+        assertEquals(0, index.countWithin(map.at(30, 15), 3, Actor.class));
+        assertEquals(3, index.countWithin(map.at(20, 15), 2, Actor.class));
+        assertEquals(3, index.size());
+    }
+
+    /**
+     * TEST 3: Normal case - the two nearest predators to the player, then every Actor, nearest first
+     * Expected: the near wolf before the far wolf; and distances that never go down
+     */
+    @Test
+    void testForEachNearest_NearestFirst() {
+        // Arrange
+        List<Actor> predators = new ArrayList<>();
+        List<Integer> distances = new ArrayList<>();
+        Location centre = map.at(20, 15);
+
+        // Act
+        index.forEachNearest(centre, 2, 100, Predator.class, (actor, location) -> predators.add((Actor) actor));
+        int all = index.forEachNearest(centre, 10, 100, Actor.class, (actor, location) ->
+                distances.add(Math.max(Math.abs(location.x() - centre.x()), Math.abs(location.y() - centre.y()))));
+
+        // Assert
+        assertEquals(List.of(nearWolf, farWolf), predators);
+        assertEquals(4, all);
+        assertEquals(List.of(0, 1, 2, 10), distances);
+    }
+
+    /**
+     * TEST 4: Edge case - a search from a corner that stops early, and one limited to a small radius
+     * Expected: the visitor stops the first after one Actor; the second cannot see the far wolf
+     */
+    @Test
+    void testForEachNearest_StopsEarlyAndAtRadius() {
+        // Act
+        int stopped = index.forEachNearest(map.at(39, 29), 10, 100, Actor.class, (actor, location) -> false);
+        int inReach = index.forEachNearest(map.at(20, 15), 10, 5, Predator.class, (actor, location) -> true);
+
+        // Assert
+        assertEquals(1, stopped);
+        assertEquals(1, inReach);
+    }
+
+    /**
+     * TEST 5: Edge case - a 100000 by 100000 chunked map with two Actors far apart
+     * Expected: the index still finds the nearest one, however far
+     */
+    @Test
+    void testForEachNearest_HugeChunkedMap() throws GameEngineException {
+        // Arrange
+        DefaultGroundCreator groundCreator = new DefaultGroundCreator();
+        groundCreator.registerGround('.', () -> new Ground('.', "Snow") { });
+        ChunkedGameMap huge = new ChunkedGameMap("Tundra", groundCreator, (x, y) -> '.', 100_000, 100_000);
+        World world = Fixtures.world();
+        world.addGameMap(huge);
+        world.addPlayer(new Idler("Explorer"), huge.at(50_000, 50_000));
+        Hunter bear = new Hunter("Bear");
+        huge.addActor(bear, huge.at(50_300, 49_800));
+        List<Actor> found = new ArrayList<>();
+
+        // Act
+        huge.getActorIndex().forEachNearest(huge.at(50_000, 50_000), 1, 1000, Predator.class, (actor, location) -> found.add((Actor) actor));
+
+        // Assert
+        assertEquals(List.of(bear), found);
+    }
+
+    private interface Predator {
+    }
+
+    private static class Hunter extends Idler implements Predator {
+        Hunter(String name) {
+            super(name);
+        }
+    }
+}
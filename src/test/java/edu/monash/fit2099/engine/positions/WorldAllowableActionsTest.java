@@ -0,0 +1,90 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actions.DoNothingAction;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.Display;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Actions World hands each Actor on its turn.
+ */
+class WorldAllowableActionsTest {
+
+    private GameMap map;
+    private World world;
+
+    @BeforeEach
+    void setUp() throws GameEngineException {
+        DefaultGroundCreator groundCreator = new DefaultGroundCreator();
+        groundCreator.registerGround('.', () -> new Ground('.', "Floor") { });
+        map = new GameMap("Room", groundCreator, '.', 3, 3);
+        world = Fixtures.world();
+        world.addGameMap(map);
+        world.addPlayer(new Watcher("Player", true), map.at(0, 0));
+    }
+
+    /**
+     * TEST 1: Normal case - an Actor that chooses from its Actions
+     * Expected: it gets a move for every exit, plus doing nothing
+     */
+    @Test
+    void testTurn_ActorThatNeedsActionsGetsThemAll() throws GameEngineException {
+        // Arrange
+        Watcher chooser = new Watcher("Chooser", true);
+        map.addActor(chooser, map.at(2, 2));
+
+        // Act
+        world.runTurns(1);
+
+        // Assert
+        assertEquals(3 + 1, chooser.seen.size());
+        assertTrue(chooser.seen.get(chooser.seen.size() - 1) instanceof DoNothingAction);
+    }
+
+    /**
+     * TEST 2: Normal case - an Actor that makes up its own Actions
+     * Expected: it is handed an empty list
+     */
+    @Test
+    void testTurn_ActorThatDoesNotNeedActionsGetsNone() throws GameEngineException {
+        // Arrange
+        Watcher decider = new Watcher("Decider", false);
+        map.addActor(decider, map.at(2, 2));
+
+        // Act
+        world.runTurns(1);
+
+        // Assert
+        assertEquals(0, decider.seen.size());
+    }
+
+    /**
+     * An Actor that remembers the Actions it was handed, then does nothing.
+     */
+    private static class Watcher extends Actor {
+        private final boolean needsActions;
+        private ActionList seen;
+
+        Watcher(String name, boolean needsActions) {
+            super(name, '@', 10);
+            this.needsActions = needsActions;
+        }
+
+        @Override
+        public boolean needsAllowableActions() {
+            return needsActions;
+        }
+
+        @Override
+        public Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display) {
+            seen = actions;
+            return new DoNothingAction();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.positions.Fixtures.Idler;
+import edu.monash.fit2099.engine.positions.Fixtures.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ticking the maps the player is not on less often.
+ */
+class WorldOffscreenTickTest {
+
+    private World world;
+    private GameMap home;
+    private GameMap elsewhere;
+    private Actor player;
+
+    @BeforeEach
+    void setUp() throws GameEngineException {
+        DefaultGroundCreator groundCreator = new DefaultGroundCreator();
+        groundCreator.registerGround('.', () -> new Ground('.', "Floor") { });
+        groundCreator.registerGround('T', Timer::new);
+        home = new GameMap("Home", groundCreator, List.of("T.", ".."));
+        elsewhere = new GameMap("Elsewhere", groundCreator, List.of("T.", ".."));
+        world = Fixtures.world();
+        world.addGameMap(home);
+        world.addGameMap(elsewhere);
+        player = new Idler();
+        world.addPlayer(player, home.at(1, 1));
+    }
+
+    /**
+     * TEST 1: Normal case - the default interval, over 6 turns
+     * Expected: both maps are ticked every turn and nothing is caught up
+     */
+    @Test
+    void testRunTurns_DefaultTicksEveryMap() throws GameEngineException {
+        // Act
+        world.runTurns(6);
+
+        // Assert
+        assertEquals(6, timerOn(home).ticks);
+        assertEquals(6, timerOn(elsewhere).ticks);
+        assertEquals(0, timerOn(elsewhere).caughtUp);
+    }
+
+    /**
+     * TEST 2: Normal case - an interval of 3, over 9 turns
+     * Expected: the player's map is ticked every turn; the other is ticked 3 times, catching up the other 6
+     */
+    @Test
+    void testRunTurns_IntervalTicksOtherMapsLessOften() throws GameEngineException {
+        // Arrange
+        world.setOffscreenTickInterval(3);
+
+        // Act
+        world.runTurns(9);
+
+        // Assert
+        assertEquals(9, timerOn(home).ticks);
+        assertEquals(0, timerOn(home).caughtUp);
+        assertEquals(3, timerOn(elsewhere).ticks);
+        assertEquals(6, timerOn(elsewhere).caughtUp);
+    }
+
+    /**
+     * TEST 3: Edge case - an interval of 0, and the player moves to the other map after 10 turns
+     * Expected: the other map is left alone, then catches up all 10 turns before its first tick
+     */
+    @Test
+    void testRunTurns_FrozenMapCatchesUpWhenPlayerArrives() throws GameEngineException {
+        // Arrange
+        world.setOffscreenTickInterval(0);
+        world.runTurns(10);
+        int ticksWhileAway = timerOn(elsewhere).ticks;
+
+        // Act
+        home.moveActor(player, elsewhere.at(1, 1));
+        world.runTurns(1);
+
+        // Assert
+        assertEquals(0, ticksWhileAway);
+        assertEquals(10, timerOn(elsewhere).caughtUp);
+        assertEquals(1, timerOn(elsewhere).ticks);
+        assertEquals(10, timerOn(home).ticks);
+    }
+
+    /**
+     * TEST 4: Edge case - a negative interval
+     * Expected: it is refused
+     */
+    @Test
+    void testSetOffscreenTickInterval_NegativeRefused() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> world.setOffscreenTickInterval(-1));
+    }
+
+    private static Timer timerOn(GameMap map) {
+        return (Timer) map.at(0, 0).getGround();
+    }
+}
@@ -0,0 +1,281 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.GameEntity;
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actions.DoNothingAction;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.attributes.ActorAttributeOperation;
+import edu.monash.fit2099.engine.actors.attributes.BaseAttributes;
+import edu.monash.fit2099.engine.capabilities.Status;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.items.Item;
+import edu.monash.fit2099.engine.snapshots.SnapshotReader;
+import edu.monash.fit2099.engine.snapshots.SnapshotWriter;
+import edu.monash.fit2099.engine.snapshots.Snapshottable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for saving a World to a file and loading it back.
+ */
+class WorldSnapshotTest {
+
+    @TempDir
+    Path folder;
+
+    /**
+     * TEST 1: Normal case - a World that has been played with is saved, and loaded into one built afresh
+     * Expected: grounds, items, actors, attributes, abilities, statuses and their own state all come back
+     */
+    @Test
+    void testLoadSnapshot_RoundTrip() throws Exception {
+        // Arrange
+        Path file = folder.resolve("world.snap");
+        TestWorld saved = new TestWorld();
+        GameMap cave = saved.gameMaps.get(1);
+        Walker player = (Walker) saved.player;
+        Walker guard = new Walker("Guard");
+        cave.addActor(guard, cave.at(1, 2));
+        guard.friend = player;
+        guard.steps = 7;
+        guard.modifyStatsMaximum(BaseAttributes.HEALTH, ActorAttributeOperation.UPDATE, 30);
+        guard.hurt(4);
+        guard.addStatus(new Glowing(3));
+        guard.enableAbility(Skill.CLIMB);
+        saved.moveActor(player, cave.at(0, 0));
+        player.removeItemFromInventory(player.getItemInventory().get(0));
+        player.addItemToInventory(new Lamp(2));
+
+        Lava lava = new Lava();
+        lava.heat = 9;
+        lava.addStatus(new Glowing(1));
+        saved.gameMaps.get(0).at(2, 1).setGround(lava);
+        saved.gameMaps.get(0).at(2, 1).addItem(new Lamp(5));
+        saved.gameMaps.get(0).at(0, 1).getGround().enableAbility(Skill.CLIMB);
+        saved.extra = 42;
+
+        // Act
+        saved.saveSnapshot(file);
+        TestWorld loaded = new TestWorld();
+        Actor loadedPlayer = loaded.player;
+        loaded.loadSnapshot(file);
+
+        // Assert
+        GameMap loadedCave = loaded.gameMaps.get(1);
+        Location lavaTile = loaded.gameMaps.get(0).at(2, 1);
+        assertSame(loadedPlayer, loaded.player);
+        assertSame(loaded.player, loadedCave.getActorAt(0, 0));
+        assertFalse(loaded.gameMaps.get(0).contains(loaded.player));
+        Walker loadedGuard = (Walker) loadedCave.getActorAt(1, 2);
+        assertEquals(7, loadedGuard.steps);
+        assertSame(loaded.player, loadedGuard.friend);
+        assertEquals(26, loadedGuard.getAttribute(BaseAttributes.HEALTH));
+        assertEquals(30, loadedGuard.getMaximumAttribute(BaseAttributes.HEALTH));
+        assertEquals(3, loadedGuard.statusesOf(Glowing.class).get(0).turns);
+        assertTrue(loadedGuard.hasAbility(Skill.CLIMB));
+        assertEquals(1, loaded.player.getItemInventory().size());
+        assertEquals(2, ((Lamp) loaded.player.getItemInventory().get(0)).fuel);
+        assertTrue(loaded.player.hasAbility(Skill.SEE));
+        assertEquals(9, ((Lava) lavaTile.getGround()).heat);
+        assertEquals(1, lavaTile.getGround().statusesOf(Glowing.class).get(0).turns);
+        assertEquals(5, ((Lamp) lavaTile.getItems().get(0)).fuel);
+        assertTrue(loaded.gameMaps.get(0).at(0, 1).getGround().hasAbility(Skill.CLIMB));
+        assertFalse(loaded.gameMaps.get(0).at(1, 1).getGround().hasAbility(Skill.CLIMB));
+        assertEquals(42, loaded.extra);
+    }
+
+    /**
+     * TEST 2: Edge case - a snapshot loaded into a World whose maps are a different size
+     * Expected: an IOException, and the World is left as it was
+     */
+    @Test
+    void testLoadSnapshot_DifferentMapsRejected() throws Exception {
+        // Arrange
+        Path file = folder.resolve("world.snap");
+        new TestWorld().saveSnapshot(file);
+        TestWorld other = new TestWorld();
+        other.gameMaps.set(1, new GameMap("Cave", groundCreator(), '.', 4, 4));
+        Location playerAt = other.actorLocations.locationOf(other.player);
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> other.loadSnapshot(file));
+        assertSame(playerAt, other.actorLocations.locationOf(other.player));
+    }
+
+    /**
+     * TEST 3: Edge case - a snapshot file that was cut short
+     * Expected: an IOException rather than a half-read number
+     */
+    @Test
+    void testLoadSnapshot_TruncatedFileRejected() throws Exception {
+        // Arrange
+        Path file = folder.resolve("world.snap");
+        new TestWorld().saveSnapshot(file);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> new TestWorld().loadSnapshot(file));
+    }
+
+    private static DefaultGroundCreator groundCreator() throws GameEngineException {
+        DefaultGroundCreator groundCreator = new DefaultGroundCreator();
+        groundCreator.registerGround('.', Floor::new);
+        return groundCreator;
+    }
+
+    private enum Skill {
+        CLIMB,
+        SEE
+    }
+
+    /**
+     * Two small maps, with a player holding a lamp, and a number of its own to save.
+     */
+    private static class TestWorld extends World implements Snapshottable {
+        int extra;
+
+        TestWorld() throws GameEngineException {
+            super(mock(Display.class));
+            addGameMap(new GameMap("Field", groundCreator(), '.', 3, 3));
+            addGameMap(new GameMap("Cave", groundCreator(), '.', 2, 3));
+            Walker player = new Walker("Player");
+            player.addItemToInventory(new Lamp(10));
+            addPlayer(player, gameMaps.get(0).at(1, 1));
+            registerSnapshotType(Glowing.class, () -> new Glowing(0));
+        }
+
+        void moveActor(Actor actor, Location to) {
+            actorLocations.move(actor, to);
+        }
+
+        @Override
+        public void writeState(SnapshotWriter out) {
+            out.writeInt(extra);
+        }
+
+        @Override
+        public void readState(SnapshotReader in) {
+            extra = in.readInt();
+        }
+    }
+
+    private static class Floor extends Ground {
+        Floor() {
+            super('.', "Floor");
+        }
+    }
+
+    private static class Lava extends Ground implements Snapshottable {
+        int heat;
+
+        Lava() {
+            super('~', "Lava");
+        }
+
+        @Override
+        public void writeState(SnapshotWriter out) {
+            out.writeInt(heat);
+        }
+
+        @Override
+        public void readState(SnapshotReader in) {
+            heat = in.readInt();
+        }
+    }
+
+    private static class Lamp extends Item implements Snapshottable {
+        int fuel;
+
+        Lamp() {
+            this(0);
+        }
+
+        Lamp(int fuel) {
+            super("Lamp", 'l', true);
+            this.fuel = fuel;
+            enableAbility(Skill.SEE);
+        }
+
+        @Override
+        public void writeState(SnapshotWriter out) {
+            out.writeInt(fuel);
+        }
+
+        @Override
+        public void readState(SnapshotReader in) {
+            fuel = in.readInt();
+        }
+    }
+
+    private static class Glowing implements Status, Snapshottable {
+        int turns;
+
+        Glowing(int turns) {
+            this.turns = turns;
+        }
+
+        @Override
+        public void tickStatus(GameEntity entity, Location location) {
+            turns--;
+        }
+
+        @Override
+        public boolean isStatusActive() {
+            return turns > 0;
+        }
+
+        @Override
+        public void writeState(SnapshotWriter out) {
+            out.writeInt(turns);
+        }
+
+        @Override
+        public void readState(SnapshotReader in) {
+            turns = in.readInt();
+        }
+    }
+
+    /**
+     * An Actor that counts its steps and may have a friend.
+     */
+    private static class Walker extends Actor implements Snapshottable {
+        int steps;
+        Actor friend;
+
+        Walker() {
+            this("Walker");
+        }
+
+        Walker(String name) {
+            super(name, 'w', 20);
+        }
+
+        @Override
+        public Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display) {
+            return new DoNothingAction();
+        }
+
+        @Override
+        public void writeState(SnapshotWriter out) {
+            out.writeInt(steps);
+            out.writeActor(friend);
+        }
+
+        @Override
+        public void readState(SnapshotReader in) {
+            steps = in.readInt();
+            friend = in.readActor();
+        }
+    }
+}
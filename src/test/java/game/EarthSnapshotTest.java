@@ -0,0 +1,80 @@
+package game;
+
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.items.Item;
+import edu.monash.fit2099.engine.positions.GameMap;
+import game.actors.Player;
+import game.actors.animals.Deer;
+import game.api.WeatherService;
+import game.items.Apple;
+import game.items.Bottle;
+import game.items.TeleportCube;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests saving the Earth scenario and loading it into a freshly built one.
+ */
+class EarthSnapshotTest {
+
+    @TempDir
+    Path folder;
+
+    /**
+     * TEST 1: Normal case - the Deer is tamed and the player has drunk from the bottle before saving
+     * Expected: after loading, the Deer is still tamed by the same player, the bottle has the same
+     * sips left, and the teleport cube still knows where it goes
+     */
+    @Test
+    void testLoadSnapshot_KeepsTamingAndInventory() throws Exception {
+        // Arrange
+        Path file = folder.resolve("earth.snap");
+        TestEarth saved = new TestEarth();
+        GameMap forest = saved.map(0);
+        Player player = saved.getPlayer();
+        forest.at(8, 4).addItem(new Apple());
+        ((Deer) forest.getActorAt(4, 1)).attemptTame(player, forest.at(8, 4));
+        inventoryItem(player, Bottle.class).consumeSip();
+
+        // Act
+        saved.saveSnapshot(file);
+        TestEarth loaded = new TestEarth();
+        loaded.loadSnapshot(file);
+
+        // Assert
+        GameMap loadedForest = loaded.map(0);
+        Deer deer = (Deer) loadedForest.getActorAt(4, 1);
+        assertTrue(deer.isTamed());
+        assertSame(loaded.getPlayer(), loadedForest.getActorAt(8, 4));
+        assertEquals(4, inventoryItem(loaded.getPlayer(), Bottle.class).getSips());
+        assertEquals(2, inventoryItem(loaded.getPlayer(), TeleportCube.class).getDestinations().size());
+    }
+
+    private static <T extends Item> T inventoryItem(Player player, Class<T> type) {
+        for (Item item : player.getItemInventory()) {
+            if (type.isInstance(item)) {
+                return type.cast(item);
+            }
+        }
+        throw new AssertionError("No " + type.getSimpleName() + " in the inventory");
+    }
+
+    /**
+     * The Earth scenario, built without the real weather service.
+     */
+    private static class TestEarth extends Earth {
+        TestEarth() throws Exception {
+            super(mock(Display.class), mock(WeatherService.class));
+            constructWorld();
+        }
+
+        GameMap map(int index) {
+            return gameMaps.get(index);
+        }
+    }
+}
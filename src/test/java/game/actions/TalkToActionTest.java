@@ -1,6 +1,7 @@
 package game.actions;
 
 import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.positions.GameMap;
 import game.actors.Player;
 import game.actors.StormSeer;
@@ -46,7 +47,7 @@ class TalkToActionTest {
         when(mockStormSeer.toString()).thenReturn("Storm Seer");
         when(mockActor.toString()).thenReturn("Player");
 
-        TalkToAction action = new TalkToAction(mockStormSeer, mockWeather);
+        TalkToAction action = new TalkToAction(mockStormSeer, mockWeather, mock(Display.class));
 
         // Act
         String result = action.execute(mockActor, mockGameMap);
@@ -68,7 +69,7 @@ class TalkToActionTest {
         when(mockStormSeer.toString()).thenReturn("Storm Seer");
         when(mockActor.toString()).thenReturn("Player");
 
-        TalkToAction action = new TalkToAction(mockStormSeer, mockWeather);
+        TalkToAction action = new TalkToAction(mockStormSeer, mockWeather, mock(Display.class));
 
         // Act
         String result = action.execute(mockActor, mockGameMap);
@@ -89,7 +90,7 @@ class TalkToActionTest {
         when(mockStormSeer.toString()).thenReturn("Storm Seer");
         when(mockStormSeer.getDisplayChar()).thenReturn('§');
 
-        TalkToAction action = new TalkToAction(mockStormSeer, mockWeather);
+        TalkToAction action = new TalkToAction(mockStormSeer, mockWeather, mock(Display.class));
 
         // Act
         String menuText = action.menuDescription(mockActor);
@@ -114,7 +115,7 @@ class TalkToActionTest {
         when(mockStormSeer.toString()).thenReturn("Storm Seer");
         when(mockActor.toString()).thenReturn("Player");
 
-        TalkToAction action = new TalkToAction(mockStormSeer, mockWeather);
+        TalkToAction action = new TalkToAction(mockStormSeer, mockWeather, mock(Display.class));
 
         // Act
         String result = action.execute(mockActor, mockGameMap);
@@ -137,7 +138,7 @@ class TalkToActionTest {
         when(mockStormSeer.toString()).thenReturn("Storm Seer");
         when(mockActor.toString()).thenReturn("Player");
 
-        TalkToAction action = new TalkToAction(mockStormSeer, mockWeather);
+        TalkToAction action = new TalkToAction(mockStormSeer, mockWeather, mock(Display.class));
 
         // Act
         String result = action.execute(mockActor, mockGameMap);
@@ -158,7 +159,7 @@ class TalkToActionTest {
         when(mockStormSeer.toString()).thenReturn("Storm Seer");
         when(mockActor.toString()).thenReturn("Player");
 
-        TalkToAction action = new TalkToAction(mockStormSeer, mockWeather);
+        TalkToAction action = new TalkToAction(mockStormSeer, mockWeather, mock(Display.class));
 
         // Act
         String result = action.execute(mockActor, mockGameMap);
@@ -166,5 +167,23 @@ class TalkToActionTest {
         // Assert
         assertNotNull(result, "Should handle empty monologue gracefully");
     }
-}
 
+    /**
+     * TEST 7: Normal case - Monologue goes to the Display the action was given
+     * Expected: the monologue is printed there
+     */
+    @Test
+    void testExecute_PrintsToGivenDisplay() {
+        // Arrange
+        when(mockStormSeer.getMonologue(mockWeather)).thenReturn("Frost is coming.");
+        Display display = mock(Display.class);
+
+        TalkToAction action = new TalkToAction(mockStormSeer, mockWeather, display);
+
+        // Act
+        action.execute(mockActor, mockGameMap);
+
+        // Assert
+        verify(display).println(contains("Frost is coming."));
+    }
+}
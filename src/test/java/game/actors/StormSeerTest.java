@@ -40,7 +40,7 @@ class StormSeerTest {
     @Test
     void testPlayTurn_ReturnsDoNothingAction() {
         // Arrange
-        StormSeer seer = new StormSeer(mockWeatherController);
+        StormSeer seer = new StormSeer(mockWeatherController, mock(Display.class));
         ActionList actions = new ActionList();
         Action lastAction = new DoNothingAction();
         Display display = new Display();
@@ -60,7 +60,7 @@ class StormSeerTest {
     @Test
     void testAllowableActions_ApiWeather_IncludesTalkAction() {
         // Arrange
-        StormSeer seer = new StormSeer(mockWeatherController);
+        StormSeer seer = new StormSeer(mockWeatherController, mock(Display.class));
         
         // Mock API weather
         ApiWeatherBase mockApiWeather = mock(ApiWeatherBase.class);
@@ -92,7 +92,7 @@ class StormSeerTest {
     @Test
     void testAllowableActions_NonApiWeather_NoTalkAction() {
         // Arrange
-        StormSeer seer = new StormSeer(mockWeatherController);
+        StormSeer seer = new StormSeer(mockWeatherController, mock(Display.class));
         
         // Mock non-API weather
         WeatherEffect mockNonApiWeather = mock(WeatherEffect.class);
@@ -123,7 +123,7 @@ class StormSeerTest {
     @Test
     void testAllowableActions_NullWeather_NoTalkAction() {
         // Arrange
-        StormSeer seer = new StormSeer(mockWeatherController);
+        StormSeer seer = new StormSeer(mockWeatherController, mock(Display.class));
         when(mockWeatherController.getCurrentWeather()).thenReturn(null);
 
         // Act
@@ -150,7 +150,7 @@ class StormSeerTest {
     @Test
     void testGetMonologue_ReturnsNonNullString() {
         // Arrange
-        StormSeer seer = new StormSeer(mockWeatherController);
+        StormSeer seer = new StormSeer(mockWeatherController, mock(Display.class));
         
         // Mock weather with data
         ApiWeatherBase mockWeather = mock(ApiWeatherBase.class);
@@ -172,7 +172,7 @@ class StormSeerTest {
     @Test
     void testStormSeer_HasHighHitpoints() {
         // Arrange & Act
-        StormSeer seer = new StormSeer(mockWeatherController);
+        StormSeer seer = new StormSeer(mockWeatherController, mock(Display.class));
 
         // Assert
         assertTrue(seer.getAttribute(BaseAttributes.HEALTH) > 1000, "StormSeer should have very high HP");
@@ -185,7 +185,7 @@ class StormSeerTest {
     @Test
     void testStormSeer_DisplayProperties() {
         // Arrange & Act
-        StormSeer seer = new StormSeer(mockWeatherController);
+        StormSeer seer = new StormSeer(mockWeatherController, mock(Display.class));
 
         // Assert
         // Actor.toString() returns "Name (HP/MaxHP)" format
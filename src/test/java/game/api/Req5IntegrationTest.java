@@ -2,6 +2,7 @@ package game.api;
 
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.positions.GameMap;
 import game.actions.TalkToAction;
 import game.actors.Player;
@@ -66,7 +67,7 @@ class Req5IntegrationTest {
         WeatherService weatherService = new OwmWeatherService();
         
         // 3. Create StormSeer with weather controller
-        StormSeer stormSeer = new StormSeer(weatherController);
+        StormSeer stormSeer = new StormSeer(weatherController, mock(Display.class));
         
         // 4. Set up API weather in controller
         ApiWeatherBase apiWeather = new ApiRainWeather(12.0, "Light Rain");
@@ -196,7 +197,7 @@ class Req5IntegrationTest {
         mockedConfig.when(Config::getGeminiModelName).thenReturn(null);
         
         DialogueService dialogueService = new GeminiDialogueService();
-        StormSeer stormSeer = new StormSeer(weatherController);
+        StormSeer stormSeer = new StormSeer(weatherController, mock(Display.class));
         
         // ACT: Test extreme temperatures
         ApiWeatherBase coldWeather = new ApiRainWeather(-20.0, "Freezing Rain");
@@ -229,7 +230,7 @@ class Req5IntegrationTest {
     @Test
     void testStormSeerBehaviorConsistency() {
         // ARRANGE
-        StormSeer stormSeer = new StormSeer(weatherController);
+        StormSeer stormSeer = new StormSeer(weatherController, mock(Display.class));
         Player mockPlayer = mock(Player.class);
         GameMap mockMap = mock(GameMap.class);
         
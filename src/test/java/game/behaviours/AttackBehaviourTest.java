@@ -0,0 +1,100 @@
+package game.behaviours;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actions.DoNothingAction;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.positions.DefaultGroundCreator;
+import edu.monash.fit2099.engine.positions.Exit;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.World;
+import game.actions.AttackAction;
+import game.actors.Player;
+import game.grounds.Dirt;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for attacking a Player next to the attacker.
+ */
+class AttackBehaviourTest {
+
+    private GameMap field;
+    private GameMap cave;
+    private Actor wolf;
+    private Player player;
+
+    @BeforeEach
+    void setUp() throws GameEngineException {
+        DefaultGroundCreator groundCreator = new DefaultGroundCreator();
+        groundCreator.registerGround('.', Dirt::new);
+        field = new GameMap("Field", groundCreator, '.', 5, 5);
+        cave = new GameMap("Cave", groundCreator, '.', 5, 5);
+        World world = new World(mock(Display.class)) { };
+        world.addGameMap(field);
+        world.addGameMap(cave);
+        wolf = new Actor("Wolf", 'w', 10) {
+            @Override
+            public Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display) {
+                return new DoNothingAction();
+            }
+        };
+        field.addActor(wolf, field.at(0, 0));
+        player = new Player();
+    }
+
+    /**
+     * TEST 1: Normal case - the player stands on the next tile of the same map
+     * Expected: an attack on the player
+     */
+    @Test
+    void testGenerateAction_PlayerNextToAttacker() throws GameEngineException {
+        // Arrange
+        field.addActor(player, field.at(1, 1));
+
+        // Act
+        Action action = new AttackBehaviour(10, 50, "bites").generateAction(wolf, field);
+
+        // Assert
+        assertInstanceOf(AttackAction.class, action);
+    }
+
+    /**
+     * TEST 2: Edge case - the player is on another map, through a door added to the attacker's tile
+     * Expected: the door counts as next to the attacker, so the player is attacked through it
+     */
+    @Test
+    void testGenerateAction_PlayerThroughAddedExit() throws GameEngineException {
+        // Arrange
+        cave.addActor(player, cave.at(2, 2));
+        field.at(0, 0).addExit(new Exit("to the Cave", cave.at(2, 2), "1"));
+
+        // Act
+        Action action = new AttackBehaviour(10, 50, "bites").generateAction(wolf, field);
+
+        // Assert
+        assertInstanceOf(AttackAction.class, action);
+        assertTrue(action.menuDescription(wolf).contains("to the Cave"));
+    }
+
+    /**
+     * TEST 3: Edge case - the player is on the same map but two tiles away
+     * Expected: no attack
+     */
+    @Test
+    void testGenerateAction_PlayerOutOfReach() throws GameEngineException {
+        // Arrange
+        field.addActor(player, field.at(2, 0));
+
+        // Act
+        Action action = new AttackBehaviour(10, 50, "bites").generateAction(wolf, field);
+
+        // Assert
+        assertNull(action);
+    }
+}
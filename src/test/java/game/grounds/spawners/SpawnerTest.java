@@ -0,0 +1,90 @@
+package game.grounds.spawners;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.positions.DefaultGroundCreator;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.World;
+import game.GameRandom;
+import game.actors.Player;
+import game.actors.animals.Deer;
+import game.actors.animals.Wolf;
+import game.traits.RollsDice;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for spawning animals onto the map.
+ */
+class SpawnerTest {
+
+    private static final int WIDTH = 12;
+    private static final int HEIGHT = 40;
+
+    @AfterEach
+    void tearDown() {
+        Spawner.setPlayer(null);
+    }
+
+    /**
+     * TEST 1: Normal case - a field of meadows is ticked from the same seed on one thread and on four
+     * Expected: the same animals spawn in the same places, and each rolls the same dice
+     */
+    @Test
+    void testTick_SameSpawnsWhateverTheThreads() throws GameEngineException {
+        // Act
+        String oneThread = spawnInParallel(1);
+        String fourThreads = spawnInParallel(4);
+
+        // Assert
+        assertEquals(oneThread, fourThreads);
+        assertTrue(oneThread.contains("Deer"));
+        assertTrue(oneThread.contains("Wolf"));
+    }
+
+    /**
+     * Tick a field of meadows for long enough to spawn twice, and describe every animal on it
+     * with the first number it rolls.
+     */
+    private static String spawnInParallel(int threads) throws GameEngineException {
+        GameRandom.seed(2099);
+        DefaultGroundCreator groundCreator = new DefaultGroundCreator();
+        groundCreator.registerGround('w', () -> {
+            Meadow meadow = new Meadow();
+            meadow.addSpawn(new Deer());
+            meadow.addSpawn(new Wolf());
+            return meadow;
+        });
+        GameMap field = new GameMap("Field", groundCreator, 'w', WIDTH, HEIGHT);
+        World world = new World(mock(Display.class)) { };
+        world.addGameMap(field);
+        Player player = new Player();
+        world.addPlayer(player, field.at(0, 0));
+        Spawner.setPlayer(player);
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        field.setTickPool(pool);
+        for (int turn = 0; turn < 15; turn++) {
+            field.tick();
+        }
+        pool.shutdown();
+
+        StringBuilder animals = new StringBuilder();
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                Actor actor = field.getActorAt(x, y);
+                if (actor != null && actor != player) {
+                    animals.append(x).append(',').append(y).append(' ').append(actor)
+                            .append(' ').append(((RollsDice) actor).random().nextLong()).append('\n');
+                }
+            }
+        }
+        return animals.toString();
+    }
+}
@@ -0,0 +1,72 @@
+package game.simulation;
+
+import edu.monash.fit2099.engine.actions.DoNothingAction;
+import edu.monash.fit2099.engine.displays.Display;
+import game.Earth;
+import game.GameRandom;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests running the Earth scenario headless, with World.runTurns and seeded weather.
+ */
+class HeadlessRunTest {
+
+    /**
+     * TEST 1: Normal case - two headless runs of up to 40 turns from the same seed
+     * Expected: both last the same number of turns and print exactly the same game log
+     */
+    @Test
+    void testRunTurns_SameSeedSameGame() throws Exception {
+        // Act
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        int firstTurns = play(77L, 40, first);
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+        int secondTurns = play(77L, 40, second);
+
+        // Assert
+        assertTrue(firstTurns > 0);
+        assertEquals(firstTurns, secondTurns);
+        assertFalse(first.toString(StandardCharsets.UTF_8).isEmpty());
+        assertEquals(first.toString(StandardCharsets.UTF_8), second.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * TEST 2: Edge case - the Explorer leaves the map on its first turn
+     * Expected: runTurns stops after that turn, however many were asked for
+     */
+    @Test
+    void testRunTurns_StopsWhenPlayerGone() throws Exception {
+        // Arrange
+        GameRandom.seed(5L);
+        Earth earth = new Earth(new Display(new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8)),
+                new SeededWeatherService(5L));
+        earth.constructWorld();
+        earth.getPlayer().setActionPolicy((actor, actions, map) -> {
+            map.removeActor(actor);
+            return new DoNothingAction();
+        });
+
+        // Act
+        int played = earth.runTurns(100);
+
+        // Assert
+        assertEquals(1, played);
+    }
+
+    private static int play(long seed, int turns, ByteArrayOutputStream log) throws Exception {
+        GameRandom.seed(seed);
+        Display display = new Display(new PrintStream(log, true, StandardCharsets.UTF_8));
+        Earth earth = new Earth(display, new SeededWeatherService(seed));
+        earth.constructWorld();
+        earth.getPlayer().setActionPolicy(HeadlessRunner.createPolicy("survival", seed));
+        int played = earth.runTurns(turns);
+        display.flush();
+        return played;
+    }
+}
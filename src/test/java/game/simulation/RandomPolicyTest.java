@@ -0,0 +1,62 @@
+package game.simulation;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actions.DoNothingAction;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for choosing actions at random.
+ */
+class RandomPolicyTest {
+
+    /**
+     * TEST 1: Normal case - two policies with the same seed choose 50 times from the same list
+     * Expected: they make the same choices, each one from the list, and not always the same one
+     */
+    @Test
+    void testSelectAction_SameSeedSameChoices() {
+        // Arrange
+        ActionList actions = new ActionList();
+        for (int i = 0; i < 5; i++) {
+            actions.add(new DoNothingAction());
+        }
+        RandomPolicy first = new RandomPolicy(42L);
+        RandomPolicy second = new RandomPolicy(42L);
+        List<Action> firstChoices = new ArrayList<>();
+        List<Action> secondChoices = new ArrayList<>();
+
+        // Act
+        for (int turn = 0; turn < 50; turn++) {
+            firstChoices.add(first.selectAction(null, actions, null));
+            secondChoices.add(second.selectAction(null, actions, null));
+        }
+
+        // Assert
+        assertEquals(firstChoices, secondChoices);
+        assertTrue(actions.getUnmodifiableActionList().containsAll(firstChoices));
+        assertTrue(firstChoices.stream().distinct().count() > 1);
+    }
+
+    /**
+     * TEST 2: Edge case - only one action allowed
+     * Expected: that action is chosen
+     */
+    @Test
+    void testSelectAction_OnlyChoice() {
+        // Arrange
+        Action only = new DoNothingAction();
+        ActionList actions = new ActionList(only);
+
+        // Act
+        Action chosen = new RandomPolicy(7L).selectAction(null, actions, null);
+
+        // Assert
+        assertSame(only, chosen);
+    }
+}
@@ -0,0 +1,129 @@
+package game.simulation;
+
+import edu.monash.fit2099.engine.displays.Display;
+import game.Earth;
+import game.GameRandom;
+import game.api.WeatherService;
+import game.weather.ApiClearWeather;
+import game.weather.ApiRainWeather;
+import game.weather.WeatherEffect;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests recording a session in a journal and playing it back.
+ */
+class ReplayJournalTest {
+
+    @TempDir
+    Path folder;
+
+    /**
+     * TEST 1: Normal case - a bot plays up to 150 turns while the weather changes, and the session is recorded
+     * Expected: replaying the journal prints exactly the same game log
+     */
+    @Test
+    void testReplay_SameOutputAsRecording() throws Exception {
+        // Arrange
+        Path file = folder.resolve("session.journal");
+        ByteArrayOutputStream recorded = new ByteArrayOutputStream();
+        int recordedTurns;
+        try (JournalWriter journal = JournalWriter.create(file, 1234L)) {
+            GameRandom.seed(1234L);
+            Display display = new Display(new PrintStream(recorded, true, StandardCharsets.UTF_8));
+            Earth earth = new Earth(display, new RecordingWeatherService(changingWeather(), journal));
+            earth.constructWorld();
+            earth.getPlayer().setActionPolicy(new RecordingPolicy(new SurvivalPolicy(99L), journal));
+            recordedTurns = earth.runTurns(150);
+            display.flush();
+        }
+
+        // Act
+        ByteArrayOutputStream replayed = new ByteArrayOutputStream();
+        int played;
+        try (JournalReader journal = JournalReader.open(file)) {
+            Display display = new Display(new PrintStream(replayed, true, StandardCharsets.UTF_8));
+            played = ReplayRunner.replay(journal, display);
+            display.flush();
+        }
+
+        // Assert
+        assertTrue(recordedTurns > 10, "played " + recordedTurns);
+        assertEquals(recordedTurns, played);
+        assertEquals(recorded.toString(StandardCharsets.UTF_8), replayed.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * TEST 2: Edge case - readings that repeat, go missing, and choices that were not in the list
+     * Expected: everything reads back as written, with repeated weather kept to one byte
+     */
+    @Test
+    void testJournal_RoundTrip() throws Exception {
+        // Arrange
+        Path file = folder.resolve("small.journal");
+        try (JournalWriter journal = JournalWriter.create(file, -5L)) {
+            journal.recordWeather(new ApiRainWeather(3.5, "light rain"));
+            journal.recordChoice(200);
+            journal.recordWeather(new ApiRainWeather(3.5, "light rain"));
+            journal.recordChoice(-1);
+            journal.recordWeather(null);
+        }
+
+        // Act
+        try (JournalReader journal = JournalReader.open(file)) {
+            // Assert
+            assertEquals(-5L, journal.seed());
+            ApiRainWeather first = (ApiRainWeather) journal.nextWeather();
+            assertEquals(3.5, first.getTemperature());
+            assertEquals("light rain", first.getDescription());
+            assertEquals(200, journal.nextChoice());
+            assertSame(first, journal.nextWeather());
+            assertEquals(-1, journal.nextChoice());
+            assertNull(journal.nextWeather());
+            assertFalse(journal.hasNext());
+        }
+    }
+
+    /**
+     * TEST 3: Edge case - the game asks for a choice where the journal has a weather reading
+     * Expected: an IOException saying the replay is out of step
+     */
+    @Test
+    void testJournal_OutOfStepRejected() throws Exception {
+        // Arrange
+        Path file = folder.resolve("step.journal");
+        try (JournalWriter journal = JournalWriter.create(file, 0L)) {
+            journal.recordWeather(null);
+        }
+
+        // Act & Assert
+        try (JournalReader journal = JournalReader.open(file)) {
+            IOException e = assertThrows(IOException.class, journal::nextChoice);
+            assertTrue(e.getMessage().contains("out of step"));
+        }
+    }
+
+    /** Mild rain for a few turns, then clear skies, then no reading at all, over and over. */
+    private static WeatherService changingWeather() {
+        return new WeatherService() {
+            private int turn;
+
+            @Override
+            public WeatherEffect getCurrentWeather() {
+                int phase = turn++ / 5 % 3;
+                if (phase == 0) {
+                    return new ApiRainWeather(18.0, "light rain");
+                }
+                return phase == 1 ? new ApiClearWeather(22.0, "clear sky") : null;
+            }
+        };
+    }
+}
@@ -0,0 +1,79 @@
+package game.simulation;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actions.DoNothingAction;
+import edu.monash.fit2099.engine.actions.MoveActorAction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for playing back a script of choices.
+ */
+class ScriptedPolicyTest {
+
+    @TempDir
+    Path folder;
+
+    private ActionList actions;
+    private Action north;
+    private Action east;
+    private Action wait;
+
+    @BeforeEach
+    void setUp() {
+        north = new MoveActorAction(null, "north", "8");
+        east = new MoveActorAction(null, "east", "6");
+        wait = new DoNothingAction();
+        actions = new ActionList();
+        actions.add(north);
+        actions.add(east);
+        actions.add(wait);
+    }
+
+    /**
+     * TEST 1: Normal case - a script file with comments, blank lines, hotkeys and indexes
+     * Expected: the comments and blank lines are skipped, and each step picks its action in turn
+     */
+    @Test
+    void testFromFile_SkipsCommentsAndBlankLines() throws Exception {
+        // Arrange
+        Path script = folder.resolve("walk.txt");
+        Files.write(script, List.of("# walk east, then north", "", "  6  ", "8", "@2", "@-1"));
+
+        // Act
+        ScriptedPolicy policy = ScriptedPolicy.fromFile(script);
+
+        // Assert
+        assertSame(east, policy.selectAction(null, actions, null));
+        assertSame(north, policy.selectAction(null, actions, null));
+        assertSame(wait, policy.selectAction(null, actions, null));
+        assertSame(wait, policy.selectAction(null, actions, null), "indexes wrap around the list");
+    }
+
+    /**
+     * TEST 2: Edge case - a hotkey that is not on offer this turn, then a script that has run out
+     * Expected: the player does nothing both times, and the unavailable step is not retried
+     */
+    @Test
+    void testSelectAction_UnavailableStepAndEndOfScript() {
+        // Arrange
+        ScriptedPolicy policy = new ScriptedPolicy(List.of("2"));
+
+        // Act
+        Action unavailable = policy.selectAction(null, actions, null);
+        Action afterEnd = policy.selectAction(null, actions, null);
+
+        // Assert
+        assertInstanceOf(DoNothingAction.class, unavailable);
+        assertNotSame(wait, unavailable);
+        assertInstanceOf(DoNothingAction.class, afterEnd);
+    }
+}
@@ -0,0 +1,123 @@
+package game.simulation;
+
+import edu.monash.fit2099.engine.GameEngineException;
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actions.DoNothingAction;
+import edu.monash.fit2099.engine.actions.MoveActorAction;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.items.DropAction;
+import edu.monash.fit2099.engine.items.PickUpAction;
+import edu.monash.fit2099.engine.positions.DefaultGroundCreator;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Ground;
+import edu.monash.fit2099.engine.positions.World;
+import game.actions.SleepAction;
+import game.actors.Player;
+import game.items.Bedroll;
+import game.items.Bottle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the bot that tries to keep the Explorer alive.
+ */
+class SurvivalPolicyTest {
+
+    private GameMap map;
+    private Player player;
+    private SurvivalPolicy policy;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DefaultGroundCreator groundCreator = new DefaultGroundCreator();
+        groundCreator.registerGround('.', () -> new Ground('.', "Snow") { });
+        map = new GameMap("Tundra", groundCreator, '.', 5, 5);
+        World world = new World(mock(Display.class)) { };
+        world.addGameMap(map);
+        player = new Player();
+        world.addPlayer(player, map.at(2, 2));
+        policy = new SurvivalPolicy(1L);
+    }
+
+    /**
+     * TEST 1: Normal case - a cold Explorer who can sleep or pick up a bottle
+     * Expected: it sleeps
+     */
+    @Test
+    void testSelectAction_SleepsWhenCold() {
+        // Arrange
+        player.increaseWarmth(-25);
+        Action sleep = new SleepAction(5);
+        ActionList actions = new ActionList(new PickUpAction(new Bottle()));
+        actions.add(sleep);
+
+        // Act
+        Action chosen = policy.selectAction(player, actions, map);
+
+        // Assert
+        assertSame(sleep, chosen);
+    }
+
+    /**
+     * TEST 2: Normal case - a cold Explorer still carrying its bedroll
+     * Expected: it drops the bedroll, since it can only sleep on one that is on the ground
+     */
+    @Test
+    void testSelectAction_DropsBedrollToSleep() {
+        // Arrange
+        player.increaseWarmth(-25);
+        Action drop = new DropAction(new Bedroll());
+        ActionList actions = new ActionList(new DropAction(new Bottle()));
+        actions.add(drop);
+
+        // Act
+        Action chosen = policy.selectAction(player, actions, map);
+
+        // Assert
+        assertSame(drop, chosen);
+    }
+
+    /**
+     * TEST 3: Normal case - a warm Explorer standing on its bedroll and a bottle
+     * Expected: it picks up the bottle and leaves the bedroll
+     */
+    @Test
+    void testSelectAction_PicksUpAnythingButBedroll() {
+        // Arrange
+        Action takeBottle = new PickUpAction(new Bottle());
+        ActionList actions = new ActionList(new PickUpAction(new Bedroll()));
+        actions.add(takeBottle);
+
+        // Act
+        Action chosen = policy.selectAction(player, actions, map);
+
+        // Assert
+        assertSame(takeBottle, chosen);
+    }
+
+    /**
+     * TEST 4: Edge case - another Actor two tiles east, and the choice of stepping east or west
+     * Expected: it steps west, away from the other Actor; with no moves at all, it does nothing
+     */
+    @Test
+    void testSelectAction_StepsAwayFromOthers() throws GameEngineException {
+        // Arrange
+        map.addActor(new Player(), map.at(4, 2));
+        Action east = new MoveActorAction(map.at(3, 2), "east", "6");
+        Action west = new MoveActorAction(map.at(1, 2), "west", "4");
+        ActionList actions = new ActionList(east);
+        actions.add(west);
+
+        // Act
+        Action chosen = policy.selectAction(player, actions, map);
+        Action stuck = policy.selectAction(player, new ActionList(), map);
+
+        // Assert
+        assertSame(west, chosen);
+        assertInstanceOf(DoNothingAction.class, stuck);
+    }
+}